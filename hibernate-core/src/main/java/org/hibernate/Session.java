@@ -7,12 +7,14 @@
 package org.hibernate;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.CriteriaUpdate;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.query.Query;
 import org.hibernate.stat.SessionStatistics;
@@ -700,6 +702,32 @@ public interface Session extends SharedSessionContract, EntityManager {
 	 */
 	<T> T get(Class<T> entityType, Object id);
 
+	/**
+	 * Asynchronously return the persistent instance of the given entity class with the
+	 * given identifier, as per {@link #find(Class, Object)}.
+	 * <p>
+	 * The operation is executed using the executor configured via
+	 * {@value org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR}, serialised with any
+	 * other asynchronous operation submitted against this session.  It does not take part
+	 * in a JTA transaction of the calling thread.
+	 * <p>
+	 * By default, {@link #find(Class, Object)} is submitted through
+	 * {@link SharedSessionContractImplementor#executeAsync} of the session this one unwraps to.
+	 *
+	 * @param entityType The entity type
+	 * @param id an identifier
+	 *
+	 * @return a stage completed with the persistent instance or null
+	 *
+	 * @see org.hibernate.query.Query#getResultListAsync()
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	default <T> CompletionStage<T> findAsync(Class<T> entityType, Object id) {
+		return unwrap( SharedSessionContractImplementor.class ).executeAsync( () -> find( entityType, id ) );
+	}
+
 	/**
 	 * Return the persistent instance of the given entity class with the given identifier,
 	 * or null if there is no such persistent instance. If the instance is already associated
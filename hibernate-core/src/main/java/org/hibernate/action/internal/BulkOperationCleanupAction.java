@@ -42,6 +42,11 @@ import org.hibernate.sql.ast.tree.insert.InsertStatement;
  * really not needed as we'd have no invalid entity/collection data to
  * cleanup (we'd still nee to invalidate the appropriate update-timestamps
  * regions) as a result of this query.
+ * <p/>
+ * Since the rows affected by a bulk operation are not known, the whole of each
+ * affected table space is invalidated, even when
+ * {@linkplain org.hibernate.cfg.AvailableSettings#QUERY_CACHE_PARTITION_COLUMNS query cache partitioning}
+ * is used; see {@link org.hibernate.cache.spi.QuerySpacesHelper}.
  *
  * @author Steve Ebersole
  */
@@ -0,0 +1,329 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.archive.scan.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Version;
+import org.hibernate.boot.archive.internal.ByteArrayInputStreamAccess;
+import org.hibernate.boot.archive.internal.UrlInputStreamAccess;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanParameters;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link Scanner} which stores the results of another Scanner in a local file and
+ * reuses them on later boots, as long as the scanned archives and the scan
+ * configuration are unchanged.
+ * <p/>
+ * The cache is keyed by a digest of the scan environment, the scan options and a
+ * fingerprint (size and modification time) of every file making up the scanned
+ * archives.  Any change to those produces a new key, and the next scan replaces the
+ * stored results.  Archives which cannot be fingerprinted (anything not backed by
+ * the local file system) disable the cache.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#SCANNER_CACHE_FILE
+ */
+public class CachingScanner implements Scanner {
+	private static final Logger log = Logger.getLogger( CachingScanner.class );
+
+	private static final int FORMAT_VERSION = 1;
+
+	private final Scanner delegate;
+	private final Path cacheFile;
+	private final ClassLoaderService classLoaderService;
+
+	public CachingScanner(Scanner delegate, Path cacheFile, ClassLoaderService classLoaderService) {
+		this.delegate = delegate;
+		this.cacheFile = cacheFile;
+		this.classLoaderService = classLoaderService;
+	}
+
+	@Override
+	public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanParameters params) {
+		final String key = computeKey( environment, options );
+		if ( key == null ) {
+			log.debugf( "Scanned archives cannot be fingerprinted, skipping scan cache [%s]", cacheFile );
+			return delegate.scan( environment, options, params );
+		}
+
+		final ScanResult cached = readCache( key );
+		if ( cached != null ) {
+			log.debugf( "Using cached scan results from [%s]", cacheFile );
+			return cached;
+		}
+
+		final ScanResult scanResult = delegate.scan( environment, options, params );
+		writeCache( key, scanResult );
+		return scanResult;
+	}
+
+	private String computeKey(ScanEnvironment environment, ScanOptions options) {
+		try {
+			final MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+			update( digest, Version.getVersionString() );
+			update( digest, delegate.getClass().getName() );
+			update( digest, String.valueOf( options.canDetectUnlistedClassesInRoot() ) );
+			update( digest, String.valueOf( options.canDetectUnlistedClassesInNonRoot() ) );
+			update( digest, String.valueOf( options.canDetectHibernateMappingFiles() ) );
+			if ( environment.getExplicitlyListedClassNames() != null ) {
+				for ( String name : environment.getExplicitlyListedClassNames() ) {
+					update( digest, name );
+				}
+			}
+			if ( environment.getExplicitlyListedMappingFiles() != null ) {
+				for ( String name : environment.getExplicitlyListedMappingFiles() ) {
+					update( digest, name );
+				}
+			}
+
+			final List<URL> urls = new ArrayList<>();
+			if ( environment.getRootUrl() != null ) {
+				urls.add( environment.getRootUrl() );
+			}
+			if ( environment.getNonRootUrls() != null ) {
+				urls.addAll( environment.getNonRootUrls() );
+			}
+			for ( URL url : urls ) {
+				final Path path = toPath( url );
+				if ( path == null ) {
+					return null;
+				}
+				update( digest, url.toExternalForm() );
+				fingerprint( digest, path );
+			}
+
+			final StringBuilder key = new StringBuilder();
+			for ( byte b : digest.digest() ) {
+				key.append( String.format( "%02x", b ) );
+			}
+			return key.toString();
+		}
+		catch (NoSuchAlgorithmException | IOException | HibernateException e) {
+			log.debugf( e, "Unable to compute scan cache key" );
+			return null;
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update( value.getBytes( StandardCharsets.UTF_8 ) );
+		digest.update( (byte) 0 );
+	}
+
+	private static void fingerprint(MessageDigest digest, Path path) throws IOException {
+		if ( !Files.exists( path ) ) {
+			update( digest, "<missing>" );
+		}
+		else if ( Files.isDirectory( path ) ) {
+			try ( Stream<Path> files = Files.walk( path ) ) {
+				final List<String> entries = new ArrayList<>();
+				files.filter( Files::isRegularFile ).forEach(
+						file -> entries.add( path.relativize( file ) + ":" + fileFingerprint( file ) )
+				);
+				entries.sort( null );
+				for ( String entry : entries ) {
+					update( digest, entry );
+				}
+			}
+		}
+		else {
+			update( digest, fileFingerprint( path ) );
+		}
+	}
+
+	private static String fileFingerprint(Path file) {
+		try {
+			final BasicFileAttributes attributes = Files.readAttributes( file, BasicFileAttributes.class );
+			return attributes.size() + "@" + attributes.lastModifiedTime().toMillis();
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Unable to read attributes of " + file, e );
+		}
+	}
+
+	private static Path toPath(URL url) {
+		String externalForm = url.toExternalForm();
+		if ( externalForm.startsWith( "jar:" ) ) {
+			final int separator = externalForm.indexOf( "!/" );
+			externalForm = externalForm.substring( 4, separator < 0 ? externalForm.length() : separator );
+		}
+		if ( !externalForm.startsWith( "file:" ) ) {
+			return null;
+		}
+		try {
+			return Paths.get( new URL( externalForm ).toURI() );
+		}
+		catch (IOException | URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private ScanResult readCache(String key) {
+		if ( !Files.isRegularFile( cacheFile ) ) {
+			return null;
+		}
+		try ( DataInputStream in = new DataInputStream( new BufferedInputStream( Files.newInputStream( cacheFile ) ) ) ) {
+			if ( in.readInt() != FORMAT_VERSION || !key.equals( in.readUTF() ) ) {
+				log.debugf( "Scan cache [%s] is stale", cacheFile );
+				return null;
+			}
+
+			final Set<PackageDescriptor> packages = new HashSet<>();
+			for ( int i = in.readInt(); i > 0; i-- ) {
+				final String name = in.readUTF();
+				packages.add(
+						new PackageDescriptorImpl(
+								name,
+								new ResourceInputStreamAccess( name.replace( '.', '/' ) + "/package-info.class" )
+						)
+				);
+			}
+
+			final Set<ClassDescriptor> classes = new HashSet<>();
+			final ClassDescriptor.Categorization[] categorizations = ClassDescriptor.Categorization.values();
+			for ( int i = in.readInt(); i > 0; i-- ) {
+				final String name = in.readUTF();
+				classes.add(
+						new ClassDescriptorImpl(
+								name,
+								categorizations[ in.readInt() ],
+								new ResourceInputStreamAccess( name.replace( '.', '/' ) + ".class" )
+						)
+				);
+			}
+
+			final Set<MappingFileDescriptor> mappingFiles = new HashSet<>();
+			for ( int i = in.readInt(); i > 0; i-- ) {
+				final String name = in.readUTF();
+				final byte[] content = new byte[ in.readInt() ];
+				in.readFully( content );
+				mappingFiles.add( new MappingFileDescriptorImpl( name, new ByteArrayInputStreamAccess( name, content ) ) );
+			}
+
+			return new ScanResultImpl( packages, classes, mappingFiles );
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to read scan cache [%s]", cacheFile );
+			return null;
+		}
+	}
+
+	private void writeCache(String key, ScanResult scanResult) {
+		try {
+			final Path parent = cacheFile.toAbsolutePath().getParent();
+			if ( parent != null ) {
+				Files.createDirectories( parent );
+			}
+			final Path tempFile = Files.createTempFile( parent, "hibernate-scan", ".tmp" );
+			try {
+				try ( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( tempFile ) ) ) ) {
+					out.writeInt( FORMAT_VERSION );
+					out.writeUTF( key );
+
+					out.writeInt( scanResult.getLocatedPackages().size() );
+					for ( PackageDescriptor packageDescriptor : scanResult.getLocatedPackages() ) {
+						out.writeUTF( packageDescriptor.getName() );
+					}
+
+					out.writeInt( scanResult.getLocatedClasses().size() );
+					for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
+						out.writeUTF( classDescriptor.getName() );
+						out.writeInt( classDescriptor.getCategorization().ordinal() );
+					}
+
+					out.writeInt( scanResult.getLocatedMappingFiles().size() );
+					for ( MappingFileDescriptor mappingFileDescriptor : scanResult.getLocatedMappingFiles() ) {
+						final byte[] content = readFully( mappingFileDescriptor.getStreamAccess() );
+						out.writeUTF( mappingFileDescriptor.getName() );
+						out.writeInt( content.length );
+						out.write( content );
+					}
+				}
+				moveIntoPlace( tempFile );
+			}
+			finally {
+				Files.deleteIfExists( tempFile );
+			}
+			log.debugf( "Stored scan results in [%s]", cacheFile );
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to write scan cache [%s]", cacheFile );
+		}
+	}
+
+	private void moveIntoPlace(Path tempFile) throws IOException {
+		try {
+			Files.move( tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+		}
+		catch (AtomicMoveNotSupportedException e) {
+			Files.move( tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING );
+		}
+	}
+
+	private static byte[] readFully(InputStreamAccess streamAccess) throws IOException {
+		try ( InputStream in = streamAccess.accessInputStream() ) {
+			return in.readAllBytes();
+		}
+	}
+
+	/**
+	 * Access to a class file (or package-info) restored from the cache, located
+	 * through the ClassLoaderService when first needed.
+	 */
+	private class ResourceInputStreamAccess implements InputStreamAccess {
+		private final String resourceName;
+
+		private ResourceInputStreamAccess(String resourceName) {
+			this.resourceName = resourceName;
+		}
+
+		@Override
+		public String getStreamName() {
+			return resourceName;
+		}
+
+		@Override
+		public InputStream accessInputStream() {
+			final URL url = classLoaderService.locateResource( resourceName );
+			if ( url == null ) {
+				throw new HibernateException( "Could not locate resource : " + resourceName );
+			}
+			return new UrlInputStreamAccess( url ).accessInputStream();
+		}
+	}
+}
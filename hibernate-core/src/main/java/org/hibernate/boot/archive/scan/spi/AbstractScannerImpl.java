@@ -35,17 +35,19 @@ public abstract class AbstractScannerImpl implements Scanner {
 		final ScanResultCollector collector = new ScanResultCollector( environment, options, parameters );
 
 		if ( environment.getNonRootUrls() != null ) {
-			final ArchiveContext context = new ArchiveContextImpl( false, collector );
 			for ( URL url : environment.getNonRootUrls() ) {
+				final ArchiveContextImpl context = new ArchiveContextImpl( false, collector, true );
 				final ArchiveDescriptor descriptor = buildArchiveDescriptor( url, environment, false );
 				descriptor.visitArchive( context );
+				context.complete();
 			}
 		}
 
 		if ( environment.getRootUrl() != null ) {
-			final ArchiveContext context = new ArchiveContextImpl( true, collector );
+			final ArchiveContextImpl context = new ArchiveContextImpl( true, collector, true );
 			final ArchiveDescriptor descriptor = buildArchiveDescriptor( environment.getRootUrl(), environment, true );
 			descriptor.visitArchive( context );
+			context.complete();
 		}
 
 		return collector.toScanResult();
@@ -114,9 +116,17 @@ public abstract class AbstractScannerImpl implements Scanner {
 		private final ArchiveEntryHandler fileEntryHandler;
 
 		public ArchiveContextImpl(boolean isRootUrl, ScanResultCollector scanResultCollector) {
+			this( isRootUrl, scanResultCollector, false );
+		}
+
+		/**
+		 * @param deferClassHandling Whether class entries are only categorized by {@link #complete()},
+		 * in parallel, rather than as they are visited
+		 */
+		public ArchiveContextImpl(boolean isRootUrl, ScanResultCollector scanResultCollector, boolean deferClassHandling) {
 			this.isRootUrl = isRootUrl;
 
-			this.classEntryHandler = new ClassFileArchiveEntryHandler( scanResultCollector );
+			this.classEntryHandler = new ClassFileArchiveEntryHandler( scanResultCollector, deferClassHandling );
 			this.packageEntryHandler = new PackageInfoArchiveEntryHandler( scanResultCollector );
 			this.fileEntryHandler = new NonClassFileArchiveEntryHandler( scanResultCollector );
 		}
@@ -126,11 +136,23 @@ public abstract class AbstractScannerImpl implements Scanner {
 			return isRootUrl;
 		}
 
+		/**
+		 * Finish handling the entries of the visited archive.  Must be called once the
+		 * archive has been visited when class handling is deferred.
+		 */
+		public void complete() {
+			classEntryHandler.complete();
+		}
+
 		@Override
 		public ArchiveEntryHandler obtainArchiveEntryHandler(ArchiveEntry entry) {
 			final String nameWithinArchive = entry.getNameWithinArchive();
 
-			if ( nameWithinArchive.endsWith( "package-info.class" ) ) {
+			if ( nameWithinArchive.endsWith( ClassFileArchiveEntryHandler.INDEX_ENTRY_NAME ) ) {
+				classEntryHandler.applyPrebuiltIndex( entry );
+				return fileEntryHandler;
+			}
+			else if ( nameWithinArchive.endsWith( "package-info.class" ) ) {
 				return packageEntryHandler;
 			}
 			else if ( nameWithinArchive.endsWith( "module-info.class" ) ) {
@@ -8,6 +8,9 @@ package org.hibernate.boot.archive.scan.spi;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 import jakarta.persistence.Converter;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.Entity;
@@ -23,14 +26,27 @@ import org.hibernate.boot.archive.spi.ArchiveException;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
 import org.jboss.jandex.Indexer;
+import org.jboss.logging.Logger;
 
 /**
  * Defines handling and filtering for class file entries within an archive
+ * <p/>
+ * Classes found in a prebuilt Jandex index shipped by the archive (see
+ * {@link #INDEX_ENTRY_NAME}) are categorized from that index, all others are
+ * indexed individually.  When deferred, entries are only collected while the
+ * archive is visited, and are categorized in parallel by {@link #complete()}.
  *
  * @author Steve Ebersole
  */
 public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
+	private static final Logger log = Logger.getLogger( ClassFileArchiveEntryHandler.class );
+
+	/**
+	 * The name of the prebuilt Jandex index within an archive
+	 */
+	public static final String INDEX_ENTRY_NAME = "META-INF/jandex.idx";
 
 	private final static DotName CONVERTER = DotName.createSimple( Converter.class.getName() );
 
@@ -41,13 +57,28 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 	};
 
 	private final ScanResultCollector resultCollector;
+	private final boolean deferred;
+
+	private final List<ArchiveEntry> pendingEntries = new ArrayList<>();
+	private boolean rootUrl;
+	private Index prebuiltIndex;
 
 	public ClassFileArchiveEntryHandler(ScanResultCollector resultCollector) {
+		this( resultCollector, false );
+	}
+
+	public ClassFileArchiveEntryHandler(ScanResultCollector resultCollector, boolean deferred) {
 		this.resultCollector = resultCollector;
+		this.deferred = deferred;
 	}
 
 	@Override
 	public void handleEntry(ArchiveEntry entry, ArchiveContext context) {
+		if ( deferred ) {
+			rootUrl = context.isRootUrl();
+			pendingEntries.add( entry );
+			return;
+		}
 
 		final ClassDescriptor classDescriptor = toClassDescriptor( entry );
 
@@ -58,38 +89,86 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 		resultCollector.handleClass( classDescriptor, context.isRootUrl() );
 	}
 
+	/**
+	 * Use the given prebuilt index, read from the {@link #INDEX_ENTRY_NAME} entry of
+	 * the archive being visited, to categorize its classes.  Classes missing from
+	 * the index are still indexed individually.
+	 */
+	public void applyPrebuiltIndex(ArchiveEntry indexEntry) {
+		try ( InputStream inputStream = indexEntry.getStreamAccess().accessInputStream() ) {
+			prebuiltIndex = new IndexReader( inputStream ).read();
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to read prebuilt Jandex index [%s], indexing classes individually", indexEntry.getName() );
+		}
+	}
+
+	/**
+	 * Categorize the class entries collected since the last call and pass the
+	 * model and converter classes on to the ScanResultCollector.
+	 */
+	public void complete() {
+		if ( pendingEntries.isEmpty() ) {
+			return;
+		}
+
+		final List<ClassDescriptor> classDescriptors = pendingEntries.parallelStream()
+				.map( this::toClassDescriptor )
+				.collect( Collectors.toList() );
+		for ( ClassDescriptor classDescriptor : classDescriptors ) {
+			if ( classDescriptor.getCategorization() != ClassDescriptor.Categorization.OTHER ) {
+				resultCollector.handleClass( classDescriptor, rootUrl );
+			}
+		}
+
+		pendingEntries.clear();
+		prebuiltIndex = null;
+	}
+
 	private ClassDescriptor toClassDescriptor(ArchiveEntry entry) {
+		if ( prebuiltIndex != null ) {
+			final ClassInfo classInfo = prebuiltIndex.getClassByName( DotName.createSimple( toClassName( entry ) ) );
+			if ( classInfo != null ) {
+				return toClassDescriptor( classInfo, entry );
+			}
+		}
+
 		try (InputStream inputStream = entry.getStreamAccess().accessInputStream()) {
 			Indexer indexer = new Indexer();
 			ClassInfo classInfo = indexer.index( inputStream );
-			Index index = indexer.complete();
-			return toClassDescriptor( classInfo, index, entry );
+			return toClassDescriptor( classInfo, entry );
 		}
 		catch (IOException e) {
 			throw new ArchiveException( "Could not build ClassInfo", e );
 		}
 	}
 
-	private ClassDescriptor toClassDescriptor(ClassInfo classInfo, Index index, ArchiveEntry entry) {
+	private static String toClassName(ArchiveEntry entry) {
+		final String name = entry.getNameWithinArchive();
+		final int start = name.startsWith( "/" ) ? 1 : 0;
+		return name.substring( start, name.length() - ".class".length() ).replace( '/', '.' );
+	}
+
+	private ClassDescriptor toClassDescriptor(ClassInfo classInfo, ArchiveEntry entry) {
 		ClassDescriptor.Categorization categorization = ClassDescriptor.Categorization.OTHER;
 
-		if ( isModel( index ) ) {
+		if ( isModel( classInfo ) ) {
 			categorization = ClassDescriptor.Categorization.MODEL;
 		}
-		else if ( isConverter( index ) ) {
+		else if ( isConverter( classInfo ) ) {
 			categorization = ClassDescriptor.Categorization.CONVERTER;
 		}
 
 		return new ClassDescriptorImpl( classInfo.name().toString(), categorization, entry.getStreamAccess() );
 	}
 
-	private boolean isConverter(Index index) {
-		return !index.getAnnotations( CONVERTER ).isEmpty();
+	private boolean isConverter(ClassInfo classInfo) {
+		return classInfo.annotations().containsKey( CONVERTER );
 	}
 
-	private boolean isModel(Index index) {
+	private boolean isModel(ClassInfo classInfo) {
 		for ( DotName model : MODELS ) {
-			if ( !index.getAnnotations( model ).isEmpty() ) {
+			if ( classInfo.annotations().containsKey( model ) ) {
 				return true;
 			}
 		}
@@ -14,7 +14,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.TreeMap;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionAcquisitionMode;
@@ -81,14 +83,18 @@ import org.hibernate.type.JsonBJsonFormatMapper;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_JTA_TRANSACTION_ACCESS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_REFRESH_DETACHED_ENTITY;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTION;
+import static org.hibernate.cfg.AvailableSettings.ASYNC_EXECUTOR;
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
+import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_AUTO_TUNING;
+import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_AUTO_TUNING_MIN_SIZE;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CALLABLE_NAMED_PARAMS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
+import static org.hibernate.cfg.AvailableSettings.COLLECTION_DIFF_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.CONNECTION_HANDLING;
 import static org.hibernate.cfg.AvailableSettings.CONVENTIONAL_JAVA_CONSTANTS;
 import static org.hibernate.cfg.AvailableSettings.CRITERIA_VALUE_HANDLING_MODE;
@@ -101,6 +107,7 @@ import static org.hibernate.cfg.AvailableSettings.DISCARD_PC_ON_CLOSE;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_CASCADE_PRUNING;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
@@ -108,6 +115,7 @@ import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
 import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
+import static org.hibernate.cfg.AvailableSettings.LAZY_METAMODEL_INITIALIZATION;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
@@ -117,12 +125,14 @@ import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_PARTITION_COLUMNS;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
 import static org.hibernate.cfg.AvailableSettings.QUERY_SUBSTITUTIONS;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
+import static org.hibernate.cfg.AvailableSettings.SNAPSHOT_DEDUPLICATION;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
@@ -201,9 +211,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private BatchFetchStyle batchFetchStyle;
 	private boolean delayBatchFetchLoaderCreations;
 	private int defaultBatchFetchSize;
+	private boolean lazyMetamodelInitializationEnabled;
+	private boolean batchFetchAutoTuningEnabled;
+	private int batchFetchAutoTuningMinSize;
+	private Executor asyncExecutor;
 	private Integer maximumFetchDepth;
 	private NullPrecedence defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
+	private boolean collectionDiffUpdatesEnabled;
+	private boolean flushCascadePruningEnabled;
+	private boolean snapshotDeduplicationEnabled;
 	private boolean orderInsertsEnabled;
 	private boolean postInsertIdentifierDelayed;
 	private boolean collectionsInDefaultFetchGroupEnabled;
@@ -232,6 +249,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	// Caching
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
+	private Map<String, String> queryCachePartitionColumns;
 	private TimestampsCacheFactory timestampsCacheFactory;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
@@ -376,12 +394,19 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.batchFetchStyle = BatchFetchStyle.interpret( configurationSettings.get( BATCH_FETCH_STYLE ) );
 		this.delayBatchFetchLoaderCreations = cfgService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
 		this.defaultBatchFetchSize = ConfigurationHelper.getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
+		this.lazyMetamodelInitializationEnabled = cfgService.getSetting( LAZY_METAMODEL_INITIALIZATION, BOOLEAN, false );
+		this.batchFetchAutoTuningEnabled = cfgService.getSetting( BATCH_FETCH_AUTO_TUNING, BOOLEAN, false );
+		this.batchFetchAutoTuningMinSize = ConfigurationHelper.getInt( BATCH_FETCH_AUTO_TUNING_MIN_SIZE, configurationSettings, 2 );
+		this.asyncExecutor = strategySelector.resolveStrategy( Executor.class, configurationSettings.get( ASYNC_EXECUTOR ) );
 		this.maximumFetchDepth = ConfigurationHelper.getInteger( MAX_FETCH_DEPTH, configurationSettings );
 		final String defaultNullPrecedence = ConfigurationHelper.getString(
 				AvailableSettings.DEFAULT_NULL_ORDERING, configurationSettings, "none", "first", "last"
 		);
 		this.defaultNullPrecedence = NullPrecedence.parse( defaultNullPrecedence );
 		this.orderUpdatesEnabled = ConfigurationHelper.getBoolean( ORDER_UPDATES, configurationSettings );
+		this.collectionDiffUpdatesEnabled = cfgService.getSetting( COLLECTION_DIFF_UPDATES, BOOLEAN, false );
+		this.flushCascadePruningEnabled = cfgService.getSetting( FLUSH_CASCADE_PRUNING, BOOLEAN, false );
+		this.snapshotDeduplicationEnabled = cfgService.getSetting( SNAPSHOT_DEDUPLICATION, BOOLEAN, false );
 		this.orderInsertsEnabled = ConfigurationHelper.getBoolean( ORDER_INSERTS, configurationSettings );
 
 		this.callbacksEnabled = ConfigurationHelper.getBoolean( JPA_CALLBACKS_ENABLED, configurationSettings, true );
@@ -458,6 +483,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		if ( !NoCachingRegionFactory.class.isInstance( regionFactory ) ) {
 			this.secondLevelCacheEnabled = cfgService.getSetting( USE_SECOND_LEVEL_CACHE, BOOLEAN, true );
 			this.queryCacheEnabled = cfgService.getSetting( USE_QUERY_CACHE, BOOLEAN, false );
+			this.queryCachePartitionColumns = interpretQueryCachePartitionColumns(
+					configurationSettings.get( QUERY_CACHE_PARTITION_COLUMNS )
+			);
 			this.timestampsCacheFactory = strategySelector.resolveDefaultableStrategy(
 					TimestampsCacheFactory.class,
 					configurationSettings.get( QUERY_CACHE_FACTORY ),
@@ -483,6 +511,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		else {
 			this.secondLevelCacheEnabled = false;
 			this.queryCacheEnabled = false;
+			this.queryCachePartitionColumns = Collections.emptyMap();
 			this.timestampsCacheFactory = null;
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
@@ -829,6 +858,36 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return transactionCoordinatorBuilder.getDefaultConnectionHandlingMode();
 	}
 
+	private static Map<String, String> interpretQueryCachePartitionColumns(Object setting) {
+		if ( setting == null || StringHelper.isEmptyOrWhitespace( setting.toString() ) ) {
+			return Collections.emptyMap();
+		}
+		final Map<String, String> partitionColumns = new TreeMap<>( String.CASE_INSENSITIVE_ORDER );
+		for ( String pair : StringHelper.splitTrimmingTokens( ",", setting.toString(), false ) ) {
+			final String qualifiedColumn = pair.trim();
+			if ( qualifiedColumn.isEmpty() ) {
+				continue;
+			}
+			final int separator = qualifiedColumn.lastIndexOf( '.' );
+			if ( separator <= 0 || separator == qualifiedColumn.length() - 1 ) {
+				throw new HibernateException(
+						"Illegal value for setting `" + QUERY_CACHE_PARTITION_COLUMNS
+								+ "`; expecting `table.column` but found `" + qualifiedColumn + "`"
+				);
+			}
+			final String table = qualifiedColumn.substring( 0, separator );
+			final String column = qualifiedColumn.substring( separator + 1 );
+			final String previous = partitionColumns.put( table, column );
+			if ( previous != null && !previous.equalsIgnoreCase( column ) ) {
+				throw new HibernateException(
+						"Illegal value for setting `" + QUERY_CACHE_PARTITION_COLUMNS
+								+ "`; multiple partition columns specified for table `" + table + "`"
+				);
+			}
+		}
+		return Collections.unmodifiableMap( partitionColumns );
+	}
+
 	private static FormatMapper determineJsonFormatMapper(Object setting, StrategySelector strategySelector) {
 		return strategySelector.resolveDefaultableStrategy(
 				FormatMapper.class,
@@ -1030,6 +1089,26 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return defaultBatchFetchSize;
 	}
 
+	@Override
+	public boolean isLazyMetamodelInitializationEnabled() {
+		return lazyMetamodelInitializationEnabled;
+	}
+
+	@Override
+	public boolean isBatchFetchAutoTuningEnabled() {
+		return batchFetchAutoTuningEnabled;
+	}
+
+	@Override
+	public int getBatchFetchAutoTuningMinSize() {
+		return batchFetchAutoTuningMinSize;
+	}
+
+	@Override
+	public Executor getAsyncExecutor() {
+		return asyncExecutor;
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return maximumFetchDepth;
@@ -1045,6 +1124,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return orderUpdatesEnabled;
 	}
 
+	@Override
+	public boolean isCollectionDiffUpdatesEnabled() {
+		return collectionDiffUpdatesEnabled;
+	}
+
+	@Override
+	public boolean isFlushCascadePruningEnabled() {
+		return flushCascadePruningEnabled;
+	}
+
+	@Override
+	public boolean isSnapshotDeduplicationEnabled() {
+		return snapshotDeduplicationEnabled;
+	}
+
 	@Override
 	public boolean isOrderInsertsEnabled() {
 		return orderInsertsEnabled;
@@ -1090,6 +1184,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return queryCacheEnabled;
 	}
 
+	@Override
+	public Map<String, String> getQueryCachePartitionColumns() {
+		return queryCachePartitionColumns;
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return timestampsCacheFactory;
@@ -8,6 +8,7 @@ package org.hibernate.boot.model.process.internal;
 
 import java.lang.reflect.Constructor;
 import java.net.URL;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -16,6 +17,7 @@ import java.util.Set;
 import org.hibernate.boot.MappingException;
 import org.hibernate.boot.archive.internal.StandardArchiveDescriptorFactory;
 import org.hibernate.boot.archive.internal.UrlInputStreamAccess;
+import org.hibernate.boot.archive.scan.internal.CachingScanner;
 import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
 import org.hibernate.boot.archive.scan.internal.StandardScanner;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
@@ -34,6 +36,10 @@ import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.spi.ClassLoaderAccess;
 import org.hibernate.boot.spi.XmlMappingBinderAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.internal.util.StringHelper;
 import org.hibernate.service.ServiceRegistry;
 
 import org.jboss.logging.Logger;
@@ -71,7 +77,11 @@ public class ScanningCoordinator {
 
 		// NOTE : the idea with JandexInitializer/JandexInitManager was to allow adding classes
 		// to the index as we discovered them via scanning and .  Currently
-		final Scanner scanner = buildScanner( bootstrapContext, classLoaderAccess );
+		final Scanner scanner = applyScanCache(
+				buildScanner( bootstrapContext, classLoaderAccess ),
+				bootstrapContext,
+				classLoaderService
+		);
 		final ScanResult scanResult = scanner.scan(
 				bootstrapContext.getScanEnvironment(),
 				bootstrapContext.getScanOptions(),
@@ -81,6 +91,19 @@ public class ScanningCoordinator {
 		applyScanResultsToManagedResources( managedResources, scanResult, bootstrapContext, xmlMappingBinderAccess );
 	}
 
+	private static Scanner applyScanCache(
+			Scanner scanner,
+			BootstrapContext bootstrapContext,
+			ClassLoaderService classLoaderService) {
+		final String cacheFile = bootstrapContext.getServiceRegistry()
+				.getService( ConfigurationService.class )
+				.getSetting( AvailableSettings.SCANNER_CACHE_FILE, StandardConverters.STRING );
+		if ( StringHelper.isEmpty( cacheFile ) ) {
+			return scanner;
+		}
+		return new CachingScanner( scanner, Paths.get( cacheFile ), classLoaderService );
+	}
+
 	private static final Class[] SINGLE_ARG = new Class[] { ArchiveDescriptorFactory.class };
 
 	@SuppressWarnings("unchecked")
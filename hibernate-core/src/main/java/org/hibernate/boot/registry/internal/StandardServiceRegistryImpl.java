@@ -96,37 +96,61 @@ public class StandardServiceRegistryImpl extends AbstractServiceRegistryImpl imp
 	}
 
 	@Override
-	public synchronized <R extends Service> R initiateService(ServiceInitiator<R> serviceInitiator) {
-		// todo : add check/error for unexpected initiator types?
-		return ( (StandardServiceInitiator<R>) serviceInitiator ).initiateService( configurationValues, this );
+	public <R extends Service> R initiateService(ServiceInitiator<R> serviceInitiator) {
+		lock.lock();
+		try {
+			// todo : add check/error for unexpected initiator types?
+			return ( (StandardServiceInitiator<R>) serviceInitiator ).initiateService( configurationValues, this );
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
-	public synchronized <R extends Service> void configureService(ServiceBinding<R> serviceBinding) {
-		if ( Configurable.class.isInstance( serviceBinding.getService() ) ) {
-			( (Configurable) serviceBinding.getService() ).configure( configurationValues );
+	public <R extends Service> void configureService(ServiceBinding<R> serviceBinding) {
+		lock.lock();
+		try {
+			if ( Configurable.class.isInstance( serviceBinding.getService() ) ) {
+				( (Configurable) serviceBinding.getService() ).configure( configurationValues );
+			}
+		}
+		finally {
+			lock.unlock();
 		}
 	}
 
 	/**
 	 * Very advanced and tricky to handle: not designed for this. Intended for experiments only!
 	 */
-	public synchronized void resetAndReactivate(BootstrapServiceRegistry bootstrapServiceRegistry,
+	public void resetAndReactivate(BootstrapServiceRegistry bootstrapServiceRegistry,
 									List<StandardServiceInitiator> serviceInitiators,
 									List<ProvidedService> providedServices,
 									Map<?, ?> configurationValues) {
-		if ( super.isActive() ) {
-			throw new IllegalStateException( "Can't reactivate an active registry!" );
+		lock.lock();
+		try {
+			if ( super.isActive() ) {
+				throw new IllegalStateException( "Can't reactivate an active registry!" );
+			}
+			super.resetParent( bootstrapServiceRegistry );
+			this.configurationValues = new HashMap( configurationValues );
+			super.reactivate();
+			applyServiceRegistrations( serviceInitiators, providedServices );
+		}
+		finally {
+			lock.unlock();
 		}
-		super.resetParent( bootstrapServiceRegistry );
-		this.configurationValues = new HashMap( configurationValues );
-		super.reactivate();
-		applyServiceRegistrations( serviceInitiators, providedServices );
 	}
 
 	@Override
-	public synchronized void destroy() {
-		super.destroy();
-		this.configurationValues = null;
+	public void destroy() {
+		lock.lock();
+		try {
+			super.destroy();
+			this.configurationValues = null;
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 }
@@ -8,6 +8,7 @@ package org.hibernate.boot.spi;
 
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionReleaseMode;
@@ -189,6 +190,26 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getDefaultBatchFetchSize();
 	}
 
+	@Override
+	public boolean isLazyMetamodelInitializationEnabled() {
+		return delegate.isLazyMetamodelInitializationEnabled();
+	}
+
+	@Override
+	public boolean isBatchFetchAutoTuningEnabled() {
+		return delegate.isBatchFetchAutoTuningEnabled();
+	}
+
+	@Override
+	public int getBatchFetchAutoTuningMinSize() {
+		return delegate.getBatchFetchAutoTuningMinSize();
+	}
+
+	@Override
+	public Executor getAsyncExecutor() {
+		return delegate.getAsyncExecutor();
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return delegate.getMaximumFetchDepth();
@@ -204,6 +225,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isOrderUpdatesEnabled();
 	}
 
+	@Override
+	public boolean isCollectionDiffUpdatesEnabled() {
+		return delegate.isCollectionDiffUpdatesEnabled();
+	}
+
+	@Override
+	public boolean isFlushCascadePruningEnabled() {
+		return delegate.isFlushCascadePruningEnabled();
+	}
+
+	@Override
+	public boolean isSnapshotDeduplicationEnabled() {
+		return delegate.isSnapshotDeduplicationEnabled();
+	}
+
 	@Override
 	public boolean isOrderInsertsEnabled() {
 		return delegate.isOrderInsertsEnabled();
@@ -259,6 +295,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isQueryCacheEnabled();
 	}
 
+	@Override
+	public Map<String, String> getQueryCachePartitionColumns() {
+		return delegate.getQueryCachePartitionColumns();
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return delegate.getTimestampsCacheFactory();
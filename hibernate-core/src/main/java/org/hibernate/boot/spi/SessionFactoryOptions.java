@@ -6,8 +6,10 @@
  */
 package org.hibernate.boot.spi;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionReleaseMode;
@@ -165,12 +167,64 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	int getDefaultBatchFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#LAZY_METAMODEL_INITIALIZATION
+	 */
+	default boolean isLazyMetamodelInitializationEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_AUTO_TUNING
+	 */
+	default boolean isBatchFetchAutoTuningEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_AUTO_TUNING_MIN_SIZE
+	 */
+	default int getBatchFetchAutoTuningMinSize() {
+		return 2;
+	}
+
+	/**
+	 * The explicitly configured executor for asynchronous operations, or {@code null}
+	 * to use the default.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR
+	 */
+	default Executor getAsyncExecutor() {
+		return null;
+	}
+
 	Integer getMaximumFetchDepth();
 
 	NullPrecedence getDefaultNullPrecedence();
 
 	boolean isOrderUpdatesEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#COLLECTION_DIFF_UPDATES
+	 */
+	default boolean isCollectionDiffUpdatesEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_CASCADE_PRUNING
+	 */
+	default boolean isFlushCascadePruningEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#SNAPSHOT_DEDUPLICATION
+	 */
+	default boolean isSnapshotDeduplicationEnabled() {
+		return false;
+	}
+
 	boolean isOrderInsertsEnabled();
 
 	boolean isMultiTenancyEnabled();
@@ -200,6 +254,15 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	TimestampsCacheFactory getTimestampsCacheFactory();
 
+	/**
+	 * The partition column to use for query cache invalidation, keyed by table name.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_PARTITION_COLUMNS
+	 */
+	default Map<String, String> getQueryCachePartitionColumns() {
+		return Collections.emptyMap();
+	}
+
 	String getCacheRegionPrefix();
 
 	boolean isMinimalPutsEnabled();
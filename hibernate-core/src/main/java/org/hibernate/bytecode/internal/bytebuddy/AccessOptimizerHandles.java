@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands the method handles of the members a generated access optimizer cannot reach
+ * directly, such as private fields and methods, over to the static initializer of the
+ * optimizer, which stores them in static final fields.
+ *
+ * @see BytecodeProviderImpl
+ */
+public final class AccessOptimizerHandles {
+	private static final AtomicLong keys = new AtomicLong();
+	private static final Map<String, MethodHandle[]> pending = new ConcurrentHashMap<>();
+
+	private AccessOptimizerHandles() {
+	}
+
+	static String register(MethodHandle[] handles) {
+		final String key = Long.toString( keys.incrementAndGet() );
+		pending.put( key, handles );
+		return key;
+	}
+
+	static void discard(String key) {
+		pending.remove( key );
+	}
+
+	/**
+	 * Called by the static initializer of a generated access optimizer, and not meant to be called otherwise.
+	 *
+	 * @param key The key the handles were registered with.
+	 * @return The handles, which are no longer registered.
+	 */
+	public static MethodHandle[] take(String key) {
+		final MethodHandle[] handles = pending.remove( key );
+		if ( handles == null ) {
+			throw new IllegalStateException( "No access optimizer method handles registered for key " + key );
+		}
+		return handles;
+	}
+}
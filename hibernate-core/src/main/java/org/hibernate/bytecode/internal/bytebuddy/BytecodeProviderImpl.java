@@ -6,9 +6,16 @@
  */
 package org.hibernate.bytecode.internal.bytebuddy;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.Callable;
 
 import org.hibernate.HibernateException;
@@ -18,12 +25,22 @@ import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterFieldImpl;
+import org.hibernate.property.access.spi.GetterMethodImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterFieldImpl;
+import org.hibernate.property.access.spi.SetterMethodImpl;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
+import org.jboss.logging.Logger;
+
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
@@ -38,6 +55,7 @@ import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.ElementMatchers;
 
 public class BytecodeProviderImpl implements BytecodeProvider {
+	private static final Logger log = Logger.getLogger( BytecodeProviderImpl.class );
 
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
@@ -46,6 +64,9 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 	private static final ElementMatcher.Junction setPropertyValuesMethodName = ElementMatchers.named( "setPropertyValues" );
 	private static final ElementMatcher.Junction getPropertyNamesMethodName = ElementMatchers.named( "getPropertyNames" );
 
+	private static final MethodType GETTER_HANDLE_TYPE = MethodType.methodType( Object.class, Object.class );
+	private static final MethodType SETTER_HANDLE_TYPE = MethodType.methodType( void.class, Object.class, Object.class );
+
 	private final ByteBuddyState byteBuddyState;
 
 	private final ByteBuddyProxyHelper byteBuddyProxyHelper;
@@ -79,11 +100,77 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 			final String[] getterNames,
 			final String[] setterNames,
 			final Class[] types) {
-		final Class fastClass;
+		final Method[] getters = new Method[getterNames.length];
+		final Method[] setters = new Method[setterNames.length];
+		findAccessors( clazz, getterNames, setterNames, types, getters, setters );
+
+		return buildReflectionOptimizer( clazz, getterNames, getters, setters, new MethodHandle[getters.length * 2] );
+	}
+
+	@Override
+	public ReflectionOptimizer getReflectionOptimizer(Class<?> clazz, Map<String, PropertyAccess> propertyAccessMap) {
+		if ( clazz.isInterface() ) {
+			return null;
+		}
+
+		final String[] propertyNames = new String[propertyAccessMap.size()];
+		final Member[] getters = new Member[propertyNames.length];
+		final Member[] setters = new Member[propertyNames.length];
+		final MethodHandle[] handles = new MethodHandle[propertyNames.length * 2];
+		int i = 0;
+		for ( Map.Entry<String, PropertyAccess> entry : propertyAccessMap.entrySet() ) {
+			propertyNames[i] = entry.getKey();
+			getters[i] = getterMember( entry.getValue().getGetter() );
+			setters[i] = setterMember( entry.getValue().getSetter() );
+			if ( !isSupported( getters[i] ) || !isSupported( setters[i] ) ) {
+				log.debugf(
+						"Not generating an access optimizer for %s as attribute '%s' uses a custom property access",
+						clazz.getName(),
+						entry.getKey()
+				);
+				return null;
+			}
+			try {
+				// members the generated code cannot reach directly are accessed through method handles
+				if ( !isAccessible( clazz, getters[i], false ) ) {
+					handles[2 * i] = methodHandle( getters[i], false );
+				}
+				if ( !isAccessible( clazz, setters[i], true ) ) {
+					handles[2 * i + 1] = methodHandle( setters[i], true );
+				}
+			}
+			catch (IllegalAccessException | RuntimeException e) {
+				log.debugf(
+						e,
+						"Not generating an access optimizer for %s as attribute '%s' is not accessible",
+						clazz.getName(),
+						entry.getKey()
+				);
+				return null;
+			}
+			i++;
+		}
+
+		return buildReflectionOptimizer( clazz, propertyNames, getters, setters, handles );
+	}
+
+	private ReflectionOptimizer buildReflectionOptimizer(
+			Class<?> clazz,
+			String[] propertyNames,
+			Member[] getters,
+			Member[] setters,
+			MethodHandle[] handles) {
+		final Constructor<?> constructor;
 		if ( !clazz.isInterface() && !Modifier.isAbstract( clazz.getModifiers() ) ) {
-			// we only provide a fast class instantiator if the class can be instantiated
-			final Constructor<?> constructor = findConstructor( clazz );
+			constructor = findConstructor( clazz );
+		}
+		else {
+			constructor = null;
+		}
 
+		final Class fastClass;
+		// we only provide a fast class instantiator if the class can be instantiated by generated code
+		if ( constructor != null && !Modifier.isPrivate( constructor.getModifiers() ) ) {
 			fastClass = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
 					.with( new NamingStrategy.SuffixingRandom( INSTANTIATOR_PROXY_NAMING_SUFFIX,
 							new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
@@ -96,23 +183,33 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 			fastClass = null;
 		}
 
-		final Method[] getters = new Method[getterNames.length];
-		final Method[] setters = new Method[setterNames.length];
-		findAccessors( clazz, getterNames, setterNames, types, getters, setters );
-
-		final Class bulkAccessor = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
-				.with( new NamingStrategy.SuffixingRandom( OPTIMIZER_PROXY_NAMING_SUFFIX,
-						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
-				.subclass( ReflectionOptimizer.AccessOptimizer.class )
-				.method( getPropertyValuesMethodName )
-						.intercept( new Implementation.Simple( new GetPropertyValues( clazz, getters ) ) )
-				.method( setPropertyValuesMethodName )
-						.intercept( new Implementation.Simple( new SetPropertyValues( clazz, setters ) ) )
-				.method( getPropertyNamesMethodName )
-						.intercept( MethodCall.call( new CloningPropertyCall( getterNames ) ) )
-		);
-
+		// the static initializer of the accessor takes the handles over into static final fields
+		final String handlesKey = AccessOptimizerHandles.register( handles );
 		try {
+			final Class bulkAccessor = byteBuddyState.load( clazz, byteBuddy -> {
+				DynamicType.Builder<?> builder = byteBuddy
+						.with( new NamingStrategy.SuffixingRandom( OPTIMIZER_PROXY_NAMING_SUFFIX,
+								new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
+						.subclass( ReflectionOptimizer.AccessOptimizer.class );
+				for ( int i = 0; i < handles.length; i++ ) {
+					if ( handles[i] != null ) {
+						builder = builder.defineField(
+								handleFieldName( i ),
+								MethodHandle.class,
+								Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL
+						);
+					}
+				}
+				return builder
+						.initializer( new InitializeHandles( handlesKey, handles ) )
+						.method( getPropertyValuesMethodName )
+								.intercept( new Implementation.Simple( new GetPropertyValues( clazz, getters, handles ) ) )
+						.method( setPropertyValuesMethodName )
+								.intercept( new Implementation.Simple( new SetPropertyValues( clazz, setters, handles ) ) )
+						.method( getPropertyNamesMethodName )
+								.intercept( MethodCall.call( new CloningPropertyCall( propertyNames ) ) );
+			} );
+
 			return new ReflectionOptimizerImpl(
 					fastClass != null ? (ReflectionOptimizer.InstantiationOptimizer) fastClass.newInstance() : null,
 					(ReflectionOptimizer.AccessOptimizer) bulkAccessor.newInstance()
@@ -121,21 +218,162 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		catch (Exception exception) {
 			throw new HibernateException( exception );
 		}
+		finally {
+			AccessOptimizerHandles.discard( handlesKey );
+		}
+	}
+
+	private static Member getterMember(Getter getter) {
+		// subclasses (enhanced access, for example) add behavior which generated code would bypass
+		if ( getter.getClass() == GetterMethodImpl.class ) {
+			return getter.getMethod();
+		}
+		else if ( getter.getClass() == GetterFieldImpl.class ) {
+			return getter.getMember();
+		}
+		return null;
+	}
+
+	private static Member setterMember(Setter setter) {
+		if ( setter.getClass() == SetterMethodImpl.class ) {
+			return setter.getMethod();
+		}
+		else if ( setter.getClass() == SetterFieldImpl.class ) {
+			return ( (SetterFieldImpl) setter ).getField();
+		}
+		return null;
+	}
+
+	private static boolean isSupported(Member member) {
+		return member != null && !Modifier.isStatic( member.getModifiers() );
+	}
+
+	/**
+	 * Whether generated code defined in the package of the given class can access the member directly
+	 */
+	private static boolean isAccessible(Class<?> clazz, Member member, boolean write) {
+		final int modifiers = member.getModifiers();
+		if ( Modifier.isPrivate( modifiers ) ) {
+			return false;
+		}
+		if ( write && member instanceof Field && Modifier.isFinal( modifiers ) ) {
+			return false;
+		}
+		if ( Modifier.isPublic( modifiers ) ) {
+			return true;
+		}
+		// package private and protected members are only accessible from the same runtime package
+		final Class<?> declaringClass = member.getDeclaringClass();
+		return declaringClass.getClassLoader() == clazz.getClassLoader()
+				&& Objects.equals( declaringClass.getPackageName(), clazz.getPackageName() );
+	}
+
+	/**
+	 * The type to reference a field by: its declaring class if that is accessible,
+	 * otherwise the class the optimizer is generated for.  Methods are always invoked
+	 * on the class the optimizer is generated for, since the declaring class of an
+	 * inherited getter or setter may be an interface declaring it as a default method.
+	 */
+	private static Class<?> ownerType(Class<?> clazz, Field field) {
+		final Class<?> declaringClass = field.getDeclaringClass();
+		if ( Modifier.isPublic( declaringClass.getModifiers() )
+				|| declaringClass.getClassLoader() == clazz.getClassLoader()
+						&& Objects.equals( declaringClass.getPackageName(), clazz.getPackageName() ) ) {
+			return declaringClass;
+		}
+		return clazz;
+	}
+
+	/**
+	 * A handle accessing the member with a private lookup in its declaring class, adapted to take and
+	 * return {@code Object}s so that generated code can call it through {@code invokeExact}
+	 */
+	private static MethodHandle methodHandle(Member member, boolean write) throws IllegalAccessException {
+		final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(
+				member.getDeclaringClass(),
+				MethodHandles.lookup()
+		);
+		final MethodHandle handle;
+		if ( member instanceof Method ) {
+			handle = lookup.unreflect( (Method) member );
+		}
+		else if ( write ) {
+			// a final field is only writable through a Field made accessible, as for reflection
+			( (Field) member ).setAccessible( true );
+			handle = lookup.unreflectSetter( (Field) member );
+		}
+		else {
+			handle = lookup.unreflectGetter( (Field) member );
+		}
+		return handle.asType( write ? SETTER_HANDLE_TYPE : GETTER_HANDLE_TYPE );
+	}
+
+	private static String handleFieldName(int index) {
+		return ( index % 2 == 0 ? "getter$" : "setter$" ) + index / 2;
 	}
 
 	public ByteBuddyProxyHelper getByteBuddyProxyHelper() {
 		return byteBuddyProxyHelper;
 	}
 
+	/**
+	 * Stores the method handles taken from {@link AccessOptimizerHandles} in the static final fields
+	 */
+	private static class InitializeHandles implements ByteCodeAppender {
+
+		private final String handlesKey;
+
+		private final MethodHandle[] handles;
+
+		public InitializeHandles(String handlesKey, MethodHandle[] handles) {
+			this.handlesKey = handlesKey;
+			this.handles = handles;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			final String owner = implementationContext.getInstrumentedType().getInternalName();
+			methodVisitor.visitLdcInsn( handlesKey );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKESTATIC,
+					Type.getInternalName( AccessOptimizerHandles.class ),
+					"take",
+					Type.getMethodDescriptor( Type.getType( MethodHandle[].class ), Type.getType( String.class ) ),
+					false
+			);
+			for ( int i = 0; i < handles.length; i++ ) {
+				if ( handles[i] != null ) {
+					methodVisitor.visitInsn( Opcodes.DUP );
+					methodVisitor.visitLdcInsn( i );
+					methodVisitor.visitInsn( Opcodes.AALOAD );
+					methodVisitor.visitFieldInsn(
+							Opcodes.PUTSTATIC,
+							owner,
+							handleFieldName( i ),
+							Type.getDescriptor( MethodHandle.class )
+					);
+				}
+			}
+			methodVisitor.visitInsn( Opcodes.POP );
+			return new Size( 3, instrumentedMethod.getStackSize() );
+		}
+	}
+
 	private static class GetPropertyValues implements ByteCodeAppender {
 
 		private final Class clazz;
 
-		private final Method[] getters;
+		private final Member[] getters;
+
+		private final MethodHandle[] handles;
 
-		public GetPropertyValues(Class clazz, Method[] getters) {
+		public GetPropertyValues(Class clazz, Member[] getters, MethodHandle[] handles) {
 			this.clazz = clazz;
 			this.getters = getters;
+			this.handles = handles;
 		}
 
 		@Override
@@ -145,21 +383,55 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 				MethodDescription instrumentedMethod) {
 			methodVisitor.visitLdcInsn( getters.length );
 			methodVisitor.visitTypeInsn( Opcodes.ANEWARRAY, Type.getInternalName( Object.class ) );
-			int index = 0;
-			for ( Method getter : getters ) {
+			for ( int index = 0; index < getters.length; index++ ) {
+				final Member getter = getters[index];
 				methodVisitor.visitInsn( Opcodes.DUP );
-				methodVisitor.visitLdcInsn( index++ );
+				methodVisitor.visitLdcInsn( index );
+				if ( handles[2 * index] != null ) {
+					methodVisitor.visitFieldInsn(
+							Opcodes.GETSTATIC,
+							implementationContext.getInstrumentedType().getInternalName(),
+							handleFieldName( 2 * index ),
+							Type.getDescriptor( MethodHandle.class )
+					);
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEVIRTUAL,
+							Type.getInternalName( MethodHandle.class ),
+							"invokeExact",
+							GETTER_HANDLE_TYPE.toMethodDescriptorString(),
+							false
+					);
+					methodVisitor.visitInsn( Opcodes.AASTORE );
+					continue;
+				}
+
 				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
 				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( clazz ) );
-				methodVisitor.visitMethodInsn(
-						Opcodes.INVOKEVIRTUAL,
-						Type.getInternalName( clazz ),
-						getter.getName(),
-						Type.getMethodDescriptor( getter ),
-						false
-				);
-				if ( getter.getReturnType().isPrimitive() ) {
-					PrimitiveBoxingDelegate.forPrimitive( new TypeDescription.ForLoadedType( getter.getReturnType() ) )
+				final Class<?> type;
+				if ( getter instanceof Method ) {
+					final Method method = (Method) getter;
+					type = method.getReturnType();
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEVIRTUAL,
+							Type.getInternalName( clazz ),
+							method.getName(),
+							Type.getMethodDescriptor( method ),
+							false
+					);
+				}
+				else {
+					final Field field = (Field) getter;
+					type = field.getType();
+					methodVisitor.visitFieldInsn(
+							Opcodes.GETFIELD,
+							Type.getInternalName( ownerType( clazz, field ) ),
+							field.getName(),
+							Type.getDescriptor( type )
+					);
+				}
+				if ( type.isPrimitive() ) {
+					PrimitiveBoxingDelegate.forPrimitive( new TypeDescription.ForLoadedType( type ) )
 							.assignBoxedTo(
 									TypeDescription.Generic.OBJECT,
 									ReferenceTypeAwareAssigner.INSTANCE,
@@ -178,11 +450,14 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 
 		private final Class clazz;
 
-		private final Method[] setters;
+		private final Member[] setters;
+
+		private final MethodHandle[] handles;
 
-		public SetPropertyValues(Class clazz, Method[] setters) {
+		public SetPropertyValues(Class clazz, Member[] setters, MethodHandle[] handles) {
 			this.clazz = clazz;
 			this.setters = setters;
+			this.handles = handles;
 		}
 
 		@Override
@@ -190,32 +465,76 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 				MethodVisitor methodVisitor,
 				Implementation.Context implementationContext,
 				MethodDescription instrumentedMethod) {
-			int index = 0;
-			for ( Method setter : setters ) {
+			for ( int index = 0; index < setters.length; index++ ) {
+				final Member setter = setters[index];
+				if ( handles[2 * index + 1] != null ) {
+					methodVisitor.visitFieldInsn(
+							Opcodes.GETSTATIC,
+							implementationContext.getInstrumentedType().getInternalName(),
+							handleFieldName( 2 * index + 1 ),
+							Type.getDescriptor( MethodHandle.class )
+					);
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+					methodVisitor.visitLdcInsn( index );
+					methodVisitor.visitInsn( Opcodes.AALOAD );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEVIRTUAL,
+							Type.getInternalName( MethodHandle.class ),
+							"invokeExact",
+							SETTER_HANDLE_TYPE.toMethodDescriptorString(),
+							false
+					);
+					continue;
+				}
+
+				final Class<?> type = setter instanceof Method
+						? ( (Method) setter ).getParameterTypes()[0]
+						: ( (Field) setter ).getType();
 				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
 				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( clazz ) );
 				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
-				methodVisitor.visitLdcInsn( index++ );
+				methodVisitor.visitLdcInsn( index );
 				methodVisitor.visitInsn( Opcodes.AALOAD );
-				if ( setter.getParameterTypes()[0].isPrimitive() ) {
+				if ( type.isPrimitive() ) {
 					PrimitiveUnboxingDelegate.forReferenceType( TypeDescription.Generic.OBJECT )
 							.assignUnboxedTo(
-									new TypeDescription.Generic.OfNonGenericType.ForLoadedType( setter.getParameterTypes()[0] ),
+									new TypeDescription.Generic.OfNonGenericType.ForLoadedType( type ),
 									ReferenceTypeAwareAssigner.INSTANCE,
 									Assigner.Typing.DYNAMIC
 							)
 							.apply( methodVisitor, implementationContext );
 				}
 				else {
-					methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( setter.getParameterTypes()[0] ) );
+					methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( type ) );
+				}
+				if ( setter instanceof Method ) {
+					final Method method = (Method) setter;
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEVIRTUAL,
+							Type.getInternalName( clazz ),
+							method.getName(),
+							Type.getMethodDescriptor( method ),
+							false
+					);
+					if ( method.getReturnType() != void.class ) {
+						// fluent setters
+						methodVisitor.visitInsn(
+								method.getReturnType() == long.class || method.getReturnType() == double.class
+										? Opcodes.POP2
+										: Opcodes.POP
+						);
+					}
+				}
+				else {
+					final Field field = (Field) setter;
+					methodVisitor.visitFieldInsn(
+							Opcodes.PUTFIELD,
+							Type.getInternalName( ownerType( clazz, field ) ),
+							field.getName(),
+							Type.getDescriptor( type )
+					);
 				}
-				methodVisitor.visitMethodInsn(
-						Opcodes.INVOKEVIRTUAL,
-						Type.getInternalName( clazz ),
-						setter.getName(),
-						Type.getMethodDescriptor( setter ),
-						false
-				);
 			}
 			methodVisitor.visitInsn( Opcodes.RETURN );
 			return new Size( 4, instrumentedMethod.getStackSize() );
@@ -6,6 +6,8 @@
  */
 package org.hibernate.bytecode.internal.none;
 
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
@@ -13,6 +15,7 @@ import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.property.access.spi.PropertyAccess;
 
 /**
  * This BytecodeProvider represents the "no-op" enhancer; mostly useful
@@ -40,6 +43,11 @@ public final class BytecodeProviderImpl implements BytecodeProvider {
 		throw new HibernateException( "Using the ReflectionOptimizer is not possible when the configured BytecodeProvider is 'none'. Disable " + AvailableSettings.USE_REFLECTION_OPTIMIZER + " or use a different BytecodeProvider");
 	}
 
+	@Override
+	public ReflectionOptimizer getReflectionOptimizer(Class<?> clazz, Map<String, PropertyAccess> propertyAccessMap) {
+		throw new HibernateException( "Using the ReflectionOptimizer is not possible when the configured BytecodeProvider is 'none'. Disable " + AvailableSettings.USE_REFLECTION_OPTIMIZER + " or use a different BytecodeProvider");
+	}
+
 	@Override
 	public Enhancer getEnhancer(EnhancementContext enhancementContext) {
 		return null;
@@ -6,8 +6,11 @@
  */
 package org.hibernate.bytecode.spi;
 
+import java.util.Map;
+
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.property.access.spi.PropertyAccess;
 import org.hibernate.service.Service;
 
 /**
@@ -41,6 +44,20 @@ public interface BytecodeProvider extends Service {
 	 */
 	ReflectionOptimizer getReflectionOptimizer(Class clazz, String[] getterNames, String[] setterNames, Class[] types);
 
+	/**
+	 * Retrieve the ReflectionOptimizer delegate for this provider
+	 * capable of generating reflection optimization components.
+	 * Unlike {@link #getReflectionOptimizer(Class, String[], String[], Class[])}
+	 * this supports field access as well as getter and setter methods.
+	 *
+	 * @param clazz The class to be reflected upon.
+	 * @param propertyAccessMap The property access of all properties, in state array order, by property name.
+	 * @return The reflection optimization delegate, or {@code null} if the properties cannot be optimized.
+	 */
+	default ReflectionOptimizer getReflectionOptimizer(Class<?> clazz, Map<String, PropertyAccess> propertyAccessMap) {
+		return null;
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
@@ -7,14 +7,40 @@
 package org.hibernate.cache.spi;
 
 import java.io.Serializable;
+import java.math.BigInteger;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
+ * Helper for dealing with query spaces as used by the {@link TimestampsCache}.
+ * <p/>
+ * When {@link org.hibernate.cfg.AvailableSettings#QUERY_CACHE_PARTITION_COLUMNS}
+ * is used, a partitioned table {@code T} is tracked through 3 kinds of spaces:<ul>
+ *     <li>{@code T} itself, invalidated by bulk operations and any other mutation
+ *     for which the affected partitions are unknown</li>
+ *     <li>{@code T#*}, invalidated by every entity mutation against {@code T}</li>
+ *     <li>{@code T#value}, invalidated by entity mutations against rows of
+ *     {@code T} in that partition</li>
+ * </ul>
+ * A query tagged with a partition of {@code T} checks {@code T} and {@code T#value};
+ * any other query against {@code T} checks {@code T} and {@code T#*}.
+ *
  * @author Steve Ebersole
  */
 public class QuerySpacesHelper {
+	/**
+	 * Separator between a table name and a partition value in a partition space
+	 */
+	public static final char PARTITION_SEPARATOR = '#';
+
+	/**
+	 * Suffix used for the space covering all partitions of a table
+	 */
+	public static final String ANY_PARTITION = "*";
+
 	/**
 	 * Singleton access
 	 */
@@ -38,4 +64,70 @@ public class QuerySpacesHelper {
 		Collections.addAll( set, spacesArray );
 		return set;
 	}
+
+	/**
+	 * The space covering the given partition of a partitioned table
+	 *
+	 * @param partitionValue The partition value, as {@linkplain #toPartitionValue normalized}
+	 */
+	public String toPartitionSpace(String tableName, String partitionValue) {
+		return tableName + PARTITION_SEPARATOR + partitionValue;
+	}
+
+	/**
+	 * Normalize a value of a partition column, which may come from a bound parameter as well
+	 * as from the state of an entity, and so may be represented by different Java types.
+	 * Only strings and integral numbers have the same form either way; other values, such
+	 * as temporal values, cannot be matched reliably.
+	 *
+	 * @return The normalized value, or {@code null} if values of its type cannot be matched
+	 */
+	public String toPartitionValue(Object value) {
+		if ( value instanceof String || value instanceof Character ) {
+			return value.toString();
+		}
+		if ( value instanceof Long || value instanceof Integer || value instanceof Short
+				|| value instanceof Byte || value instanceof BigInteger ) {
+			// the same partition whatever the width of the integral type
+			return value.toString();
+		}
+		return null;
+	}
+
+	/**
+	 * The space covering all partitions of a partitioned table
+	 */
+	public String toAnyPartitionSpace(String tableName) {
+		return tableName + PARTITION_SEPARATOR + ANY_PARTITION;
+	}
+
+	/**
+	 * Resolve the spaces to check for "up-to-dateness" of cached results of a query.
+	 *
+	 * @param querySpaces The tables affected by the query
+	 * @param partitionColumns The configured partition columns, keyed by table name
+	 * @param partitionedTable The table the query is restricted to a single partition of, or {@code null}
+	 * @param partitionValue The value of the partition column the query is restricted to
+	 */
+	public Set<String> resolveQuerySpaces(
+			Collection<String> querySpaces,
+			Map<String, String> partitionColumns,
+			String partitionedTable,
+			Object partitionValue) {
+		final HashSet<String> spaces = new HashSet<>( querySpaces );
+		for ( String space : querySpaces ) {
+			if ( partitionColumns.containsKey( space ) ) {
+				final String normalizedValue = space.equalsIgnoreCase( partitionedTable )
+						? toPartitionValue( partitionValue )
+						: null;
+				if ( normalizedValue != null ) {
+					spaces.add( toPartitionSpace( space, normalizedValue ) );
+				}
+				else {
+					spaces.add( toAnyPartitionSpace( space ) );
+				}
+			}
+		}
+		return spaces;
+	}
 }
@@ -646,6 +646,18 @@ public interface AvailableSettings {
 	 */
 	String SCANNER_DISCOVERY = "hibernate.archive.autodetection";
 
+	/**
+	 * Names a local file in which the results of scanning are stored.  Later boots
+	 * reuse the stored results instead of scanning again, as long as neither the
+	 * scanned archives nor the scan configuration changed.  Scanning results are
+	 * not cached unless this is specified.
+	 *
+	 * @see #SCANNER
+	 *
+	 * @since 6.0
+	 */
+	String SCANNER_CACHE_FILE = "hibernate.archive.scanner.cache_file";
+
 	/**
 	 * Used to specify the {@link org.hibernate.boot.model.naming.ImplicitNamingStrategy} class to use.  The following
 	 * short-names are defined for this setting:<ul>
@@ -1050,6 +1062,66 @@ public interface AvailableSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * Should changes to a bag of values or a many-to-many bag be written as the
+	 * rows to delete and insert, instead of deleting and re-inserting all rows of
+	 * the bag?  Only the elements whose number of occurrences changed are written,
+	 * using the batched row deletes and inserts of the collection.  Lists, maps,
+	 * sets and id bags are always written this way.
+	 * <p/>
+	 * Only bags whose elements are entities, or values of integral, boolean,
+	 * {@link java.util.UUID} and {@link java.time.LocalDate} type, or embeddables of
+	 * these, are written this way.  The rows of an element are deleted by comparing
+	 * the element columns in SQL, which for other types, such as strings compared
+	 * under a case insensitive collation or stored in padded {@code char} columns,
+	 * might match the rows of other elements too.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @since 6.0
+	 */
+	String COLLECTION_DIFF_UPDATES = "hibernate.collection_diff_updates";
+
+	/**
+	 * Should the flush-time cascades skip the entities which are provably unchanged since
+	 * they were loaded or last flushed?  That is the case for an entity enhanced for dirty
+	 * tracking which has no dirty attribute, and none of whose collections changed.  Such
+	 * an entity can not reference any entity which is not already managed, so cascading
+	 * from it is not needed.  Entities without dirty tracking are always cascaded from, and
+	 * no entity is skipped while entity deletions are scheduled, as the cascade may persist
+	 * a removed entity again.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @since 6.0
+	 */
+	String FLUSH_CASCADE_PRUNING = "hibernate.flush_cascade_pruning";
+
+	/**
+	 * Should the copies of mutable values taken for the loaded state of entities be shared
+	 * between all entities of the session holding equal values?  This reduces the memory
+	 * used by sessions loading many entities with repeated mutable values, such as dates or
+	 * serializable values, at the expense of a lookup for every such value loaded.
+	 * <p/>
+	 * The session keeps an entry counting the entities sharing each copy, which is dropped
+	 * once the last of these entities is evicted, deleted, made read-only or flushed with a
+	 * changed state.  As such an entry takes more memory than a small copy such as a date,
+	 * this only pays off when many of the loaded values are repeated.
+	 * <p/>
+	 * The loaded state is passed to application code as the previous state of
+	 * {@link org.hibernate.Interceptor#onFlushDirty} and as the old state of
+	 * {@link org.hibernate.event.spi.PreUpdateEvent} and
+	 * {@link org.hibernate.event.spi.PostUpdateEvent}.  With this setting enabled, those
+	 * values must not be changed in place (for example through {@code Date#setTime}), as
+	 * the change would corrupt the snapshot of every other entity sharing the copy, and so
+	 * hide or fake their changes at flush time.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @since 6.0
+	 */
+	String SNAPSHOT_DEDUPLICATION = "hibernate.snapshot_deduplication";
+
 	/**
 	 * JPA Callbacks are enabled by default. Set this to {@code false} to disable them.
 	 * Mostly useful to save a bit of memory when they are not used.
@@ -1233,6 +1305,25 @@ public interface AvailableSettings {
 	 */
 	String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
 
+	/**
+	 * Enables partitioned invalidation of cached query results.  Names a comma-separated
+	 * list of {@code table.column} pairs (e.g. {@code orders.tenant_id}), at most one
+	 * column per table.
+	 * <p/>
+	 * A cacheable query restricted by equality on such a column is tagged with that
+	 * partition, and entity inserts, updates and deletes against the table invalidate
+	 * only the partitions of the affected rows rather than the whole table.  Bulk
+	 * operations and native mutations still invalidate the whole table.
+	 * <p/>
+	 * Only string and integral partition values are compared, as those have the same
+	 * form whether they come from a bound parameter or from the entity state.  Entity
+	 * mutations with any other partition value invalidate the whole table, and queries
+	 * restricted to such a value are invalidated by any entity mutation of the table.
+	 *
+	 * @since 6.0
+	 */
+	String QUERY_CACHE_PARTITION_COLUMNS = "hibernate.cache.query_cache_partition_columns";
+
 	/**
 	 * The {@code CacheProvider} region name prefix
 	 */
@@ -1327,6 +1418,32 @@ public interface AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE = "hibernate.query.plan_parameter_metadata_max_size";
 
+	/**
+	 * Should the HQL parser be warmed up while the SessionFactory is being built, by
+	 * parsing a corpus of representative queries along with all named HQL queries?
+	 * This populates the prediction caches of the parser, which are shared by the
+	 * whole JVM, so that the first queries executed by the application do not pay
+	 * for it.  The named queries are not parsed twice when {@link #QUERY_STARTUP_CHECKING}
+	 * is enabled, since checking them already does.  Default is {@code false}.
+	 * <p>
+	 * The number of parses which still needed the slower full LL prediction is reported by
+	 * {@link org.hibernate.stat.Statistics#getHqlParseLlFallbackCount()}.
+	 *
+	 * @see #HQL_PARSER_WARMUP_QUERIES
+	 *
+	 * @since 6.0
+	 */
+	String HQL_PARSER_WARMUP = "hibernate.query.hql.parser_warmup";
+
+	/**
+	 * Names a classpath resource containing additional HQL queries, one per line, to
+	 * parse when {@link #HQL_PARSER_WARMUP} is enabled.  Blank lines and lines
+	 * starting with {@code #} are ignored.
+	 *
+	 * @since 6.0
+	 */
+	String HQL_PARSER_WARMUP_QUERIES = "hibernate.query.hql.parser_warmup.queries";
+
 	/**
 	 * Should we not use contextual LOB creation (aka based on {@link java.sql.Connection#createBlob()} et al).
 	 */
@@ -1877,6 +1994,66 @@ public interface AvailableSettings {
 	 */
 	String DELAY_ENTITY_LOADER_CREATIONS = "hibernate.loader.delay_entity_loader_creations";
 
+	/**
+	 * When enabled, the size of each batch fetch is determined at runtime from the
+	 * number of keys currently pending in the {@link org.hibernate.engine.spi.BatchFetchQueue}
+	 * for the entity or collection role being loaded, rather than always using the
+	 * configured {@link #DEFAULT_BATCH_FETCH_SIZE} or {@link org.hibernate.annotations.BatchSize}.
+	 * Those static values are then used as the upper bound of the batch size.
+	 *
+	 * Default is {@code false}
+	 *
+	 * @see #BATCH_FETCH_AUTO_TUNING_MIN_SIZE
+	 *
+	 * @since 6.0
+	 */
+	String BATCH_FETCH_AUTO_TUNING = "hibernate.batch_fetch_auto_tuning";
+
+	/**
+	 * The lower bound for batch sizes determined when {@link #BATCH_FETCH_AUTO_TUNING}
+	 * is enabled.
+	 *
+	 * Default is {@code 2}
+	 *
+	 * @since 6.0
+	 */
+	String BATCH_FETCH_AUTO_TUNING_MIN_SIZE = "hibernate.batch_fetch_auto_tuning.min_size";
+
+	/**
+	 * When enabled, the static SQL and the id loaders of each entity persister are built
+	 * on first use of the entity instead of while the SessionFactory is built.  Custom
+	 * SQL and identifier generation are still validated at boot, so that mapping errors
+	 * are reported early.
+	 *
+	 * Default is {@code false}
+	 *
+	 * @since 6.0
+	 */
+	String LAZY_METAMODEL_INITIALIZATION = "hibernate.metamodel.lazy_initialization";
+
+	/**
+	 * The {@link java.util.concurrent.Executor} used to run asynchronous operations such as
+	 * {@link org.hibernate.query.Query#getResultListAsync()} and
+	 * {@link org.hibernate.Session#findAsync(Class, Object)}.  Accepts an {@code Executor}
+	 * instance, an {@code Executor} implementation {@link Class} reference or the name of
+	 * such a class.
+	 *
+	 * By default, a virtual-thread-per-task executor is used on JDK 21 and later, and a
+	 * cached pool of daemon threads otherwise.  The default executor is shut down when the
+	 * SessionFactory is closed; a configured executor is not.
+	 *
+	 * Asynchronous operations run on the threads of this executor, not on the thread which
+	 * submitted them, so they do not see state bound to the submitting thread: a JTA
+	 * transaction is not joined, a {@code ThreadLocal} based current session (such as the
+	 * {@code thread} and {@code jta} {@link #CURRENT_SESSION_CONTEXT_CLASS} strategies) is
+	 * not available, and neither is a tenant identifier which a
+	 * {@link #MULTI_TENANT_IDENTIFIER_RESOLVER} resolves from thread-bound state.  Use them
+	 * with sessions opened explicitly, and resource-local transactions.
+	 *
+	 * @since 6.0
+	 */
+	String ASYNC_EXECUTOR = "hibernate.async_executor";
+
 	/**
 	 * A transaction can be rolled back by another thread ("tracking by thread")
 	 * -- not the original application. Examples of this include a JTA
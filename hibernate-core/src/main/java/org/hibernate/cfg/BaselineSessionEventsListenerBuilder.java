@@ -9,6 +9,8 @@ package org.hibernate.cfg;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
 import org.hibernate.SessionEventListener;
@@ -23,6 +25,7 @@ public class BaselineSessionEventsListenerBuilder {
 
 	private boolean logSessionMetrics;
 	private Class<? extends SessionEventListener> autoListener;
+	private final List<Supplier<? extends SessionEventListener>> additionalListeners = new CopyOnWriteArrayList<>();
 
 	public BaselineSessionEventsListenerBuilder(
 			boolean logSessionMetrics,
@@ -59,6 +62,27 @@ public class BaselineSessionEventsListenerBuilder {
 		this.autoListener = autoListener;
 	}
 
+	/**
+	 * Register a listener to be added to every Session, in addition to the
+	 * {@linkplain #getAutoListener() auto listener}.  Intended for use from an
+	 * {@link org.hibernate.integrator.spi.Integrator}.
+	 *
+	 * @param listenerSupplier Called once per Session to obtain its listener
+	 */
+	public void addListenerSupplier(Supplier<? extends SessionEventListener> listenerSupplier) {
+		additionalListeners.add( listenerSupplier );
+	}
+
+	/**
+	 * Unregister a listener registered through {@link #addListenerSupplier}.  Sessions
+	 * which are already open keep their listener.
+	 *
+	 * @param listenerSupplier The supplier which was registered
+	 */
+	public void removeListenerSupplier(Supplier<? extends SessionEventListener> listenerSupplier) {
+		additionalListeners.remove( listenerSupplier );
+	}
+
 	public List<SessionEventListener> buildBaselineList() {
 		final SessionEventListener[] sessionEventListeners = buildBaseline();
 		//Capacity: needs to hold at least all elements from the baseline, but also expect to add a little more later.
@@ -87,7 +111,16 @@ public class BaselineSessionEventsListenerBuilder {
 			arr = new SessionEventListener[1];
 			arr[0] = buildStatsListener();
 		}
-		return arr;
+		return additionalListeners.isEmpty() ? arr : appendAdditionalListeners( arr );
+	}
+
+	private SessionEventListener[] appendAdditionalListeners(SessionEventListener[] baseline) {
+		final List<SessionEventListener> list = new ArrayList<>( baseline.length + additionalListeners.size() );
+		Collections.addAll( list, baseline );
+		for ( Supplier<? extends SessionEventListener> supplier : additionalListeners ) {
+			list.add( supplier.get() );
+		}
+		return list.toArray( EMPTY );
 	}
 
 	private static SessionEventListener buildAutoListener(final Class<? extends SessionEventListener> autoListener) {
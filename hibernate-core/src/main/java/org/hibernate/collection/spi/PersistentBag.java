@@ -11,10 +11,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
@@ -45,6 +48,15 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 	 */
 	private Collection<E> providedCollection;
 
+	/**
+	 * When the changes of a bag of values are written as row deletes and inserts, the
+	 * elements whose number of occurrences changed, in the snapshot and in the bag.
+	 * All rows of such an element are deleted, and all of its occurrences in the bag
+	 * are inserted again.
+	 */
+	private transient List<Object> deletedElements;
+	private transient Set<ElementKey> insertedElements;
+
 	/**
 	 * Constructs a PersistentBag.  Needed for SOAP libraries, etc
 	 */
@@ -300,7 +312,102 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public boolean needsRecreate(CollectionPersister persister) {
-		return !persister.isOneToMany();
+		deletedElements = null;
+		insertedElements = null;
+		if ( persister.isOneToMany() ) {
+			return false;
+		}
+		if ( !persister.getFactory().getSessionFactoryOptions().isCollectionDiffUpdatesEnabled()
+				|| !persister.isRowLocatableByElement()
+				|| super.needsRecreate( persister ) ) {
+			return true;
+		}
+		return !computeChangedElements( persister.getElementType() );
+	}
+
+	/**
+	 * Determines the elements whose number of occurrences differs between the snapshot
+	 * and the bag, counting the occurrences of both in a single pass over each of them.
+	 *
+	 * @return {@code false} if the changes can not be written row by row
+	 */
+	private boolean computeChangedElements(Type elementType) {
+		final List<?> sn = (List<?>) getSnapshot();
+
+		// the occurrences of each element, in the snapshot and in the bag
+		final Map<ElementKey, int[]> occurrences = new LinkedHashMap<>();
+		final int[] nullOccurrences = new int[2];
+		countOccurrences( sn, 0, elementType, occurrences, nullOccurrences );
+		countOccurrences( bag, 1, elementType, occurrences, nullOccurrences );
+		if ( nullOccurrences[0] != nullOccurrences[1] ) {
+			// a null element can not be located by value
+			return false;
+		}
+
+		final List<Object> deleted = new ArrayList<>();
+		final Set<ElementKey> inserted = new HashSet<>();
+		for ( Map.Entry<ElementKey, int[]> entry : occurrences.entrySet() ) {
+			final int[] counts = entry.getValue();
+			if ( counts[0] != counts[1] ) {
+				if ( counts[0] > 0 ) {
+					deleted.add( entry.getKey().element );
+				}
+				if ( counts[1] > 0 ) {
+					inserted.add( entry.getKey() );
+				}
+			}
+		}
+		deletedElements = deleted;
+		insertedElements = inserted;
+		return true;
+	}
+
+	private static void countOccurrences(
+			List<?> list,
+			int side,
+			Type elementType,
+			Map<ElementKey, int[]> occurrences,
+			int[] nullOccurrences) {
+		for ( Object element : list ) {
+			if ( element == null ) {
+				nullOccurrences[side]++;
+			}
+			else {
+				occurrences.computeIfAbsent( new ElementKey( element, elementType ), key -> new int[2] )[side]++;
+			}
+		}
+	}
+
+	/**
+	 * Identifies a bag element by {@link Type#isSame}, hashed by {@link Type#getHashCode}.
+	 */
+	private static final class ElementKey {
+		private final Object element;
+		private final Type elementType;
+		private final int hashCode;
+
+		private ElementKey(Object element, Type elementType) {
+			this.element = element;
+			this.elementType = elementType;
+			this.hashCode = elementType.getHashCode( element );
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof ElementKey && elementType.isSame( element, ( (ElementKey) other ).element );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	@Override
+	public void postAction() {
+		super.postAction();
+		deletedElements = null;
+		insertedElements = null;
 	}
 
 	// For a one-to-many, a <bag> is not really a bag;
@@ -313,6 +420,9 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public Iterator<?> getDeletes(CollectionPersister persister, boolean indexIsFormula) throws HibernateException {
+		if ( deletedElements != null ) {
+			return deletedElements.iterator();
+		}
 		final Type elementType = persister.getElementType();
 		final ArrayList<Object> deletes = new ArrayList<>();
 		final List<?> sn = (List<?>) getSnapshot();
@@ -345,6 +455,9 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
+		if ( insertedElements != null ) {
+			return entry != null && insertedElements.contains( new ElementKey( entry, elemType ) );
+		}
 		final List<?> sn = (List<?>) getSnapshot();
 		if ( sn.size() > i && elemType.isSame( sn.get( i ), entry ) ) {
 			//a shortcut if its location didn't change!
@@ -160,6 +160,7 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 	public void setStatus(Status status) {
 		if ( status == Status.READ_ONLY ) {
 			//memory optimization
+			persistenceContext.releaseLoadedState( persister, loadedState );
 			loadedState = null;
 		}
 
@@ -247,6 +248,7 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 
 	@Override
 	public void postUpdate(Object entity, Object[] updatedState, Object nextVersion) {
+		persistenceContext.releaseLoadedState( persister, loadedState );
 		this.loadedState = updatedState;
 		setLockMode( LockMode.WRITE );
 
@@ -33,6 +33,7 @@ import org.hibernate.MappingException;
 import org.hibernate.NonUniqueObjectException;
 import org.hibernate.PersistentObjectException;
 import org.hibernate.TransientObjectException;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
@@ -61,10 +62,12 @@ import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.sql.results.spi.LoadContexts;
 import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
 
@@ -138,6 +141,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	// yet loaded ... for now, this is purely transient!
 	private HashMap<CollectionKey,PersistentCollection> unownedCollections;
 
+	// Copies of mutable values shared by the loaded state of entities
+	private HashMap<SnapshotValue, SnapshotValue> snapshotValues;
+
 	// Parent entities cache by their child for cascading
 	// May be empty or not contains all relation
 	private IdentityHashMap<Object,Object> parentsByChild;
@@ -247,6 +253,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		entityEntryContext.clear();
 		parentsByChild = null;
 		entitySnapshotsByKey = null;
+		snapshotValues = null;
 		collectionsByKey = null;
 		nonlazyCollections = null;
 		collectionEntries = null;
@@ -381,6 +388,59 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return (Object[]) snapshot;
 	}
 
+	@Override
+	public void deduplicateLoadedState(EntityPersister persister, Object[] loadedState) {
+		final Type[] types = persister.getPropertyTypes();
+		final boolean[] updateability = persister.getPropertyUpdateability();
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( isShareable( types[i], updateability[i], loadedState[i] ) ) {
+				if ( snapshotValues == null ) {
+					snapshotValues = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+				}
+				final SnapshotValue key = new SnapshotValue( types[i], loadedState[i] );
+				final SnapshotValue shared = snapshotValues.putIfAbsent( key, key );
+				if ( shared == null ) {
+					key.references = 1;
+				}
+				else {
+					shared.references++;
+					loadedState[i] = shared.value;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void releaseLoadedState(EntityPersister persister, Object[] loadedState) {
+		if ( snapshotValues == null || loadedState == null ) {
+			return;
+		}
+		final Type[] types = persister.getPropertyTypes();
+		final boolean[] updateability = persister.getPropertyUpdateability();
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( isShareable( types[i], updateability[i], loadedState[i] ) ) {
+				final SnapshotValue key = new SnapshotValue( types[i], loadedState[i] );
+				final SnapshotValue shared = snapshotValues.get( key );
+				// an equal copy which was never shared is not counted
+				if ( shared != null && shared.value == loadedState[i] && --shared.references == 0 ) {
+					snapshotValues.remove( key );
+				}
+			}
+		}
+	}
+
+	private static boolean isShareable(Type type, boolean updatable, Object value) {
+		// only the values copied for the snapshot are shared; these still reach the application as the
+		// previous state of interceptors and update events, which must not change them in place
+		return value != null
+				&& value != LazyPropertyInitializer.UNFETCHED_PROPERTY
+				&& value != PropertyAccessStrategyBackRefImpl.UNKNOWN
+				&& updatable
+				&& type.isMutable()
+				&& !type.isAssociationType()
+				&& !type.isComponentType();
+	}
+
 	@Override
 	public void addEntity(EntityKey key, Object entity) {
 		if ( entitiesByKey == null ) {
@@ -457,7 +517,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public EntityEntry removeEntry(Object entity) {
-		return entityEntryContext.removeEntityEntry( entity );
+		final EntityEntry entry = entityEntryContext.removeEntityEntry( entity );
+		if ( entry != null ) {
+			releaseLoadedState( entry.getPersister(), entry.getLoadedState() );
+		}
+		return entry;
 	}
 
 	@Override
@@ -1905,4 +1969,40 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return naturalIdResolutions;
 	}
 
+	/**
+	 * A mutable value of the loaded state, compared according to its type, along with
+	 * the number of loaded states sharing it
+	 */
+	private static final class SnapshotValue {
+		private final Type type;
+		private final Object value;
+		private final int hashCode;
+		private int references;
+
+		private SnapshotValue(Type type, Object value) {
+			this.type = type;
+			this.value = value;
+			this.hashCode = type.getHashCode( value );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof SnapshotValue ) ) {
+				return false;
+			}
+			final SnapshotValue that = (SnapshotValue) o;
+			return hashCode == that.hashCode
+					&& type == that.type
+					&& type.isEqual( value, that.value );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
 }
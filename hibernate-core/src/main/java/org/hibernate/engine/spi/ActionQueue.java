@@ -30,6 +30,7 @@ import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
+import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.EntityActionVetoException;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
@@ -42,13 +43,17 @@ import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.QuerySpacesHelper;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metadata.ClassMetadata;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.sql.ast.Clause;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
@@ -398,7 +403,17 @@ public class ActionQueue {
 			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
 		}
 		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
-			invalidateSpaces( convertTimestampSpaces( executable.getPropertySpaces() ) );
+			final Map<String, String> partitionColumns = session.getFactory()
+					.getSessionFactoryOptions()
+					.getQueryCachePartitionColumns();
+			if ( partitionColumns.isEmpty() ) {
+				invalidateSpaces( convertTimestampSpaces( executable.getPropertySpaces() ) );
+			}
+			else {
+				final Set<String> spaces = new HashSet<>();
+				collectInvalidationSpaces( executable, partitionColumns, spaces );
+				invalidateSpaces( convertTimestampSpaces( spaces ) );
+			}
 		}
 		if ( executable.getAfterTransactionCompletionProcess() != null ) {
 			if ( afterTransactionProcesses == null ) {
@@ -625,8 +640,20 @@ public class ActionQueue {
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
 				// unexpected.
-				Set propertySpaces = list.getQuerySpaces();
-				invalidateSpaces( convertTimestampSpaces( propertySpaces ) );
+				final Map<String, String> partitionColumns = session.getFactory()
+						.getSessionFactoryOptions()
+						.getQueryCachePartitionColumns();
+				if ( partitionColumns.isEmpty() ) {
+					Set propertySpaces = list.getQuerySpaces();
+					invalidateSpaces( convertTimestampSpaces( propertySpaces ) );
+				}
+				else {
+					final Set<String> spaces = new HashSet<>();
+					for ( E e : list ) {
+						collectInvalidationSpaces( e, partitionColumns, spaces );
+					}
+					invalidateSpaces( convertTimestampSpaces( spaces ) );
+				}
 			}
 		}
 
@@ -634,6 +661,116 @@ public class ActionQueue {
 		session.getJdbcCoordinator().executeBatch();
 	}
 
+	/**
+	 * Collect the query spaces to invalidate for the given executable when
+	 * query cache partitioning is enabled.  Entity actions against a partitioned
+	 * table invalidate only the partitions of the affected rows; everything else,
+	 * and entity actions whose partitions cannot be determined, invalidate the
+	 * whole table.
+	 *
+	 * @see QuerySpacesHelper
+	 */
+	private void collectInvalidationSpaces(
+			Executable executable,
+			Map<String, String> partitionColumns,
+			Set<String> spaces) {
+		final Serializable[] propertySpaces = executable.getPropertySpaces();
+		if ( propertySpaces == null ) {
+			return;
+		}
+		for ( Serializable propertySpace : propertySpaces ) {
+			final String tableName = (String) propertySpace;
+			final String partitionColumn = partitionColumns.get( tableName );
+			if ( partitionColumn == null
+					|| !( executable instanceof EntityAction )
+					|| !collectPartitionSpaces( (EntityAction) executable, tableName, partitionColumn, spaces ) ) {
+				spaces.add( tableName );
+			}
+		}
+	}
+
+	private boolean collectPartitionSpaces(
+			EntityAction action,
+			String tableName,
+			String partitionColumn,
+			Set<String> spaces) {
+		final Object[][] states;
+		if ( action instanceof AbstractEntityInsertAction ) {
+			states = new Object[][] { ( (AbstractEntityInsertAction) action ).getState() };
+		}
+		else if ( action instanceof EntityUpdateAction ) {
+			final EntityUpdateAction updateAction = (EntityUpdateAction) action;
+			states = new Object[][] { updateAction.getState(), updateAction.getPreviousState() };
+		}
+		else if ( action instanceof EntityDeleteAction ) {
+			states = new Object[][] { ( (EntityDeleteAction) action ).getState() };
+		}
+		else {
+			return false;
+		}
+
+		final Set<String> partitionSpaces = new HashSet<>();
+		for ( Object[] state : states ) {
+			if ( state == null
+					|| !collectPartitionSpace( action.getPersister(), state, tableName, partitionColumn, partitionSpaces ) ) {
+				return false;
+			}
+		}
+		spaces.add( QuerySpacesHelper.INSTANCE.toAnyPartitionSpace( tableName ) );
+		spaces.addAll( partitionSpaces );
+		return true;
+	}
+
+	private boolean collectPartitionSpace(
+			EntityPersister persister,
+			Object[] state,
+			String tableName,
+			String partitionColumn,
+			Set<String> partitionSpaces) {
+		// NOTE : rows with a null partition value can never match a partition restriction,
+		// so those only need the "any partition" space invalidated
+		for ( AttributeMapping attributeMapping : persister.getAttributeMappings() ) {
+			final int[] selectionIndex = { -1 };
+			attributeMapping.forEachSelectable(
+					(index, selectable) -> {
+						if ( selectionIndex[0] == -1
+								&& !selectable.isFormula()
+								&& tableName.equalsIgnoreCase( selectable.getContainingTableExpression() )
+								&& partitionColumn.equalsIgnoreCase( selectable.getSelectionExpression() ) ) {
+							selectionIndex[0] = index;
+						}
+					}
+			);
+			if ( selectionIndex[0] != -1 ) {
+				final Object attributeValue = state[attributeMapping.getStateArrayPosition()];
+				if ( attributeValue == null ) {
+					return true;
+				}
+				final Object[] partitionValue = new Object[1];
+				attributeMapping.forEachJdbcValue(
+						attributeValue,
+						Clause.IRRELEVANT,
+						(index, jdbcValue, jdbcMapping) -> {
+							if ( index == selectionIndex[0] ) {
+								partitionValue[0] = jdbcValue;
+							}
+						},
+						session
+				);
+				if ( partitionValue[0] != null ) {
+					final String normalizedValue = QuerySpacesHelper.INSTANCE.toPartitionValue( partitionValue[0] );
+					if ( normalizedValue == null ) {
+						// a query could not be matched to this partition
+						return false;
+					}
+					partitionSpaces.add( QuerySpacesHelper.INSTANCE.toPartitionSpace( tableName, normalizedValue ) );
+				}
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private static String[] convertTimestampSpaces(Set spaces) {
 		return (String[]) spaces.toArray( new String[ spaces.size() ] );
 	}
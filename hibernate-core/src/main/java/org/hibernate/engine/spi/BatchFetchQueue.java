@@ -183,6 +183,18 @@ public class BatchFetchQueue {
 		return false;
 	}
 
+	/**
+	 * The number of entity keys of the given entity type currently queued for
+	 * batch fetching.  Used to size batches when batch-fetch auto-tuning is enabled.
+	 */
+	public int getBatchLoadableEntityKeyCount(EntityMappingType entityDescriptor) {
+		if ( batchLoadableEntityKeys == null ) {
+			return 0;
+		}
+		final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
+		return set == null ? 0 : set.size();
+	}
+
 	/**
 	 * Get a batch of unloaded identifiers for this class, using a slightly
 	 * complex algorithm that tries to grab keys registered immediately after
@@ -289,6 +301,18 @@ public class BatchFetchQueue {
 		}
 	}
 
+	/**
+	 * The number of collections of the given role currently queued for batch
+	 * fetching.  Used to size batches when batch-fetch auto-tuning is enabled.
+	 */
+	public int getBatchLoadableCollectionCount(CollectionPersister collectionPersister) {
+		if ( batchLoadableCollections == null ) {
+			return 0;
+		}
+		final LinkedHashMap<CollectionEntry, PersistentCollection> map = batchLoadableCollections.get( collectionPersister.getRole() );
+		return map == null ? 0 : map.size();
+	}
+
 	/**
 	 * Get a batch of uninitialized collection keys for a given role
 	 *
@@ -148,6 +148,31 @@ public interface PersistenceContext {
 	 */
 	Object getNaturalIdSnapshot(Object id, EntityPersister persister);
 
+	/**
+	 * Replace the copies of mutable values in the given loaded state by equal copies already
+	 * held by the loaded state of other entities of this persistence context.
+	 *
+	 * @param persister The persister of the entity.
+	 * @param loadedState The loaded state of the entity, as taken for dirty checking.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SNAPSHOT_DEDUPLICATION
+	 */
+	default void deduplicateLoadedState(EntityPersister persister, Object[] loadedState) {
+	}
+
+	/**
+	 * Release the copies of mutable values the given loaded state shares with the loaded state
+	 * of other entities, once the loaded state is discarded.  A shared copy is forgotten when
+	 * no loaded state holds it anymore.
+	 *
+	 * @param persister The persister of the entity.
+	 * @param loadedState The discarded loaded state of the entity.
+	 *
+	 * @see #deduplicateLoadedState(EntityPersister, Object[])
+	 */
+	default void releaseLoadedState(EntityPersister persister, Object[] loadedState) {
+	}
+
 	/**
 	 * Add a canonical mapping from entity key to entity instance
 	 *
@@ -11,6 +11,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.FlushModeType;
@@ -227,6 +229,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		delegate.markForRollbackOnly();
 	}
 
+	@Override
+	public <T> CompletionStage<T> executeAsync(Supplier<T> operation) {
+		return delegate.executeAsync( operation );
+	}
+
 	@Override
 	public long getTransactionStartTimestamp() {
 		return delegate.getTransactionStartTimestamp();
@@ -770,6 +777,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return delegate.find( entityClass, primaryKey );
 	}
 
+	@Override
+	public <T> CompletionStage<T> findAsync(Class<T> entityType, Object id) {
+		return delegate.findAsync( entityType, id );
+	}
+
 	@Override
 	public <T> T find(Class<T> entityClass, Object primaryKey, Map<String, Object> properties) {
 		return delegate.find( entityClass, primaryKey, properties );
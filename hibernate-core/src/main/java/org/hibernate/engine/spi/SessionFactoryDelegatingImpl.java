@@ -10,6 +10,7 @@ import java.sql.Connection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import javax.naming.NamingException;
 import javax.naming.Reference;
 
@@ -132,6 +133,11 @@ public class SessionFactoryDelegatingImpl implements SessionFactoryImplementor,
 		return delegate.getStatistics();
 	}
 
+	@Override
+	public Executor getAsyncExecutor() {
+		return delegate.getAsyncExecutor();
+	}
+
 	@Override
 	public RuntimeMetamodels getRuntimeMetamodels() {
 		return delegate.getRuntimeMetamodels();
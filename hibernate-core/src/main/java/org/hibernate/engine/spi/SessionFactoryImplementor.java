@@ -10,6 +10,8 @@ import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import jakarta.persistence.EntityGraph;
 
 import org.hibernate.CustomEntityDirtinessStrategy;
@@ -108,6 +110,22 @@ public interface SessionFactoryImplementor
 	@Override
 	StatisticsImplementor getStatistics();
 
+	/**
+	 * The executor used to run asynchronous session and query operations.
+	 * By default, the configured executor, or else the common fork-join pool.
+	 * <p>
+	 * {@link org.hibernate.internal.SessionFactoryImpl} instead creates its own executor
+	 * when none is configured, and shuts it down when it is closed.  This default
+	 * cannot own an executor, as nothing would shut it down, so it falls back to the
+	 * common pool, which needs no shutdown.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR
+	 */
+	default Executor getAsyncExecutor() {
+		final Executor configured = getSessionFactoryOptions().getAsyncExecutor();
+		return configured == null ? ForkJoinPool.commonPool() : configured;
+	}
+
 	RuntimeMetamodels getRuntimeMetamodels();
 
 	/**
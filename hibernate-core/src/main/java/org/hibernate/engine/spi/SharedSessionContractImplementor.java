@@ -9,6 +9,8 @@ package org.hibernate.engine.spi;
 import java.sql.Connection;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.TransactionRequiredException;
 
@@ -183,6 +185,19 @@ public interface SharedSessionContractImplementor
 	 */
 	void markForRollbackOnly();
 
+	/**
+	 * Execute the given operation asynchronously, using the factory's
+	 * {@linkplain SessionFactoryImplementor#getAsyncExecutor() async executor}.
+	 * <p/>
+	 * Operations submitted against the same session are run one at a time in
+	 * submission order, maintaining the session's thread confinement.  As they run
+	 * on the executor's threads, state bound to the submitting thread, such as a JTA
+	 * transaction, is not visible to them.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR
+	 */
+	<T> CompletionStage<T> executeAsync(Supplier<T> operation);
+
 	/**
 	 * A "timestamp" at or before the start of the current transaction.
 	 *
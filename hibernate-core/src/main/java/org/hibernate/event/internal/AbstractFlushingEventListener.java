@@ -25,6 +25,7 @@ import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.service.spi.EventListenerGroup;
@@ -37,6 +38,7 @@ import org.hibernate.event.spi.FlushEntityEventListener;
 import org.hibernate.event.spi.FlushEvent;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.EntityPrinter;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 
 import org.jboss.logging.Logger;
@@ -139,17 +141,58 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		LOG.debug( "Processing flush-time cascades" );
 
 		final Object anything = getAnything();
+		// a removed entity may be persisted again by the cascade from an unchanged entity,
+		// so nothing is pruned while deletions are scheduled
+		final Map<Object,Boolean> ownersOfChangedCollections =
+				session.getFactory().getSessionFactoryOptions().isFlushCascadePruningEnabled()
+						&& session.getActionQueue().numberOfDeletions() == 0
+						? getOwnersOfChangedCollections( persistenceContext )
+						: null;
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
 		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
 //		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
 			EntityEntry entry = me.getValue();
 			Status status = entry.getStatus();
 			if ( status == Status.MANAGED || status == Status.SAVING || status == Status.READ_ONLY ) {
+				if ( ownersOfChangedCollections != null
+						&& isUnchanged( me.getKey(), status, ownersOfChangedCollections ) ) {
+					continue;
+				}
 				cascadeOnFlush( session, entry.getPersister(), me.getKey(), anything );
 			}
 		}
 	}
 
+	/**
+	 * Is the entity provably unchanged since it was loaded or last flushed, so that it
+	 * can not reference any transient entity to cascade to?
+	 */
+	private static boolean isUnchanged(Object entity, Status status, Map<Object,Boolean> ownersOfChangedCollections) {
+		return status != Status.SAVING
+				&& entity instanceof SelfDirtinessTracker
+				&& !( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes()
+				&& !ownersOfChangedCollections.containsKey( entity );
+	}
+
+	/**
+	 * The owners of the collections which may have changed since they were loaded or last flushed.
+	 * In-place changes to the elements of collections of components and of arrays are only found
+	 * by the dirty check of the flush, so such collections are assumed to have changed.
+	 */
+	private static Map<Object,Boolean> getOwnersOfChangedCollections(PersistenceContext persistenceContext) {
+		final Map<Object,Boolean> owners = new IdentityHashMap<>();
+		persistenceContext.forEachCollectionEntry( (pc, ce) -> {
+			final CollectionPersister persister = ce.getLoadedPersister();
+			final boolean changed = pc.isDirty()
+					|| persister == null
+					|| pc.wasInitialized() && ( persister.isArray() || persister.getElementType().isComponentType() );
+			if ( changed && pc.getOwner() != null ) {
+				owners.put( pc.getOwner(), Boolean.TRUE );
+			}
+		}, false );
+		return owners;
+	}
+
 	private void cascadeOnFlush(EventSource session, EntityPersister persister, Object object, Object anything)
 	throws HibernateException {
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
@@ -6,6 +6,8 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.util.concurrent.locks.ReentrantLock;
+
 import org.hibernate.HibernateException;
 
 /**
@@ -17,6 +19,13 @@ public abstract class AbstractOptimizer implements Optimizer {
 	protected final Class returnClass;
 	protected final int incrementSize;
 
+	/**
+	 * Guards the generation state.  Held while the {@link AccessCallback} reads
+	 * from the database, so a {@link ReentrantLock} is used rather than a monitor
+	 * to avoid pinning virtual threads.
+	 */
+	protected final ReentrantLock lock = new ReentrantLock();
+
 	/**
 	 * Construct an optimizer
 	 *
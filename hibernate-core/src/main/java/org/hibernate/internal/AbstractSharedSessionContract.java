@@ -13,6 +13,11 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Supplier;
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.TransactionRequiredException;
 import jakarta.persistence.Tuple;
@@ -102,6 +107,10 @@ import org.hibernate.resource.transaction.spi.TransactionCoordinatorBuilder;
 public abstract class AbstractSharedSessionContract implements SharedSessionContractImplementor {
 	private static final EntityManagerMessageLogger log = HEMLogging.messageLogger( SessionImpl.class );
 
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<AbstractSharedSessionContract, CompletableFuture> ASYNC_TAIL_UPDATER =
+			AtomicReferenceFieldUpdater.newUpdater( AbstractSharedSessionContract.class, CompletableFuture.class, "asyncTail" );
+
 	private transient SessionFactoryImpl factory;
 	private final String tenantIdentifier;
 	protected transient FastSessionServices fastSessionServices;
@@ -139,6 +148,9 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 	//Lazily initialized
 	private transient ExceptionConverter exceptionConverter;
 
+	// completes once the last asynchronous operation submitted against this session did, used to serialise them
+	private transient volatile CompletableFuture<?> asyncTail;
+
 	public AbstractSharedSessionContract(SessionFactoryImpl factory, SessionCreationOptions options) {
 		this.factory = factory;
 		this.fastSessionServices = factory.getFastSessionServices();
@@ -429,6 +441,24 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		}
 	}
 
+	@Override
+	public <T> CompletionStage<T> executeAsync(Supplier<T> operation) {
+		checkOpen();
+		final Executor executor = factory.getAsyncExecutor();
+		final CompletableFuture<Void> completion = new CompletableFuture<>();
+		final CompletableFuture<?> previous = ASYNC_TAIL_UPDATER.getAndSet( this, completion );
+		final CompletableFuture<T> next;
+		if ( previous == null || previous.isDone() ) {
+			next = CompletableFuture.supplyAsync( operation, executor );
+		}
+		else {
+			// the previous completion never fails, so this runs regardless of the previous outcome
+			next = previous.thenApplyAsync( ignore -> operation.get(), executor );
+		}
+		next.whenComplete( (result, failure) -> completion.complete( null ) );
+		return next;
+	}
+
 	@Override
 	public boolean isTransactionInProgress() {
 		if ( waitingForAutoClose ) {
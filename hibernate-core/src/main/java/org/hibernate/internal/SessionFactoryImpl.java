@@ -20,6 +20,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import javax.naming.Reference;
 import javax.naming.StringRefAddr;
@@ -193,6 +196,9 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 	private final transient Map<String, FetchProfile> fetchProfiles;
 
 	private final transient FastSessionServices fastSessionServices;
+	private final transient Executor asyncExecutor;
+	// the default executor, which we own and need to shut down on close
+	private final transient ExecutorService defaultAsyncExecutor;
 	private final transient WrapperOptions wrapperOptions;
 	private final transient SessionBuilder defaultSessionOpenOptions;
 	private final transient SessionBuilder temporarySessionOpenOptions;
@@ -385,6 +391,8 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			this.defaultSessionOpenOptions = createDefaultSessionOpenOptionsIfPossible();
 			this.temporarySessionOpenOptions = this.defaultSessionOpenOptions == null ? null : buildTemporarySessionOpenOptions();
 			this.defaultStatelessOptions = this.defaultSessionOpenOptions == null ? null : withStatelessOptions();
+			this.defaultAsyncExecutor = options.getAsyncExecutor() == null ? createDefaultAsyncExecutor() : null;
+			this.asyncExecutor = defaultAsyncExecutor == null ? options.getAsyncExecutor() : defaultAsyncExecutor;
 			this.fastSessionServices = new FastSessionServices( this );
 			this.wrapperOptions = new SessionFactoryBasedWrapperOptions( this );
 
@@ -836,6 +844,10 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 				queryEngine.close();
 			}
 
+			if ( defaultAsyncExecutor != null ) {
+				defaultAsyncExecutor.shutdown();
+			}
+
 			if ( delayedDropAction != null ) {
 				delayedDropAction.perform( serviceRegistry );
 			}
@@ -978,6 +990,32 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 		return status == Status.CLOSED;
 	}
 
+	@Override
+	public Executor getAsyncExecutor() {
+		return asyncExecutor;
+	}
+
+	/**
+	 * Creates the executor used when none is configured.  Neither kind of executor
+	 * starts a thread before the first asynchronous operation is submitted.
+	 */
+	private static ExecutorService createDefaultAsyncExecutor() {
+		try {
+			// JDK 21+
+			return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+		}
+		catch (ReflectiveOperationException e) {
+			LOG.debug( "Virtual threads not available, using a cached thread pool for asynchronous operations" );
+			return Executors.newCachedThreadPool(
+					runnable -> {
+						final Thread thread = new Thread( runnable, "hibernate-async" );
+						thread.setDaemon( true );
+						return thread;
+					}
+			);
+		}
+	}
+
 	private transient StatisticsImplementor statistics;
 
 	public StatisticsImplementor getStatistics() {
@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.CacheMode;
 import org.hibernate.Filter;
@@ -2266,6 +2267,12 @@ public class SessionImpl
 		return find( entityClass, primaryKey, null, null );
 	}
 
+	@Override
+	public <T> CompletionStage<T> findAsync(Class<T> entityType, Object id) {
+		checkOpen();
+		return executeAsync( () -> find( entityType, id ) );
+	}
+
 	@Override
 	public <T> T find(Class<T> entityClass, Object primaryKey, Map<String, Object> properties) {
 		return find( entityClass, primaryKey, null, properties );
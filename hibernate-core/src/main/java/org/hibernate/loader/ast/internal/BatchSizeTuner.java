@@ -0,0 +1,97 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Determines the size of a batch fetch from the number of keys pending in the
+ * {@link org.hibernate.engine.spi.BatchFetchQueue}, bounded by the configured
+ * minimum and the static batch size of the entity or collection.
+ * <p/>
+ * The observed hit ratio (keys which actually resolved to a row relative to the
+ * number of keys requested) is tracked as an exponential moving average and used
+ * to shrink the upper bound when batches repeatedly ask for keys that do not exist.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_AUTO_TUNING
+ */
+public class BatchSizeTuner {
+	private static final double SMOOTHING = 0.2;
+	private static final double LOW_HIT_RATIO = 0.5;
+
+	private final int minBatchSize;
+	private final int maxBatchSize;
+
+	// holds the raw bits of a double - the average hit ratio
+	private final AtomicLong hitRatio = new AtomicLong( Double.doubleToLongBits( 1.0 ) );
+
+	public BatchSizeTuner(int minBatchSize, int maxBatchSize) {
+		this.maxBatchSize = maxBatchSize;
+		this.minBatchSize = Math.max( 1, Math.min( minBatchSize, maxBatchSize ) );
+	}
+
+	/**
+	 * Create a tuner for the given static batch size, or {@code null} if
+	 * auto-tuning is not enabled
+	 */
+	public static BatchSizeTuner from(int maxBatchSize, SessionFactoryImplementor sessionFactory) {
+		if ( !sessionFactory.getSessionFactoryOptions().isBatchFetchAutoTuningEnabled() ) {
+			return null;
+		}
+		return new BatchSizeTuner(
+				sessionFactory.getSessionFactoryOptions().getBatchFetchAutoTuningMinSize(),
+				maxBatchSize
+		);
+	}
+
+	public int getMinBatchSize() {
+		return minBatchSize;
+	}
+
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	public double getHitRatio() {
+		return Double.longBitsToDouble( hitRatio.get() );
+	}
+
+	/**
+	 * Determine the batch size to use given the number of keys currently queued
+	 * for batch fetching (which generally includes the key being loaded)
+	 */
+	public int determineBatchSize(int queuedKeyCount) {
+		final double ratio = getHitRatio();
+		final int upperBound = ratio < LOW_HIT_RATIO
+				? Math.max( minBatchSize, (int) Math.ceil( maxBatchSize * ratio ) )
+				: maxBatchSize;
+
+		return Math.max( minBatchSize, Math.min( queuedKeyCount, upperBound ) );
+	}
+
+	/**
+	 * Record the outcome of a batch fetch
+	 *
+	 * @param requestedCount The number of keys included in the batch
+	 * @param foundCount The number of those keys which were actually found
+	 */
+	public void recordBatch(int requestedCount, int foundCount) {
+		if ( requestedCount <= 0 ) {
+			return;
+		}
+		final double observed = Math.min( 1.0, (double) foundCount / requestedCount );
+		long current;
+		long updated;
+		do {
+			current = hitRatio.get();
+			final double average = Double.longBitsToDouble( current );
+			updated = Double.doubleToLongBits( average + SMOOTHING * ( observed - average ) );
+		} while ( !hitRatio.compareAndSet( current, updated ) );
+	}
+}
@@ -14,6 +14,7 @@ import org.hibernate.LockOptions;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
@@ -37,6 +38,7 @@ import org.hibernate.sql.exec.spi.JdbcSelect;
 import org.hibernate.sql.results.graph.entity.LoadingEntityEntry;
 import org.hibernate.sql.results.internal.RowTransformerPassThruImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
@@ -50,6 +52,7 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 
 	private final PluralAttributeMapping attributeMapping;
 	private final int batchSize;
+	private final BatchSizeTuner batchSizeTuner;
 
 	private final int keyJdbcCount;
 
@@ -63,6 +66,7 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 			SessionFactoryImplementor sessionFactory) {
 		this.attributeMapping = attributeMapping;
 		this.batchSize = batchSize;
+		this.batchSizeTuner = BatchSizeTuner.from( batchSize, sessionFactory );
 
 		this.keyJdbcCount = attributeMapping.getKeyDescriptor().getJdbcTypeCount();
 
@@ -89,9 +93,17 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 	public PersistentCollection load(
 			Object key,
 			SharedSessionContractImplementor session) {
-		final Object[] batchIds = session.getPersistenceContextInternal()
-				.getBatchFetchQueue()
-				.getCollectionBatch( getLoadable().getCollectionDescriptor(), key, batchSize );
+		final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+		final int effectiveBatchSize = batchSizeTuner == null
+				? batchSize
+				: batchSizeTuner.determineBatchSize(
+						batchFetchQueue.getBatchLoadableCollectionCount( getLoadable().getCollectionDescriptor() )
+				);
+		final Object[] batchIds = batchFetchQueue.getCollectionBatch(
+				getLoadable().getCollectionDescriptor(),
+				key,
+				effectiveBatchSize
+		);
 
 		final int numberOfIds = ArrayHelper.countNonNull( batchIds );
 
@@ -120,6 +132,11 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 		}
 		else {
 			batchLoad( batchIds, numberOfIds , session );
+
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.batchFetchCollection( getLoadable().getCollectionDescriptor().getRole(), numberOfIds );
+			}
 		}
 
 		final CollectionKey collectionKey = new CollectionKey( attributeMapping.getCollectionDescriptor(), key );
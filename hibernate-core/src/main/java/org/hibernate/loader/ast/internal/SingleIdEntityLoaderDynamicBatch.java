@@ -13,7 +13,9 @@ import org.hibernate.LockOptions;
 import org.hibernate.engine.internal.BatchFetchQueueHelper;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
@@ -35,6 +37,7 @@ import org.hibernate.sql.exec.spi.JdbcSelect;
 import org.hibernate.sql.results.graph.entity.LoadingEntityEntry;
 import org.hibernate.sql.results.internal.RowTransformerPassThruImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
@@ -45,6 +48,7 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 	private static final Logger log = Logger.getLogger( SingleIdEntityLoaderDynamicBatch.class );
 
 	private final int maxBatchSize;
+	private final BatchSizeTuner batchSizeTuner;
 
 	private SingleIdEntityLoaderStandardImpl<T> singleIdLoader;
 
@@ -54,6 +58,7 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			SessionFactoryImplementor sessionFactory) {
 		super( entityDescriptor, sessionFactory );
 		this.maxBatchSize = maxBatchSize;
+		this.batchSizeTuner = BatchSizeTuner.from( maxBatchSize, sessionFactory );
 	}
 
 	@Override
@@ -68,9 +73,11 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			LockOptions lockOptions,
 			Boolean readOnly,
 			SharedSessionContractImplementor session) {
-		final Object[] batchIds = session.getPersistenceContextInternal()
-				.getBatchFetchQueue()
-				.getBatchLoadableEntityIds( getLoadable(), pkValue, maxBatchSize );
+		final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+		final int batchSize = batchSizeTuner == null
+				? maxBatchSize
+				: batchSizeTuner.determineBatchSize( batchFetchQueue.getBatchLoadableEntityKeyCount( getLoadable() ) );
+		final Object[] batchIds = batchFetchQueue.getBatchLoadableEntityIds( getLoadable(), pkValue, batchSize );
 
 		final int numberOfIds = ArrayHelper.countNonNull( batchIds );
 		if ( numberOfIds <= 1 ) {
@@ -156,16 +163,33 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 				ListResultsConsumer.UniqueSemantic.FILTER
 		);
 
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		int found = 0;
 		//noinspection ForLoopReplaceableByForEach
 		for ( int i = 0; i < idsToLoad.length; i++ ) {
 			final Object id = idsToLoad[i];
+			if ( batchSizeTuner != null ) {
+				final EntityKey key = session.generateEntityKey( id, getLoadable().getEntityPersister() );
+				if ( persistenceContext.getEntity( key ) != null ) {
+					found++;
+				}
+			}
 			// found or not, remove the key from the batch-fetch queye
 			BatchFetchQueueHelper.removeBatchLoadableEntityKey( id, getLoadable(), session );
 		}
 
+		if ( batchSizeTuner != null ) {
+			batchSizeTuner.recordBatch( numberOfIds, found );
+		}
+
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.batchFetchEntity( getLoadable().getEntityName(), numberOfIds );
+		}
+
 		final EntityKey entityKey = session.generateEntityKey( pkValue, getLoadable().getEntityPersister() );
 		//noinspection unchecked
-		return (T) session.getPersistenceContext().getEntity( entityKey );
+		return (T) persistenceContext.getEntity( entityKey );
 
 	}
 
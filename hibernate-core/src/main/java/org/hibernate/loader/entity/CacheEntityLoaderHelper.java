@@ -416,6 +416,10 @@ public class CacheEntityLoaderHelper {
 			isReadOnly = source.isDefaultReadOnly();
 		}
 
+		if ( !isReadOnly && factory.getSessionFactoryOptions().isSnapshotDeduplicationEnabled() ) {
+			persistenceContext.deduplicateLoadedState( subclassPersister, values );
+		}
+
 		persistenceContext.addEntry(
 				entity,
 				( isReadOnly ? Status.READ_ONLY : Status.MANAGED ),
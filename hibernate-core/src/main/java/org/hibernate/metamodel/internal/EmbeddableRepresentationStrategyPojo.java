@@ -6,7 +6,10 @@
  */
 package org.hibernate.metamodel.internal;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
@@ -167,27 +170,16 @@ public class EmbeddableRepresentationStrategyPojo extends AbstractEmbeddableRepr
 			return null;
 		}
 
-		if ( hasCustomAccessors() ) {
-			return null;
-		}
-
-		final String[] getterNames = new String[getPropertySpan()];
-		final String[] setterNames = new String[getPropertySpan()];
-		final Class<?>[] propTypes = new Class[getPropertySpan()];
-
-		for ( int i = 0; i < getPropertyAccesses().length; i++ ) {
-			final PropertyAccess propertyAccess = getPropertyAccesses()[i];
-
-			getterNames[i] = propertyAccess.getGetter().getMethodName();
-			setterNames[i] = propertyAccess.getSetter().getMethodName();
-			propTypes[i] = propertyAccess.getGetter().getReturnTypeClass();
+		final Map<String, PropertyAccess> propertyAccessMap = new LinkedHashMap<>();
+		final Iterator<Property> itr = bootDescriptor.getPropertyIterator();
+		int i = 0;
+		while ( itr.hasNext() ) {
+			propertyAccessMap.put( itr.next().getName(), getPropertyAccesses()[i++] );
 		}
 
 		return Environment.getBytecodeProvider().getReflectionOptimizer(
 				bootDescriptor.getComponentClass(),
-				getterNames,
-				setterNames,
-				propTypes
+				propertyAccessMap
 		);
 	}
 
@@ -7,9 +7,8 @@
 package org.hibernate.metamodel.internal;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -41,7 +40,6 @@ import org.hibernate.metamodel.spi.EntityInstantiator;
 import org.hibernate.metamodel.spi.EntityRepresentationStrategy;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
 import org.hibernate.persister.entity.EntityPersister;
-import org.hibernate.property.access.internal.PropertyAccessBasicImpl;
 import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
 import org.hibernate.property.access.internal.PropertyAccessStrategyIndexBackRefImpl;
 import org.hibernate.property.access.spi.BuiltInPropertyAccessStrategies;
@@ -304,44 +302,26 @@ public class EntityRepresentationStrategyPojoStandard implements EntityRepresent
 			javaTypeToReflect = mappedJtd.getJavaTypeClass();
 		}
 
-		final List<String> getterNames = new ArrayList<>();
-		final List<String> setterNames = new ArrayList<>();
-		final List<Class> getterTypes = new ArrayList<>();
-
-		boolean foundCustomAccessor = false;
+		final Map<String, PropertyAccess> propertyAccesses = new LinkedHashMap<>();
 
 		//noinspection unchecked
 		final Iterator<Property> itr = bootType.getPropertyClosureIterator();
-		int i = 0;
 		while ( itr.hasNext() ) {
 			//TODO: redesign how PropertyAccessors are acquired...
 			final Property property = itr.next();
 			final PropertyAccess propertyAccess = makePropertyAccess( property );
 
 			propertyAccessMap.put( property.getName(), propertyAccess );
-
-			if ( ! (propertyAccess instanceof PropertyAccessBasicImpl) ) {
-				foundCustomAccessor = true;
-			}
-
-			getterNames.add( propertyAccess.getGetter().getMethodName() );
-			getterTypes.add( propertyAccess.getGetter().getReturnTypeClass() );
-
-			setterNames.add( propertyAccess.getSetter().getMethodName() );
-
-			i++;
+			propertyAccesses.put( property.getName(), propertyAccess );
 		}
 
-		if ( foundCustomAccessor || ! Environment.useReflectionOptimizer() ) {
+		if ( ! Environment.useReflectionOptimizer() ) {
 			return null;
 		}
 
-		return bytecodeProvider.getReflectionOptimizer(
-				javaTypeToReflect,
-				getterNames.toArray( new String[0] ),
-				setterNames.toArray( new String[0] ),
-				getterTypes.toArray( new Class[0] )
-		);
+		// only optimized if every property is accessed through a field or getter and setter
+		// methods; those the generated code cannot access directly go through method handles
+		return bytecodeProvider.getReflectionOptimizer( javaTypeToReflect, propertyAccesses );
 	}
 
 	private PropertyAccess makePropertyAccess(Property bootAttributeDescriptor) {
@@ -7,9 +7,11 @@
 package org.hibernate.persister.collection;
 
 import java.io.Serializable;
+import java.math.BigInteger;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -17,6 +19,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.Consumer;
 
 import org.hibernate.AssertionFailure;
@@ -77,6 +80,7 @@ import org.hibernate.mapping.Selectable;
 import org.hibernate.mapping.Table;
 import org.hibernate.mapping.Value;
 import org.hibernate.metadata.CollectionMetadata;
+import org.hibernate.metamodel.CollectionClassification;
 import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.metamodel.mapping.internal.MappingModelCreationHelper;
@@ -173,6 +177,7 @@ public abstract class AbstractCollectionPersister
 
 	protected final boolean indexContainsFormula;
 	protected final boolean elementIsPureFormula;
+	private final boolean rowLocatableByElement;
 
 	// types
 	private final Type keyType;
@@ -445,6 +450,14 @@ public abstract class AbstractCollectionPersister
 			Arrays.fill( elementColumnIsInPrimaryKey, true );
 		}
 
+		boolean elementLocatesRow = !oneToMany && isMatchedExactlyBySqlEquality( elementType );
+		for ( int i = 0; i < elementSpan; i++ ) {
+			if ( elementColumnNames[i] == null || !elementColumnIsInPrimaryKey[i] ) {
+				elementLocatesRow = false;
+			}
+		}
+		rowLocatableByElement = elementLocatesRow;
+
 		// INDEX AND ROW SELECT
 
 		hasIndex = collectionBootDescriptor.isIndexed();
@@ -1366,6 +1379,39 @@ public abstract class AbstractCollectionPersister
 		return isLazy;
 	}
 
+	@Override
+	public boolean isRowLocatableByElement() {
+		return rowLocatableByElement && !hasIdentifier && !hasIndex;
+	}
+
+	private static final Set<Class<?>> EXACT_SQL_EQUALITY_TYPES = Set.of(
+			Long.class, Integer.class, Short.class, Byte.class, BigInteger.class, Boolean.class,
+			long.class, int.class, short.class, byte.class, boolean.class,
+			UUID.class, LocalDate.class
+	);
+
+	/**
+	 * Does the SQL equality of the element columns match {@link Type#isSame}?  If not, say for
+	 * strings under a case insensitive collation or in padded {@code char} columns, deleting the
+	 * rows of one element might also delete the rows of another element of the collection.
+	 */
+	private static boolean isMatchedExactlyBySqlEquality(Type elementType) {
+		if ( elementType.isEntityType() ) {
+			// the rows hold the identifier of the associated entity, which is unique in its table
+			return true;
+		}
+		if ( elementType.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) elementType ).getSubtypes() ) {
+				if ( !isMatchedExactlyBySqlEquality( subtype ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return !elementType.isAssociationType()
+				&& EXACT_SQL_EQUALITY_TYPES.contains( elementType.getReturnedClass() );
+	}
+
 	@Override
 	public boolean isInverse() {
 		return isInverse;
@@ -1601,7 +1647,11 @@ public abstract class AbstractCollectionPersister
 		}
 
 		boolean deleteByIndex = !isOneToMany() && hasIndex && !indexContainsFormula;
-		final Expectation expectation = Expectations.appropriateExpectation( getDeleteCheckStyle() );
+		// a bag may hold the same element more than once, and all of its rows are deleted together
+		final Expectation expectation = isRowLocatableByElement()
+				&& getCollectionSemantics().getCollectionClassification() == CollectionClassification.BAG
+				? Expectations.NONE
+				: Expectations.appropriateExpectation( getDeleteCheckStyle() );
 		try {
 			// delete all the deleted entries
 			Iterator<?> deletes = collection.getDeletes( this, !deleteByIndex );
@@ -151,6 +151,16 @@ public interface CollectionPersister extends CollectionDefinition, Restrictable
 
 	String getManyToManyFilterFragment(TableGroup tableGroup, Map<String, Filter> enabledFilters);
 
+	/**
+	 * Is the value of the element enough to locate the rows of this collection holding it?
+	 * That is the case when the rows are deleted by element, every element column is
+	 * part of the restriction of the row delete statement, and the SQL equality of the
+	 * element columns can not match distinct elements.
+	 */
+	default boolean isRowLocatableByElement() {
+		return false;
+	}
+
 	/**
 	 * Is this an "indexed" collection? (list or map)
 	 */
@@ -29,6 +29,7 @@ import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -115,6 +116,7 @@ import org.hibernate.internal.FilterHelper;
 import org.hibernate.internal.util.LazyValue;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.LockModeEnumMap;
 import org.hibernate.jdbc.Expectation;
@@ -287,10 +289,23 @@ public abstract class AbstractEntityPersister
 	private final String sqlAliasStem;
 	private EntityMappingType rootEntityDescriptor;
 
+	// the rendered SQL of the table reference joins of this entity's table groups,
+	// keyed by the aliases and join types they were rendered for
+	private final Map<Object, String> tableReferenceJoinFragments = new BoundedConcurrentHashMap<>(
+			128,
+			4,
+			BoundedConcurrentHashMap.Eviction.LRU
+	);
+
 	private final SingleIdEntityLoader<?> singleIdEntityLoader;
 	private final MultiIdEntityLoader<?> multiIdEntityLoader;
-	private NaturalIdLoader<?> naturalIdLoader;
-	private MultiNaturalIdLoader<?> multiNaturalIdLoader;
+	private volatile NaturalIdLoader<?> naturalIdLoader;
+	private volatile MultiNaturalIdLoader<?> multiNaturalIdLoader;
+
+	// guards the static SQL and loader preparation done in doLateInit(),
+	// which is deferred to first use when lazy metamodel initialization is enabled
+	private final ReentrantLock lateInitLock = new ReentrantLock();
+	private volatile boolean lateInitialized;
 
 	private SqmMultiTableMutationStrategy sqmMultiTableMutationStrategy;
 	private SqmMultiTableInsertStrategy sqmMultiTableInsertStrategy;
@@ -526,6 +541,7 @@ public abstract class AbstractEntityPersister
 	}
 
 	private boolean[] getTableHasColumns() {
+		ensureLateInitialized();
 		return tableHasColumns;
 	}
 
@@ -534,6 +550,7 @@ public abstract class AbstractEntityPersister
 	}
 
 	public String[] getSQLUpdateByRowIdStrings() {
+		ensureLateInitialized();
 		if ( sqlUpdateByRowIdString == null ) {
 			throw new AssertionFailure( "no update by row id" );
 		}
@@ -544,6 +561,7 @@ public abstract class AbstractEntityPersister
 	}
 
 	public String[] getSQLLazyUpdateByRowIdStrings() {
+		ensureLateInitialized();
 		if ( sqlLazyUpdateByRowIdString == null ) {
 			throw new AssertionFailure( "no update by row id" );
 		}
@@ -554,27 +572,33 @@ public abstract class AbstractEntityPersister
 	}
 
 	public String getSQLLazySelectString(String fetchGroup) {
+		ensureLateInitialized();
 		final SingleIdArrayLoadPlan singleIdLoadPlan = sqlLazySelectStringsByFetchGroup.get( fetchGroup );
 		return singleIdLoadPlan == null ? null : singleIdLoadPlan.getJdbcSelect().getSql();
 	}
 
 	public SingleIdArrayLoadPlan getSQLLazySelectLoadPlan(String fetchGroup) {
+		ensureLateInitialized();
 		return sqlLazySelectStringsByFetchGroup.get( fetchGroup );
 	}
 
 	public String[] getSQLDeleteStrings() {
+		ensureLateInitialized();
 		return sqlDeleteStrings;
 	}
 
 	public String[] getSQLInsertStrings() {
+		ensureLateInitialized();
 		return sqlInsertStrings;
 	}
 
 	public String[] getSQLUpdateStrings() {
+		ensureLateInitialized();
 		return sqlUpdateStrings;
 	}
 
 	public String[] getSQLLazyUpdateStrings() {
+		ensureLateInitialized();
 		return sqlLazyUpdateStrings;
 	}
 
@@ -596,10 +620,12 @@ public abstract class AbstractEntityPersister
 	 * @return The IDENTITY-based insertion query.
 	 */
 	public String getSQLIdentityInsertString() {
+		ensureLateInitialized();
 		return sqlIdentityInsertString;
 	}
 
 	public String getVersionSelectString() {
+		ensureLateInitialized();
 		return sqlVersionSelectString;
 	}
 
@@ -1253,6 +1279,18 @@ public abstract class AbstractEntityPersister
 		return sqlAliasStem;
 	}
 
+	/**
+	 * Cache for the rendered SQL of the table reference joins of this entity's
+	 * table groups.  The joins this persister generates only depend on the aliases
+	 * and join types of the table references, so the fragment rendered for a table
+	 * group can be reused by later translations using the same aliases.
+	 *
+	 * @see org.hibernate.sql.ast.spi.AbstractSqlAstTranslator#renderTableReferenceJoins
+	 */
+	public Map<Object, String> getTableReferenceJoinFragments() {
+		return tableReferenceJoinFragments;
+	}
+
 	@Override
 	public boolean containsTableReference(String tableExpression) {
 		if ( getTableName().equals( tableExpression ) ) {
@@ -2044,7 +2082,7 @@ public abstract class AbstractEntityPersister
 	}
 
 	public Object[] getDatabaseSnapshot(Object id, SharedSessionContractImplementor session) throws HibernateException {
-		return singleIdEntityLoader.loadDatabaseSnapshot( id, session );
+		return getSingleIdEntityLoader().loadDatabaseSnapshot( id, session );
 	}
 
 	@Override
@@ -3045,6 +3083,7 @@ public abstract class AbstractEntityPersister
 	 * @return The insert SQL statement string
 	 */
 	public String generateIdentityInsertString(boolean[] includeProperty) {
+		ensureLateInitialized();
 		Insert insert = identityDelegate.prepareIdentifierGeneratingInsert( factory.getSqlStringGenerationContext() );
 		insert.setTableName( getTableName( 0 ) );
 
@@ -3232,6 +3271,7 @@ public abstract class AbstractEntityPersister
 			String sql,
 			final Object object,
 			final SharedSessionContractImplementor session) throws HibernateException {
+		ensureLateInitialized();
 
 		if ( LOG.isTraceEnabled() ) {
 			LOG.tracev( "Inserting entity: {0} (native id)", getEntityName() );
@@ -4171,8 +4211,55 @@ public abstract class AbstractEntityPersister
 		else {
 			sqlIdentityInsertString = null;
 		}
+	}
+
+	/**
+	 * Performs {@link #doLateInit()} and prepares the id loaders, unless that was
+	 * already done.  The fields written here are safely published through the
+	 * volatile {@link #lateInitialized} flag.
+	 */
+	private void ensureLateInitialized() {
+		if ( lateInitialized ) {
+			return;
+		}
+		lateInitLock.lock();
+		try {
+			if ( !lateInitialized ) {
+				doLateInit();
+				prepareLoader( singleIdEntityLoader );
+				prepareLoader( multiIdEntityLoader );
+				lateInitialized = true;
+				logStaticSQL();
+			}
+		}
+		finally {
+			lateInitLock.unlock();
+		}
+	}
+
+	/**
+	 * The validation-only counterpart of {@link #doLateInit()} used when the
+	 * static SQL is built lazily: custom SQL is still parsed at boot so that
+	 * mapping errors are reported up front.
+	 */
+	private void validateLateInit() {
+		for ( int j = 0; j < getTableSpan(); j++ ) {
+			validateCustomSql( customSQLInsert[j] );
+			validateCustomSql( customSQLUpdate[j] );
+			validateCustomSql( customSQLDelete[j] );
+		}
+		if ( isIdentifierAssignedByInsert()
+				&& !( getIdentifierGenerator() instanceof PostInsertIdentifierGenerator ) ) {
+			throw new MappingException(
+					"Identifier of entity [" + getEntityName() + "] is assigned by insert, but its generator is not a PostInsertIdentifierGenerator"
+			);
+		}
+	}
 
-		logStaticSQL();
+	private void validateCustomSql(String customSql) {
+		if ( customSql != null ) {
+			substituteBrackets( customSql );
+		}
 	}
 
 	private String substituteBrackets(String sql) {
@@ -4180,10 +4267,12 @@ public abstract class AbstractEntityPersister
 	}
 
 	public final void postInstantiate() throws MappingException {
-		doLateInit();
-
-		prepareLoader( singleIdEntityLoader );
-		prepareLoader( multiIdEntityLoader );
+		if ( factory.getSessionFactoryOptions().isLazyMetamodelInitializationEnabled() ) {
+			validateLateInit();
+		}
+		else {
+			ensureLateInitialized();
+		}
 
 		doPostInstantiate();
 	}
@@ -4226,14 +4315,15 @@ public abstract class AbstractEntityPersister
 		}
 
 		if ( optionalObject == null ) {
-			return singleIdEntityLoader.load( id, lockOptions, readOnly, session );
+			return getSingleIdEntityLoader().load( id, lockOptions, readOnly, session );
 		}
 		else {
-			return singleIdEntityLoader.load( id, optionalObject, lockOptions, readOnly, session );
+			return getSingleIdEntityLoader().load( id, optionalObject, lockOptions, readOnly, session );
 		}
 	}
 
 	public SingleIdEntityLoader<?> getSingleIdEntityLoader() {
+		ensureLateInitialized();
 		return singleIdEntityLoader;
 	}
 
@@ -4256,7 +4346,7 @@ public abstract class AbstractEntityPersister
 				loaded = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( loadEvent, this, entityKey );
 			}
 			if ( loaded == null ) {
-				loaded = singleIdEntityLoader.load(
+				loaded = getSingleIdEntityLoader().load(
 						identifier,
 						entity,
 						LockOptions.NONE,
@@ -4303,6 +4393,7 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public List<?> multiLoad(Object[] ids, SharedSessionContractImplementor session, MultiIdLoadOptions loadOptions) {
+		ensureLateInitialized();
 		return multiIdEntityLoader.load( ids, loadOptions, session );
 	}
 
@@ -4733,6 +4824,7 @@ public abstract class AbstractEntityPersister
 	 */
 	@Deprecated
 	public InsertGeneratedIdentifierDelegate getIdentityDelegate() {
+		ensureLateInitialized();
 		return identityDelegate;
 	}
 
@@ -5287,22 +5379,44 @@ public abstract class AbstractEntityPersister
 	public NaturalIdLoader<?> getNaturalIdLoader() {
 		verifyHasNaturalId();
 
-		if ( naturalIdLoader == null ) {
-			naturalIdLoader = naturalIdMapping.makeLoader( this );
+		NaturalIdLoader<?> loader = naturalIdLoader;
+		if ( loader == null ) {
+			lateInitLock.lock();
+			try {
+				loader = naturalIdLoader;
+				if ( loader == null ) {
+					loader = naturalIdMapping.makeLoader( this );
+					naturalIdLoader = loader;
+				}
+			}
+			finally {
+				lateInitLock.unlock();
+			}
 		}
 
-		return naturalIdLoader;
+		return loader;
 	}
 
 	@Override
 	public MultiNaturalIdLoader<?> getMultiNaturalIdLoader() {
 		verifyHasNaturalId();
 
-		if ( multiNaturalIdLoader == null ) {
-			multiNaturalIdLoader = naturalIdMapping.makeMultiLoader( this );
+		MultiNaturalIdLoader<?> loader = multiNaturalIdLoader;
+		if ( loader == null ) {
+			lateInitLock.lock();
+			try {
+				loader = multiNaturalIdLoader;
+				if ( loader == null ) {
+					loader = naturalIdMapping.makeMultiLoader( this );
+					multiNaturalIdLoader = loader;
+				}
+			}
+			finally {
+				lateInitLock.unlock();
+			}
 		}
 
-		return multiNaturalIdLoader;
+		return loader;
 	}
 
 	@Override
@@ -43,7 +43,7 @@ public class SetterFieldImpl implements Setter {
 		return propertyName;
 	}
 
-	protected Field getField() {
+	public Field getField() {
 		return field;
 	}
 
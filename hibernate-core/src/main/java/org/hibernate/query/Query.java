@@ -16,6 +16,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.LockModeType;
@@ -179,6 +180,48 @@ public interface Query<R> extends TypedQuery<R>, CommonQueryContract {
 	 */
 	Optional<R> uniqueResultOptional();
 
+	/**
+	 * Asynchronously return the query results as a {@link List}, as per {@link #list()}.
+	 * <p/>
+	 * The query is executed using the executor configured via
+	 * {@value org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR}.  Asynchronous
+	 * operations against the same session are serialised in submission order, so
+	 * the session is never accessed concurrently by them.  The calling thread
+	 * should not otherwise use the session until the returned stage completes.
+	 * The query runs on a thread of the executor, so a JTA transaction or tenant
+	 * bound to the calling thread does not apply to it.
+	 *
+	 * @return A stage completed with the result list
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	CompletionStage<List<R>> getResultListAsync();
+
+	/**
+	 * Asynchronously return the single result of the query, as per {@link #uniqueResult()}.
+	 *
+	 * @return A stage completed with the single result, or {@code null}
+	 *
+	 * @see #getResultListAsync()
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	CompletionStage<R> uniqueResultAsync();
+
+	/**
+	 * Asynchronously execute an update or delete statement, as per {@link #executeUpdate()}.
+	 *
+	 * @return A stage completed with the number of entities updated or deleted
+	 *
+	 * @see #getResultListAsync()
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	CompletionStage<Integer> executeUpdateAsync();
+
 	/**
 	 * Retrieve a Stream over the query results.
 	 * <p/>
@@ -9,12 +9,17 @@ package org.hibernate.query.hql.internal;
 import org.hibernate.grammars.hql.HqlLexer;
 import org.hibernate.grammars.hql.HqlParser;
 import org.hibernate.query.hql.HqlLogging;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 
 /**
  * Leverages Antlr to build a parse tree from an HQL query
@@ -50,4 +55,63 @@ public class HqlParseTreeBuilder {
 		// Build the lexer
 		return buildHqlParser( hql, buildHqlLexer( hql ) );
 	}
+
+	/**
+	 * Build the parse tree for the given HQL, without any semantic analysis.  Since
+	 * this needs neither a SessionFactory nor the domain model, it can also be used
+	 * to check the syntax of queries at build time.
+	 *
+	 * @throws org.hibernate.query.sqm.ParsingException If the query is not syntactically valid
+	 */
+	public HqlParser.StatementContext parseHql(String hql) {
+		return parseHql( hql, null );
+	}
+
+	/**
+	 * Build the parse tree for the given HQL, recording the parse to the given statistics
+	 * if it succeeds.
+	 *
+	 * @param statistics The statistics to record the parse to, or {@code null} if it is not to be recorded
+	 *
+	 * @throws org.hibernate.query.sqm.ParsingException If the query is not syntactically valid
+	 *
+	 * @see StatisticsImplementor#hqlParsed
+	 */
+	public HqlParser.StatementContext parseHql(String hql, StatisticsImplementor statistics) {
+		// Build the lexer
+		final HqlLexer hqlLexer = buildHqlLexer( hql );
+
+		// Build the parse tree
+		final HqlParser hqlParser = buildHqlParser( hql, hqlLexer );
+
+		// try to use SLL(k)-based parsing first - its faster
+		hqlLexer.addErrorListener( StandardHqlTranslator.ERR_LISTENER );
+		hqlParser.getInterpreter().setPredictionMode( PredictionMode.SLL );
+		hqlParser.removeErrorListeners();
+		hqlParser.addErrorListener( StandardHqlTranslator.ERR_LISTENER );
+		hqlParser.setErrorHandler( new BailErrorStrategy() );
+
+		final HqlParser.StatementContext statement = parseStatement( hqlLexer, hqlParser );
+		if ( statistics != null ) {
+			statistics.hqlParsed( hqlParser.getInterpreter().getPredictionMode() == PredictionMode.LL );
+		}
+		return statement;
+	}
+
+	private static HqlParser.StatementContext parseStatement(HqlLexer hqlLexer, HqlParser hqlParser) {
+		try {
+			return hqlParser.statement();
+		}
+		catch ( ParseCancellationException e) {
+			// reset the input token stream and parser state
+			hqlLexer.reset();
+			hqlParser.reset();
+
+			// fall back to LL(k)-based parsing
+			hqlParser.getInterpreter().setPredictionMode( PredictionMode.LL );
+			hqlParser.setErrorHandler( new DefaultErrorStrategy() );
+
+			return hqlParser.statement();
+		}
+	}
 }
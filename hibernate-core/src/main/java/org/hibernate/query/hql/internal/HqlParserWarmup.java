@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.hql.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.query.sqm.ParsingException;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Warms up the HQL parser by parsing a corpus of queries.  Antlr keeps the DFA
+ * states it computes during prediction in caches shared by every parser instance,
+ * so parsing representative queries up front spares the first real queries the
+ * cost of computing them.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#HQL_PARSER_WARMUP
+ * @see org.hibernate.stat.Statistics#getHqlParseLlFallbackCount()
+ */
+public class HqlParserWarmup {
+	private static final Logger log = Logger.getLogger( HqlParserWarmup.class );
+
+	/**
+	 * Queries covering the commonly used parts of the grammar.  The names used here
+	 * need not refer to anything - only the syntax matters to the parser.
+	 */
+	public static final List<String> STANDARD_QUERIES = Collections.unmodifiableList( Arrays.asList(
+			"from Entity",
+			"select e from Entity e",
+			"select e.id, e.name from Entity as e where e.name = :name",
+			"select e from Entity e where e.id in (:ids) order by e.name desc, e.id",
+			"select e from Entity e where e.id = ?1 and e.version <> ?2",
+			"select e from Entity e join e.children c left join fetch e.parent p where c.value > 10",
+			"select e from Entity e inner join Other o on o.entity = e where o.code like 'A%'",
+			"select distinct e.type from Entity e where e.value between 1 and 10 or e.value is null",
+			"select e from Entity e where e.name is not null and not e.active = true",
+			"select count(e), max(e.value), min(e.value), avg(e.value), sum(e.value) from Entity e group by e.type having count(e) > 1",
+			"select e from Entity e where exists (select 1 from Other o where o.entity = e)",
+			"select e from Entity e where e.id not in (select o.id from Other o where o.value >= 0)",
+			"select e from Entity e where e.value > all (select o.value from Other o)",
+			"select case when e.value > 0 then 'positive' when e.value < 0 then 'negative' else 'zero' end from Entity e",
+			"select case e.type when 1 then 'one' else 'other' end from Entity e",
+			"select new org.acme.Summary(e.id, e.name) from Entity e",
+			"select upper(e.name), lower(e.name), length(e.name), concat(e.name, '-', e.code) from Entity e",
+			"select substring(e.name, 1, 2), trim(e.name), locate('a', e.name), abs(e.value), mod(e.value, 2) from Entity e",
+			"select coalesce(e.name, 'none'), nullif(e.value, 0), cast(e.value as String) from Entity e",
+			"select e from Entity e where e.created < current_date and e.updated > current_timestamp",
+			"select e from Entity e where type(e) = Other and size(e.children) > 2",
+			"select key(m), value(m) from Entity e join e.attributes m where e.children is not empty",
+			"select e from Entity e where e member of e.parent.children",
+			"select e from Entity e order by e.name asc nulls last",
+			"update Entity e set e.name = :name, e.value = e.value + 1 where e.id = :id",
+			"update versioned Entity set value = 0",
+			"delete from Entity e where e.id = :id",
+			"delete Entity where active = false",
+			"insert into Entity (id, name) select o.id, o.name from Other o"
+	) );
+
+	private HqlParserWarmup() {
+	}
+
+	/**
+	 * Parse the {@link #STANDARD_QUERIES standard corpus} followed by the given queries.
+	 * These parses are not recorded to the statistics, which only count the application's
+	 * own queries.
+	 */
+	public static void warmUp(List<String> additionalQueries) {
+		final List<String> queries = new ArrayList<>( STANDARD_QUERIES );
+		queries.addAll( additionalQueries );
+
+		final long start = System.nanoTime();
+		for ( String query : queries ) {
+			try {
+				HqlParseTreeBuilder.INSTANCE.parseHql( query );
+			}
+			catch (ParsingException e) {
+				// the query is reported when it is actually used
+				log.debugf( "Unable to parse query during HQL parser warm-up : %s", query );
+			}
+		}
+
+		log.debugf(
+				"Warmed up HQL parser with %s queries in %s ms",
+				queries.size(),
+				( System.nanoTime() - start ) / 1_000_000
+		);
+	}
+
+	/**
+	 * Read the queries, one per line, from the named classpath resource
+	 */
+	public static List<String> readQueries(String resourceName, ClassLoaderService classLoaderService) {
+		final InputStream stream = classLoaderService.locateResourceStream( resourceName );
+		if ( stream == null ) {
+			throw new HibernateException( "Could not locate HQL parser warm-up queries : " + resourceName );
+		}
+
+		final List<String> queries = new ArrayList<>();
+		try ( BufferedReader reader = new BufferedReader( new InputStreamReader( stream, StandardCharsets.UTF_8 ) ) ) {
+			String line;
+			while ( ( line = reader.readLine() ) != null ) {
+				line = line.trim();
+				if ( !line.isEmpty() && !line.startsWith( "#" ) ) {
+					queries.add( line );
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Unable to read HQL parser warm-up queries : " + resourceName, e );
+		}
+		return queries;
+	}
+}
@@ -21,6 +21,7 @@ import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.spi.SimpleHqlInterpretationImpl;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.internal.SqmInterpretationsKey;
 import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -88,6 +89,9 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		if ( cached != null ) {
 			if ( stats ) {
 				statistics.queryPlanCacheHit( key.getQueryString() );
+				if ( isCriteria( key ) ) {
+					statistics.criteriaQueryPlanCacheHit();
+				}
 			}
 			return cached;
 		}
@@ -96,10 +100,17 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		queryPlanCache.put( key.prepareForStore(), plan );
 		if ( stats ) {
 			statistics.queryPlanCacheMiss( key.getQueryString() );
+			if ( isCriteria( key ) ) {
+				statistics.criteriaQueryPlanCacheMiss();
+			}
 		}
 		return plan;
 	}
 
+	private static boolean isCriteria(Key key) {
+		return key instanceof SqmInterpretationsKey && ( (SqmInterpretationsKey) key ).getStructure() != null;
+	}
+
 	@Override
 	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
 		log.tracef( "QueryPlan#getNonSelectQueryPlan(%s)", key );
@@ -22,6 +22,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import jakarta.persistence.CacheRetrieveMode;
@@ -1560,6 +1561,21 @@ public abstract class AbstractQuery<R> implements QueryImplementor<R> {
 
 	protected abstract int doExecuteUpdate();
 
+	@Override
+	public CompletionStage<List<R>> getResultListAsync() {
+		return getSession().executeAsync( this::list );
+	}
+
+	@Override
+	public CompletionStage<R> uniqueResultAsync() {
+		return getSession().executeAsync( this::uniqueResult );
+	}
+
+	@Override
+	public CompletionStage<Integer> executeUpdateAsync() {
+		return getSession().executeAsync( this::executeUpdate );
+	}
+
 
 
 	@Override
@@ -29,6 +29,7 @@ import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.metamodel.model.domain.JpaMetamodel;
 import org.hibernate.query.criteria.ValueHandlingMode;
 import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.hql.internal.HqlParserWarmup;
 import org.hibernate.query.hql.internal.StandardHqlTranslator;
 import org.hibernate.query.hql.spi.SqmCreationOptions;
 import org.hibernate.query.internal.QueryInterpretationCacheDisabledImpl;
@@ -376,6 +377,28 @@ public class QueryEngine {
 			MetadataImplementor bootMetamodel,
 			BootstrapContext bootstrapContext) {
 		namedObjectRepository.prepare( sessionFactory, bootMetamodel, bootstrapContext );
+
+		final Map<String, Object> properties = sessionFactory.getProperties();
+		if ( ConfigurationHelper.getBoolean( AvailableSettings.HQL_PARSER_WARMUP, properties, false ) ) {
+			final List<String> queries = new ArrayList<>();
+			final String queriesResource = ConfigurationHelper.getString(
+					AvailableSettings.HQL_PARSER_WARMUP_QUERIES,
+					properties
+			);
+			if ( queriesResource != null ) {
+				queries.addAll(
+						HqlParserWarmup.readQueries(
+								queriesResource,
+								bootstrapContext.getServiceRegistry().getService( ClassLoaderService.class )
+						)
+				);
+			}
+			if ( !sessionFactory.getSessionFactoryOptions().isNamedQueryStartupCheckingEnabled() ) {
+				// otherwise the named queries are parsed once they are checked, right after the warm-up
+				namedObjectRepository.visitHqlQueryMementos( memento -> queries.add( memento.getHqlString() ) );
+			}
+			HqlParserWarmup.warmUp( queries );
+		}
 	}
 
 	public NamedObjectRepository getNamedObjectRepository() {
@@ -62,6 +62,20 @@ public class SelfRenderingSqmAggregateFunction<T> extends SelfRenderingSqmFuncti
 		return filter;
 	}
 
+	@Override
+	public SelfRenderingSqmAggregateFunction<T> copy(List<? extends SqmTypedNode<?>> arguments) {
+		return new SelfRenderingSqmAggregateFunction<>(
+				getFunctionDescriptor(),
+				getRenderingSupport(),
+				arguments,
+				filter,
+				getImpliedResultType(),
+				getReturnTypeResolver(),
+				nodeBuilder(),
+				getFunctionName()
+		);
+	}
+
 	@Override
 	public void appendHqlString(StringBuilder sb) {
 		final List<? extends SqmTypedNode<?>> arguments = getArguments();
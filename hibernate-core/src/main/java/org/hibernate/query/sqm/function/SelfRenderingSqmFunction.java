@@ -52,6 +52,29 @@ public class SelfRenderingSqmFunction<T> extends SqmFunction<T> {
 		return renderingSupport;
 	}
 
+	/**
+	 * Copy this function, applied to the given arguments instead
+	 */
+	public SelfRenderingSqmFunction<T> copy(List<? extends SqmTypedNode<?>> arguments) {
+		return new SelfRenderingSqmFunction<>(
+				getFunctionDescriptor(),
+				renderingSupport,
+				arguments,
+				impliedResultType,
+				returnTypeResolver,
+				nodeBuilder(),
+				getFunctionName()
+		);
+	}
+
+	protected AllowableFunctionReturnType<T> getImpliedResultType() {
+		return impliedResultType;
+	}
+
+	protected FunctionReturnTypeResolver getReturnTypeResolver() {
+		return returnTypeResolver;
+	}
+
 	protected static List<SqlAstNode> resolveSqlAstArguments(List<? extends SqmTypedNode<?>> sqmArguments, SqmToSqlAstConverter walker) {
 		if ( sqmArguments == null || sqmArguments.isEmpty() ) {
 			return emptyList();
@@ -53,6 +53,7 @@ import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import jakarta.persistence.Tuple;
 import jakarta.persistence.TupleElement;
@@ -75,7 +76,15 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
-	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	/**
+	 * The maximum number of JdbcSelect variants kept per plan
+	 */
+	private static final int MAX_INTERPRETATION_VARIANTS = 4;
+	private static final CacheableSqmInterpretation[] NO_INTERPRETATIONS = new CacheableSqmInterpretation[0];
+
+	// The translations of this plan, which differ by limit shape, lock options or parameter
+	// dependent rendering.  Oldest first; replaced wholesale when a variant is added.
+	private volatile CacheableSqmInterpretation[] cacheableSqmInterpretations = NO_INTERPRETATIONS;
 
 	@SuppressWarnings("WeakerAccess")
 	public ConcreteSqmSelectQueryPlan(
@@ -279,33 +288,33 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		//		to protect access.  However, synchronized is much simpler here.  We will verify
 		// 		during throughput testing whether this is an issue and consider changes then
 
-		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
-		JdbcParameterBindings jdbcParameterBindings = null;
-
-		if ( localCopy == null ) {
-			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
-				if ( localCopy == null ) {
-					localCopy = buildCacheableSqmInterpretation(
-							sqm,
-							domainParameterXref,
-							executionContext
-					);
-					jdbcParameterBindings = localCopy.firstParameterBindings;
-					localCopy.firstParameterBindings = null;
-					cacheableSqmInterpretation = localCopy;
-				}
+		final CacheableSqmInterpretation[] variants = cacheableSqmInterpretations;
+		for ( CacheableSqmInterpretation variant : variants ) {
+			final JdbcParameterBindings jdbcParameterBindings = resolveCompatibleBindings( variant, executionContext );
+			if ( jdbcParameterBindings != null ) {
+				recordVariantHit( executionContext );
+				return interpreter.interpret( context, executionContext, variant, jdbcParameterBindings );
 			}
 		}
-		else {
-			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
-			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
-				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+
+		CacheableSqmInterpretation localCopy = null;
+		JdbcParameterBindings jdbcParameterBindings = null;
+		synchronized ( this ) {
+			// Check again after having acquired the lock, another thread might have added a compatible variant
+			final CacheableSqmInterpretation[] currentVariants = cacheableSqmInterpretations;
+			if ( currentVariants != variants ) {
+				for ( CacheableSqmInterpretation variant : currentVariants ) {
+					jdbcParameterBindings = resolveCompatibleBindings( variant, executionContext );
+					if ( jdbcParameterBindings != null ) {
+						localCopy = variant;
+						break;
+					}
+				}
 			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
-			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+
+			if ( localCopy == null ) {
+				// None of the variants is compatible with the current limit, lock options or parameter bindings,
+				// so translate from SQM to SQL AST again and keep the result as an additional variant
 				localCopy = buildCacheableSqmInterpretation(
 						sqm,
 						domainParameterXref,
@@ -313,15 +322,76 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				);
 				jdbcParameterBindings = localCopy.firstParameterBindings;
 				localCopy.firstParameterBindings = null;
-				cacheableSqmInterpretation = localCopy;
+				cacheableSqmInterpretations = addVariant( currentVariants, localCopy );
+				if ( currentVariants.length > 0 ) {
+					recordVariantMiss( executionContext );
+				}
+			}
+			else {
+				recordVariantHit( executionContext );
 			}
 		}
 
+		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
+	}
+
+	/**
+	 * Create the parameter bindings for the given variant if its JdbcSelect is compatible
+	 * with the current query options and parameter bindings
+	 *
+	 * @return The bindings, or {@code null} if the variant is not compatible
+	 */
+	private JdbcParameterBindings resolveCompatibleBindings(
+			CacheableSqmInterpretation variant,
+			DomainQueryExecutionContext executionContext) {
+		JdbcParameterBindings jdbcParameterBindings = null;
+		// If the translation depends on parameter bindings we need them to check compatibility
+		if ( variant.jdbcSelect.dependsOnParameterBindings() ) {
+			jdbcParameterBindings = createJdbcParameterBindings( variant, executionContext );
+		}
+		if ( !variant.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+			return null;
+		}
 		if ( jdbcParameterBindings == null ) {
-			jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+			jdbcParameterBindings = createJdbcParameterBindings( variant, executionContext );
 		}
+		return jdbcParameterBindings;
+	}
 
-		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
+	private static CacheableSqmInterpretation[] addVariant(
+			CacheableSqmInterpretation[] variants,
+			CacheableSqmInterpretation variant) {
+		final CacheableSqmInterpretation[] newVariants;
+		if ( variants.length < MAX_INTERPRETATION_VARIANTS ) {
+			newVariants = new CacheableSqmInterpretation[variants.length + 1];
+			System.arraycopy( variants, 0, newVariants, 0, variants.length );
+		}
+		else {
+			// evict the oldest variant
+			newVariants = new CacheableSqmInterpretation[variants.length];
+			System.arraycopy( variants, 1, newVariants, 0, variants.length - 1 );
+		}
+		newVariants[newVariants.length - 1] = variant;
+		return newVariants;
+	}
+
+	private String statisticsQueryString() {
+		// criteria queries have no meaningful query string to group the statistics by
+		return CRITERIA_HQL_STRING.equals( hql ) ? null : hql;
+	}
+
+	private void recordVariantHit(DomainQueryExecutionContext executionContext) {
+		final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanVariantHit( statisticsQueryString() );
+		}
+	}
+
+	private void recordVariantMiss(DomainQueryExecutionContext executionContext) {
+		final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanVariantMiss( statisticsQueryString() );
+		}
 	}
 
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
@@ -0,0 +1,172 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.query.spi.SelectQueryPlan;
+
+/**
+ * The cached plan of a criteria query, which is shared by all criteria queries
+ * of the same {@link SqmStructure structure}.
+ * <p/>
+ * The underlying plan is built for a {@link SqmStructure#copy copy} of the tree of
+ * the query which first needed it, as criteria trees remain mutable.  The copy
+ * shares the parameters of that query, and other queries execute the plan through
+ * {@link #forStatement}, which resolves the bindings of the plan's parameters to
+ * the bindings of the matching parameters of the executing query.
+ */
+public class CriteriaSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	private final SqmStructure structure;
+	private final SelectQueryPlan<R> delegate;
+
+	public CriteriaSelectQueryPlan(SqmStructure structure, SelectQueryPlan<R> delegate) {
+		this.structure = structure;
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Access to this plan for executing a statement of the same structure as the
+	 * statement this plan was built for
+	 *
+	 * @param statementStructure The structure of the statement to execute
+	 */
+	public SelectQueryPlan<R> forStatement(SqmStructure statementStructure) {
+		final List<? extends QueryParameterImplementor<?>> planParameters = structure.getParameters();
+		final List<? extends QueryParameterImplementor<?>> statementParameters = statementStructure.getParameters();
+		Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterXref = null;
+		for ( int i = 0; i < planParameters.size(); i++ ) {
+			if ( planParameters.get( i ) != statementParameters.get( i ) ) {
+				if ( parameterXref == null ) {
+					parameterXref = new IdentityHashMap<>( planParameters.size() );
+				}
+				parameterXref.put( planParameters.get( i ), statementParameters.get( i ) );
+			}
+		}
+		// the statement this plan was built for binds the very same parameters
+		return parameterXref == null ? this : new SharedPlan<>( delegate, parameterXref );
+	}
+
+	@Override
+	public List<R> performList(DomainQueryExecutionContext executionContext) {
+		return delegate.performList( executionContext );
+	}
+
+	@Override
+	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+		return delegate.performScroll( scrollMode, executionContext );
+	}
+
+	private static class SharedPlan<R> implements SelectQueryPlan<R> {
+		private final SelectQueryPlan<R> delegate;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterXref;
+
+		private SharedPlan(
+				SelectQueryPlan<R> delegate,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterXref) {
+			this.delegate = delegate;
+			this.parameterXref = parameterXref;
+		}
+
+		@Override
+		public List<R> performList(DomainQueryExecutionContext executionContext) {
+			return delegate.performList( adapt( executionContext ) );
+		}
+
+		@Override
+		public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+			return delegate.performScroll( scrollMode, adapt( executionContext ) );
+		}
+
+		private DomainQueryExecutionContext adapt(DomainQueryExecutionContext executionContext) {
+			final QueryParameterBindings bindings = new ParameterBindingsAdapter(
+					executionContext.getQueryParameterBindings(),
+					parameterXref
+			);
+			return new DelegatingDomainQueryExecutionContext( executionContext ) {
+				@Override
+				public QueryParameterBindings getQueryParameterBindings() {
+					return bindings;
+				}
+			};
+		}
+	}
+
+	/**
+	 * Exposes the bindings of the executing query's parameters as the bindings of
+	 * the parameters the plan was built for
+	 */
+	private static class ParameterBindingsAdapter implements QueryParameterBindings {
+		private final QueryParameterBindings delegate;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterXref;
+
+		private ParameterBindingsAdapter(
+				QueryParameterBindings delegate,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterXref) {
+			this.delegate = delegate;
+			this.parameterXref = parameterXref;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <P> QueryParameterImplementor<P> resolve(QueryParameterImplementor<P> parameter) {
+			final QueryParameterImplementor<?> resolved = parameterXref.get( parameter );
+			return resolved == null ? parameter : (QueryParameterImplementor<P>) resolved;
+		}
+
+		@Override
+		public boolean isBound(QueryParameterImplementor<?> parameter) {
+			return delegate.isBound( resolve( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(QueryParameterImplementor<P> parameter) {
+			return delegate.getBinding( resolve( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(String name) {
+			return delegate.getBinding( name );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(int position) {
+			return delegate.getBinding( position );
+		}
+
+		@Override
+		public void validate() {
+			delegate.validate();
+		}
+
+		@Override
+		public boolean hasAnyMultiValuedBindings() {
+			return delegate.hasAnyMultiValuedBindings();
+		}
+
+		@Override
+		public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(SharedSessionContractImplementor persistenceContext) {
+			return delegate.generateQueryKeyMemento( persistenceContext );
+		}
+
+		@Override
+		public void visitBindings(BiConsumer<QueryParameterImplementor<?>, QueryParameterBinding<?>> action) {
+			delegate.visitBindings( action );
+		}
+	}
+}
@@ -808,8 +808,18 @@ public class QuerySqmImpl<R>
 		// 		- the determination of these circumstances occurs in SqmInterpretationsKey#generateFrom.
 		//		If SqmInterpretationsKey#generateFrom returns null the query is not cacheable
 
-		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.generateFrom( this );
+		final SqmInterpretationsKey cacheKey = SqmInterpretationsKey.generateFrom( this );
 		if ( cacheKey != null ) {
+			final SqmStructure structure = cacheKey.getStructure();
+			if ( structure != null ) {
+				// a criteria query, whose plan may have been built for another query of the same structure
+				final CriteriaSelectQueryPlan<R> queryPlan = (CriteriaSelectQueryPlan<R>) getSession().getFactory()
+						.getQueryEngine()
+						.getInterpretationCache()
+						.resolveSelectQueryPlan( cacheKey, () -> buildCriteriaSelectQueryPlan( structure ) );
+				return queryPlan.forStatement( structure );
+			}
+
 			return getSession().getFactory().getQueryEngine().getInterpretationCache().resolveSelectQueryPlan(
 					cacheKey,
 					this::buildSelectQueryPlan
@@ -820,25 +830,40 @@ public class QuerySqmImpl<R>
 		}
 	}
 
+	private CriteriaSelectQueryPlan<R> buildCriteriaSelectQueryPlan(SqmStructure structure) {
+		// the plan is shared, so it is built for a copy of the tree the application may still change
+		final SqmSelectStatement<R> copy = SqmStructure.copy( (SqmSelectStatement<R>) getSqmStatement() );
+		return new CriteriaSelectQueryPlan<>( structure, buildSelectQueryPlan( copy, DomainParameterXref.from( copy ) ) );
+	}
+
 	private SelectQueryPlan<R> buildSelectQueryPlan() {
+		return buildSelectQueryPlan( (SqmSelectStatement<R>) getSqmStatement(), domainParameterXref );
+	}
+
+	private SelectQueryPlan<R> buildSelectQueryPlan(
+			SqmSelectStatement<R> sqmStatement,
+			DomainParameterXref domainParameterXref) {
 		final SqmSelectStatement<R>[] concreteSqmStatements = QuerySplitter.split(
-				(SqmSelectStatement<R>) getSqmStatement(),
+				sqmStatement,
 				getSessionFactory()
 		);
 
 		if ( concreteSqmStatements.length > 1 ) {
-			return buildAggregatedSelectQueryPlan( concreteSqmStatements );
+			return buildAggregatedSelectQueryPlan( concreteSqmStatements, domainParameterXref );
 		}
 		else {
 			return buildConcreteSelectQueryPlan(
 					concreteSqmStatements[0],
+					domainParameterXref,
 					getResultType(),
 					getQueryOptions()
 			);
 		}
 	}
 
-	private SelectQueryPlan<R> buildAggregatedSelectQueryPlan(SqmSelectStatement<R>[] concreteSqmStatements) {
+	private SelectQueryPlan<R> buildAggregatedSelectQueryPlan(
+			SqmSelectStatement<R>[] concreteSqmStatements,
+			DomainParameterXref domainParameterXref) {
 		@SuppressWarnings("unchecked")
 		final SelectQueryPlan<R>[] aggregatedQueryPlans = new SelectQueryPlan[ concreteSqmStatements.length ];
 
@@ -847,6 +872,7 @@ public class QuerySqmImpl<R>
 		for ( int i = 0, x = concreteSqmStatements.length; i < x; i++ ) {
 			aggregatedQueryPlans[i] = buildConcreteSelectQueryPlan(
 					concreteSqmStatements[i],
+					domainParameterXref,
 					getResultType(),
 					getQueryOptions()
 			);
@@ -857,6 +883,7 @@ public class QuerySqmImpl<R>
 
 	private SelectQueryPlan<R> buildConcreteSelectQueryPlan(
 			SqmSelectStatement<R> concreteSqmStatement,
+			DomainParameterXref domainParameterXref,
 			Class<R> resultType,
 			QueryOptions queryOptions) {
 		return new ConcreteSqmSelectQueryPlan<>(
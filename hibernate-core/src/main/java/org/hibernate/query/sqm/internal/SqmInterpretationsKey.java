@@ -11,6 +11,9 @@ import org.hibernate.query.QueryParameter;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+
+import jakarta.persistence.Tuple;
 
 /**
  * @author Steve Ebersole
@@ -22,7 +25,20 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 			return null;
 		}
 
+		final Object queryKey;
+		if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( query.getQueryString() ) ) {
+			// criteria queries have no query string, so use the shape of the tree instead
+			queryKey = SqmStructure.from( (SqmSelectStatement<?>) query.getSqmStatement() );
+			if ( queryKey == null ) {
+				return null;
+			}
+		}
+		else {
+			queryKey = query.getQueryString();
+		}
+
 		return new SqmInterpretationsKey(
+				queryKey,
 				query.getQueryString(),
 				query.getResultType(),
 				query.getLockOptions(),
@@ -44,10 +60,10 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 	private static boolean isCacheable(QuerySqmImpl<?> query) {
 		assert query.getQueryOptions().getAppliedGraph() != null;
 
-		if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( query.getQueryString() ) ) {
-			// for now at least, skip caching Criteria-based plans
-			//		- especially wrt parameters atm; this works with HQL because the parameters
-			//			are part of the query string; with Criteria, they are not.
+		if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( query.getQueryString() )
+				&& query.getResultType() == Tuple.class ) {
+			// the Tuple elements of a criteria query are the selections of its own tree,
+			// so the plan of another query cannot build the Tuples for it
 			return false;
 		}
 
@@ -75,19 +91,22 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 		return true;
 	}
 
-	private final String query;
+	private final Object query;
+	private final String queryString;
 	private final Class<?> resultType;
 	private final LockOptions lockOptions;
 	private final TupleTransformer<?> tupleTransformer;
 	private final ResultListTransformer resultListTransformer;
 
 	private SqmInterpretationsKey(
-			String query,
+			Object query,
+			String queryString,
 			Class<?> resultType,
 			LockOptions lockOptions,
 			TupleTransformer<?> tupleTransformer,
 			ResultListTransformer resultListTransformer) {
 		this.query = query;
+		this.queryString = queryString;
 		this.resultType = resultType;
 		this.lockOptions = lockOptions;
 		this.tupleTransformer = tupleTransformer;
@@ -98,6 +117,7 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 	public QueryInterpretationCache.Key prepareForStore() {
 		return new SqmInterpretationsKey(
 				query,
+				queryString,
 				resultType,
 				// Since lock options are mutable, we need a copy for the cache key
 				lockOptions.makeCopy(),
@@ -108,7 +128,14 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 
 	@Override
 	public String getQueryString() {
-		return query;
+		return queryString;
+	}
+
+	/**
+	 * The structure of the criteria query this key was generated from, or {@code null} for an HQL query
+	 */
+	public SqmStructure getStructure() {
+		return query instanceof SqmStructure ? (SqmStructure) query : null;
 	}
 
 	@Override
@@ -0,0 +1,873 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.metamodel.model.domain.BagPersistentAttribute;
+import org.hibernate.metamodel.model.domain.ListPersistentAttribute;
+import org.hibernate.metamodel.model.domain.MapPersistentAttribute;
+import org.hibernate.metamodel.model.domain.PluralPersistentAttribute;
+import org.hibernate.metamodel.model.domain.SetPersistentAttribute;
+import org.hibernate.metamodel.model.domain.SingularPersistentAttribute;
+import org.hibernate.query.NavigablePath;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.function.SelfRenderingSqmAggregateFunction;
+import org.hibernate.query.sqm.function.SelfRenderingSqmFunction;
+import org.hibernate.query.sqm.tree.SqmJoinType;
+import org.hibernate.query.sqm.tree.SqmTypedNode;
+import org.hibernate.query.sqm.tree.domain.AbstractSqmAttributeJoin;
+import org.hibernate.query.sqm.tree.domain.SqmBagJoin;
+import org.hibernate.query.sqm.tree.domain.SqmBasicValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmEmbeddedValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmEntityValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmListJoin;
+import org.hibernate.query.sqm.tree.domain.SqmMapJoin;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.domain.SqmPluralValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmSetJoin;
+import org.hibernate.query.sqm.tree.domain.SqmSingularJoin;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.expression.SqmBinaryArithmetic;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSearched;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSimple;
+import org.hibernate.query.sqm.tree.expression.SqmCollectionSize;
+import org.hibernate.query.sqm.tree.expression.SqmDistinct;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmFunction;
+import org.hibernate.query.sqm.tree.expression.SqmJpaCriteriaParameterWrapper;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmLiteralNull;
+import org.hibernate.query.sqm.tree.expression.SqmStar;
+import org.hibernate.query.sqm.tree.expression.SqmUnaryOperation;
+import org.hibernate.query.sqm.tree.from.SqmCrossJoin;
+import org.hibernate.query.sqm.tree.from.SqmEntityJoin;
+import org.hibernate.query.sqm.tree.from.SqmFrom;
+import org.hibernate.query.sqm.tree.from.SqmFromClause;
+import org.hibernate.query.sqm.tree.from.SqmJoin;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.predicate.AbstractNegatableSqmPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmAndPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmBetweenPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmBooleanExpressionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmEmptinessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmGroupedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInListPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmLikePredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmMemberOfPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNegatedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNullnessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmOrPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmWhereClause;
+import org.hibernate.query.sqm.tree.select.SqmOrderByClause;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectClause;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
+
+/**
+ * The shape of a criteria select statement, which allows criteria queries built
+ * separately, but identically, to share a query plan.
+ * <p/>
+ * Two structures are equal if their trees are made of the same node types which
+ * reference the same entities, attributes, functions, operators and literal values,
+ * and join and reuse their from-elements and parameters in the same way.  Neither
+ * the identity of the parameters nor generated aliases play a role.  The parameters
+ * are collected in the order they are first encountered, so that the parameters of
+ * one statement can be matched up with those of another statement of equal
+ * structure.
+ * <p/>
+ * Only the node types commonly produced through the criteria API are understood.
+ * For a statement containing anything else, {@link #from} returns {@code null}
+ * and the statement cannot share a plan.  A statement of known structure can be
+ * {@link #copy copied}, so that the shared plan does not depend on a tree which
+ * the application may still change.
+ */
+public final class SqmStructure {
+
+	/**
+	 * Determine the structure of the given statement
+	 *
+	 * @return The structure, or {@code null} if the statement contains nodes which are not supported
+	 */
+	public static SqmStructure from(SqmSelectStatement<?> statement) {
+		final Collector collector = new Collector();
+		if ( !collector.appendStatement( statement ) ) {
+			return null;
+		}
+		return new SqmStructure( collector.tokens, collector.parameters );
+	}
+
+	/**
+	 * Copy the given statement, whose structure is known.  The copy has the same structure,
+	 * and shares the parameters of the statement, but none of its mutable nodes.
+	 *
+	 * @see #from
+	 */
+	public static <T> SqmSelectStatement<T> copy(SqmSelectStatement<T> statement) {
+		return new Copier( statement.nodeBuilder() ).copyStatement( statement );
+	}
+
+	private final List<Object> tokens;
+	private final List<JpaCriteriaParameter<?>> parameters;
+	private final int hashCode;
+
+	private SqmStructure(List<Object> tokens, List<JpaCriteriaParameter<?>> parameters) {
+		this.tokens = tokens;
+		this.parameters = Collections.unmodifiableList( parameters );
+		this.hashCode = tokens.hashCode();
+	}
+
+	/**
+	 * The parameters of the statement, in the order they first appear
+	 */
+	public List<JpaCriteriaParameter<?>> getParameters() {
+		return parameters;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+
+		final SqmStructure that = (SqmStructure) o;
+		return hashCode == that.hashCode && tokens.equals( that.tokens );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	private static class Collector {
+		private static final Object NULL = new Object();
+
+		private final List<Object> tokens = new ArrayList<>();
+		private final List<JpaCriteriaParameter<?>> parameters = new ArrayList<>();
+		private final Map<JpaCriteriaParameter<?>, Integer> parameterPositions = new IdentityHashMap<>();
+		private final Map<SqmFrom<?, ?>, Integer> fromPositions = new IdentityHashMap<>();
+
+		private boolean appendStatement(SqmSelectStatement<?> statement) {
+			if ( !statement.getCteStatements().isEmpty() || !( statement.getQueryPart() instanceof SqmQuerySpec<?> ) ) {
+				return false;
+			}
+			final SqmQuerySpec<?> querySpec = (SqmQuerySpec<?>) statement.getQueryPart();
+
+			// the from-clause goes first, so that references to the from-elements
+			// elsewhere in the statement can be resolved
+			tokens.add( querySpec.getFromClause().getRoots().size() );
+			for ( SqmRoot<?> root : querySpec.getFromClause().getRoots() ) {
+				if ( root.getClass() != SqmRoot.class || !appendFrom( root, root.getReferencedPathSource() ) ) {
+					return false;
+				}
+			}
+
+			tokens.add( querySpec.getSelectClause().isDistinct() );
+			tokens.add( querySpec.getSelectClause().getSelections().size() );
+			for ( SqmSelection<?> selection : querySpec.getSelectClause().getSelections() ) {
+				tokens.add( nullSafe( selection.getAlias() ) );
+				if ( !appendSelectable( selection.getSelectableNode() ) ) {
+					return false;
+				}
+			}
+
+			if ( !appendExpression( querySpec.getRestriction() ) ) {
+				return false;
+			}
+
+			tokens.add( querySpec.getGroupByClauseExpressions().size() );
+			for ( SqmExpression<?> expression : querySpec.getGroupByClauseExpressions() ) {
+				if ( !appendExpression( expression ) ) {
+					return false;
+				}
+			}
+			if ( !appendExpression( querySpec.getHavingClausePredicate() ) ) {
+				return false;
+			}
+
+			final List<SqmSortSpecification> sortSpecifications = querySpec.getSortSpecifications();
+			tokens.add( sortSpecifications.size() );
+			for ( SqmSortSpecification sortSpecification : sortSpecifications ) {
+				tokens.add( sortSpecification.getSortOrder() );
+				tokens.add( nullSafe( sortSpecification.getNullPrecedence() ) );
+				if ( !appendExpression( sortSpecification.getSortExpression() ) ) {
+					return false;
+				}
+			}
+
+			tokens.add( querySpec.getFetchClauseType() );
+			return appendExpression( querySpec.getOffsetExpression() )
+					&& appendExpression( querySpec.getFetchExpression() );
+		}
+
+		private boolean appendFrom(SqmFrom<?, ?> from, Object source) {
+			if ( !from.getSqmTreats().isEmpty() ) {
+				return false;
+			}
+			fromPositions.put( from, fromPositions.size() );
+			tokens.add( from.getClass() );
+			tokens.add( source );
+
+			tokens.add( from.getSqmJoins().size() );
+			for ( SqmJoin<?, ?> join : from.getSqmJoins() ) {
+				if ( !appendJoin( join ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean appendJoin(SqmJoin<?, ?> join) {
+			tokens.add( join.getSqmJoinType() );
+			final Class<?> joinClass = join.getClass();
+			if ( joinClass == SqmSingularJoin.class
+					|| joinClass == SqmBagJoin.class
+					|| joinClass == SqmSetJoin.class
+					|| joinClass == SqmListJoin.class
+					|| joinClass == SqmMapJoin.class ) {
+				final AbstractSqmAttributeJoin<?, ?> attributeJoin = (AbstractSqmAttributeJoin<?, ?>) join;
+				tokens.add( attributeJoin.isFetched() );
+				return appendFrom( attributeJoin, attributeJoin.getAttribute() )
+						&& appendExpression( attributeJoin.getJoinPredicate() );
+			}
+			else if ( joinClass == SqmEntityJoin.class ) {
+				final SqmEntityJoin<?> entityJoin = (SqmEntityJoin<?>) join;
+				return appendFrom( entityJoin, entityJoin.getReferencedPathSource() )
+						&& appendExpression( entityJoin.getJoinPredicate() );
+			}
+			else if ( joinClass == SqmCrossJoin.class ) {
+				final SqmCrossJoin<?> crossJoin = (SqmCrossJoin<?>) join;
+				return appendFrom( crossJoin, crossJoin.getReferencedPathSource() );
+			}
+			return false;
+		}
+
+		private boolean appendSelectable(SqmSelectableNode<?> selectable) {
+			// dynamic-instantiations and compound selections are not supported
+			return selectable instanceof SqmExpression<?> && appendExpression( (SqmExpression<?>) selectable );
+		}
+
+		private boolean appendExpression(SqmExpression<?> expression) {
+			if ( expression == null ) {
+				tokens.add( NULL );
+				return true;
+			}
+
+			if ( expression instanceof SqmFrom<?, ?> ) {
+				final Integer position = fromPositions.get( expression );
+				if ( position == null ) {
+					// e.g. a from-element of another query
+					return false;
+				}
+				tokens.add( SqmFrom.class );
+				tokens.add( position );
+				return true;
+			}
+
+			final Class<?> expressionClass = expression.getClass();
+			tokens.add( expressionClass );
+
+			if ( expressionClass == SqmBasicValuedSimplePath.class
+					|| expressionClass == SqmEmbeddedValuedSimplePath.class
+					|| expressionClass == SqmEntityValuedSimplePath.class
+					|| expressionClass == SqmPluralValuedSimplePath.class ) {
+				final SqmPath<?> path = (SqmPath<?>) expression;
+				tokens.add( path.getReferencedPathSource() );
+				return appendExpression( path.getLhs() );
+			}
+			else if ( expressionClass == SqmJpaCriteriaParameterWrapper.class ) {
+				return appendParameter( ( (SqmJpaCriteriaParameterWrapper<?>) expression ).getJpaCriteriaParameter() );
+			}
+			else if ( expressionClass == JpaCriteriaParameter.class ) {
+				return appendParameter( (JpaCriteriaParameter<?>) expression );
+			}
+			else if ( expressionClass == SqmLiteral.class ) {
+				tokens.add( nullSafe( ( (SqmLiteral<?>) expression ).getLiteralValue() ) );
+				return true;
+			}
+			else if ( expressionClass == SqmLiteralNull.class ) {
+				tokens.add( nullSafe( expression.getNodeType() ) );
+				return true;
+			}
+			else if ( expressionClass == SqmCaseSearched.class ) {
+				final SqmCaseSearched<?> caseSearched = (SqmCaseSearched<?>) expression;
+				tokens.add( nullSafe( caseSearched.getNodeType() ) );
+				tokens.add( caseSearched.getWhenFragments().size() );
+				for ( SqmCaseSearched.WhenFragment<?> whenFragment : caseSearched.getWhenFragments() ) {
+					if ( !appendExpression( whenFragment.getPredicate() )
+							|| !appendExpression( whenFragment.getResult() ) ) {
+						return false;
+					}
+				}
+				return appendExpression( caseSearched.getOtherwise() );
+			}
+			else if ( expressionClass == SqmCaseSimple.class ) {
+				final SqmCaseSimple<?, ?> caseSimple = (SqmCaseSimple<?, ?>) expression;
+				tokens.add( nullSafe( caseSimple.getNodeType() ) );
+				tokens.add( caseSimple.getWhenFragments().size() );
+				if ( !appendExpression( caseSimple.getFixture() ) ) {
+					return false;
+				}
+				for ( SqmCaseSimple.WhenFragment<?, ?> whenFragment : caseSimple.getWhenFragments() ) {
+					if ( !appendExpression( whenFragment.getCheckValue() )
+							|| !appendExpression( whenFragment.getResult() ) ) {
+						return false;
+					}
+				}
+				return appendExpression( caseSimple.getOtherwise() );
+			}
+			else if ( expressionClass == SqmCollectionSize.class ) {
+				return appendExpression( ( (SqmCollectionSize) expression ).getPluralPath() );
+			}
+			else if ( expressionClass == SqmBinaryArithmetic.class ) {
+				final SqmBinaryArithmetic<?> arithmetic = (SqmBinaryArithmetic<?>) expression;
+				tokens.add( arithmetic.getOperator() );
+				return appendExpression( arithmetic.getLeftHandOperand() )
+						&& appendExpression( arithmetic.getRightHandOperand() );
+			}
+			else if ( expressionClass == SqmUnaryOperation.class ) {
+				final SqmUnaryOperation<?> operation = (SqmUnaryOperation<?>) expression;
+				tokens.add( operation.getOperation() );
+				return appendExpression( operation.getOperand() );
+			}
+			else if ( expressionClass == SelfRenderingSqmFunction.class ) {
+				return appendFunction( (SqmFunction<?>) expression );
+			}
+			else if ( expressionClass == SelfRenderingSqmAggregateFunction.class ) {
+				return ( (SelfRenderingSqmAggregateFunction<?>) expression ).getFilter() == null
+						&& appendFunction( (SqmFunction<?>) expression );
+			}
+			else if ( expressionClass == SqmAndPredicate.class ) {
+				final SqmAndPredicate predicate = (SqmAndPredicate) expression;
+				return appendExpression( predicate.getLeftHandPredicate() )
+						&& appendExpression( predicate.getRightHandPredicate() );
+			}
+			else if ( expressionClass == SqmOrPredicate.class ) {
+				final SqmOrPredicate predicate = (SqmOrPredicate) expression;
+				return appendExpression( predicate.getLeftHandPredicate() )
+						&& appendExpression( predicate.getRightHandPredicate() );
+			}
+			else if ( expressionClass == SqmGroupedPredicate.class ) {
+				return appendExpression( ( (SqmGroupedPredicate) expression ).getSubPredicate() );
+			}
+			else if ( expression instanceof AbstractNegatableSqmPredicate ) {
+				tokens.add( ( (AbstractNegatableSqmPredicate) expression ).isNegated() );
+				return appendNegatablePredicate( expression, expressionClass );
+			}
+			return false;
+		}
+
+		private boolean appendNegatablePredicate(SqmExpression<?> expression, Class<?> expressionClass) {
+			if ( expressionClass == SqmNegatedPredicate.class ) {
+				return appendExpression( ( (SqmNegatedPredicate) expression ).getWrappedPredicate() );
+			}
+			else if ( expressionClass == SqmComparisonPredicate.class ) {
+				final SqmComparisonPredicate predicate = (SqmComparisonPredicate) expression;
+				tokens.add( predicate.getSqmOperator() );
+				return appendExpression( predicate.getLeftHandExpression() )
+						&& appendExpression( predicate.getRightHandExpression() );
+			}
+			else if ( expressionClass == SqmNullnessPredicate.class ) {
+				return appendExpression( ( (SqmNullnessPredicate) expression ).getExpression() );
+			}
+			else if ( expressionClass == SqmInListPredicate.class ) {
+				final SqmInListPredicate<?> predicate = (SqmInListPredicate<?>) expression;
+				tokens.add( predicate.getListExpressions().size() );
+				if ( !appendExpression( predicate.getTestExpression() ) ) {
+					return false;
+				}
+				for ( SqmExpression<?> listExpression : predicate.getListExpressions() ) {
+					if ( !appendExpression( listExpression ) ) {
+						return false;
+					}
+				}
+				return true;
+			}
+			else if ( expressionClass == SqmLikePredicate.class ) {
+				final SqmLikePredicate predicate = (SqmLikePredicate) expression;
+				tokens.add( predicate.isCaseSensitive() );
+				return appendExpression( predicate.getMatchExpression() )
+						&& appendExpression( predicate.getPattern() )
+						&& appendExpression( predicate.getEscapeCharacter() );
+			}
+			else if ( expressionClass == SqmBetweenPredicate.class ) {
+				final SqmBetweenPredicate predicate = (SqmBetweenPredicate) expression;
+				return appendExpression( predicate.getExpression() )
+						&& appendExpression( predicate.getLowerBound() )
+						&& appendExpression( predicate.getUpperBound() );
+			}
+			else if ( expressionClass == SqmEmptinessPredicate.class ) {
+				return appendExpression( ( (SqmEmptinessPredicate) expression ).getPluralPath() );
+			}
+			else if ( expressionClass == SqmMemberOfPredicate.class ) {
+				final SqmMemberOfPredicate predicate = (SqmMemberOfPredicate) expression;
+				return appendExpression( predicate.getLeftHandExpression() )
+						&& appendExpression( predicate.getPluralPath() );
+			}
+			else if ( expressionClass == SqmBooleanExpressionPredicate.class ) {
+				return appendExpression( ( (SqmBooleanExpressionPredicate) expression ).getBooleanExpression() );
+			}
+			return false;
+		}
+
+		private boolean appendFunction(SqmFunction<?> function) {
+			tokens.add( function.getFunctionDescriptor() );
+			tokens.add( function.getFunctionName() );
+			tokens.add( nullSafe( function.getNodeType() ) );
+			tokens.add( function.getArguments().size() );
+			for ( SqmTypedNode<?> argument : function.getArguments() ) {
+				if ( argument instanceof SqmDistinct<?> ) {
+					tokens.add( SqmDistinct.class );
+					if ( !appendExpression( ( (SqmDistinct<?>) argument ).getExpression() ) ) {
+						return false;
+					}
+				}
+				else if ( argument instanceof SqmStar ) {
+					tokens.add( SqmStar.class );
+				}
+				else if ( !( argument instanceof SqmExpression<?> ) || !appendExpression( (SqmExpression<?>) argument ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean appendParameter(JpaCriteriaParameter<?> parameter) {
+			final Integer position = parameterPositions.get( parameter );
+			if ( position != null ) {
+				// a reference to a parameter used before
+				tokens.add( position );
+			}
+			else {
+				parameterPositions.put( parameter, parameters.size() );
+				tokens.add( parameters.size() );
+				tokens.add( nullSafe( parameter.getName() ) );
+				tokens.add( parameter.allowsMultiValuedBinding() );
+				// the plan binds the values with the types of the parameters it was built for
+				tokens.add( nullSafe( parameter.getNodeType() ) );
+				parameters.add( parameter );
+			}
+			return true;
+		}
+
+		private static Object nullSafe(Object value) {
+			return value == null ? NULL : value;
+		}
+	}
+
+	/**
+	 * Copies the node types understood by the {@link Collector}, which visits them in the same order
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static class Copier {
+		private final NodeBuilder nodeBuilder;
+		private final Map<SqmFrom<?, ?>, SqmFrom<?, ?>> fromCopies = new IdentityHashMap<>();
+
+		private Copier(NodeBuilder nodeBuilder) {
+			this.nodeBuilder = nodeBuilder;
+		}
+
+		private <T> SqmSelectStatement<T> copyStatement(SqmSelectStatement<T> statement) {
+			final SqmQuerySpec<T> querySpec = (SqmQuerySpec<T>) statement.getQueryPart();
+			final SqmQuerySpec<T> copy = new SqmQuerySpec<>( nodeBuilder );
+
+			final SqmFromClause fromClause = new SqmFromClause( querySpec.getFromClause().getNumberOfRoots() );
+			for ( SqmRoot<?> root : querySpec.getFromClause().getRoots() ) {
+				final SqmRoot<?> rootCopy = new SqmRoot<>(
+						root.getNavigablePath(),
+						root.getReferencedPathSource(),
+						root.getExplicitAlias(),
+						nodeBuilder
+				);
+				fromCopies.put( root, rootCopy );
+				copyJoins( root, rootCopy );
+				fromClause.addRoot( rootCopy );
+			}
+			copy.setFromClause( fromClause );
+
+			final SqmSelectClause selectClause = new SqmSelectClause(
+					querySpec.getSelectClause().isDistinct(),
+					nodeBuilder
+			);
+			for ( SqmSelection<?> selection : querySpec.getSelectClause().getSelections() ) {
+				final SqmExpression<?> selectable = copyExpression( (SqmExpression<?>) selection.getSelectableNode() );
+				selectClause.addSelection(
+						selection.getAlias() == null
+								? new SqmSelection<>( selectable, nodeBuilder )
+								: new SqmSelection<>( selectable, selection.getAlias(), nodeBuilder )
+				);
+			}
+			copy.setSelectClause( selectClause );
+
+			if ( querySpec.getRestriction() != null ) {
+				copy.setWhereClause( new SqmWhereClause( copyPredicate( querySpec.getRestriction() ), nodeBuilder ) );
+			}
+
+			if ( !querySpec.getGroupByClauseExpressions().isEmpty() ) {
+				final List<SqmExpression<?>> groupByExpressions = new ArrayList<>( querySpec.getGroupByClauseExpressions().size() );
+				for ( SqmExpression<?> expression : querySpec.getGroupByClauseExpressions() ) {
+					groupByExpressions.add( copyExpression( expression ) );
+				}
+				copy.setGroupByClauseExpressions( groupByExpressions );
+			}
+			copy.setHavingClausePredicate( copyPredicate( querySpec.getHavingClausePredicate() ) );
+
+			final List<SqmSortSpecification> sortSpecifications = querySpec.getSortSpecifications();
+			if ( !sortSpecifications.isEmpty() ) {
+				final SqmOrderByClause orderByClause = new SqmOrderByClause( sortSpecifications.size() );
+				for ( SqmSortSpecification sortSpecification : sortSpecifications ) {
+					orderByClause.addSortSpecification(
+							new SqmSortSpecification(
+									copyExpression( sortSpecification.getSortExpression() ),
+									sortSpecification.getSortOrder(),
+									sortSpecification.getNullPrecedence()
+							)
+					);
+				}
+				copy.setOrderByClause( orderByClause );
+			}
+
+			if ( querySpec.getOffsetExpression() != null ) {
+				copy.setOffsetExpression( copyExpression( querySpec.getOffsetExpression() ) );
+			}
+			if ( querySpec.getFetchExpression() != null ) {
+				copy.setFetchExpression( copyExpression( querySpec.getFetchExpression() ), querySpec.getFetchClauseType() );
+			}
+
+			return new SqmSelectStatement<>( copy, statement.getResultType(), statement.getQuerySource(), nodeBuilder );
+		}
+
+		private void copyJoins(SqmFrom<?, ?> from, SqmFrom copy) {
+			for ( SqmJoin<?, ?> join : from.getSqmJoins() ) {
+				final SqmJoin joinCopy = copyJoin( join, copy );
+				fromCopies.put( join, joinCopy );
+				copy.addSqmJoin( joinCopy );
+				copyJoins( join, joinCopy );
+
+				// the join predicate may refer to the joins of the join
+				if ( join instanceof AbstractSqmAttributeJoin<?, ?> ) {
+					final SqmPredicate predicate = ( (AbstractSqmAttributeJoin<?, ?>) join ).getJoinPredicate();
+					if ( predicate != null ) {
+						( (AbstractSqmAttributeJoin<?, ?>) joinCopy ).setJoinPredicate( copyPredicate( predicate ) );
+					}
+				}
+				else if ( join instanceof SqmEntityJoin<?> ) {
+					final SqmPredicate predicate = ( (SqmEntityJoin<?>) join ).getJoinPredicate();
+					if ( predicate != null ) {
+						( (SqmEntityJoin<?>) joinCopy ).setJoinPredicate( copyPredicate( predicate ) );
+					}
+				}
+			}
+		}
+
+		private SqmJoin<?, ?> copyJoin(SqmJoin<?, ?> join, SqmFrom lhs) {
+			final Class<?> joinClass = join.getClass();
+			if ( joinClass == SqmEntityJoin.class ) {
+				final SqmEntityJoin<?> entityJoin = (SqmEntityJoin<?>) join;
+				return new SqmEntityJoin(
+						entityJoin.getReferencedPathSource(),
+						entityJoin.getExplicitAlias(),
+						entityJoin.getSqmJoinType(),
+						(SqmRoot<?>) fromCopies.get( entityJoin.getRoot() )
+				);
+			}
+			else if ( joinClass == SqmCrossJoin.class ) {
+				final SqmCrossJoin<?> crossJoin = (SqmCrossJoin<?>) join;
+				return new SqmCrossJoin(
+						crossJoin.getReferencedPathSource(),
+						crossJoin.getExplicitAlias(),
+						(SqmRoot<?>) fromCopies.get( crossJoin.getRoot() )
+				);
+			}
+
+			final AbstractSqmAttributeJoin<?, ?> attributeJoin = (AbstractSqmAttributeJoin<?, ?>) join;
+			final String alias = attributeJoin.getExplicitAlias();
+			final SqmJoinType joinType = attributeJoin.getSqmJoinType();
+			final boolean fetched = attributeJoin.isFetched();
+			if ( joinClass == SqmSingularJoin.class ) {
+				return new SqmSingularJoin( lhs, (SingularPersistentAttribute) attributeJoin.getAttribute(), alias, joinType, fetched, nodeBuilder );
+			}
+			else if ( joinClass == SqmBagJoin.class ) {
+				return new SqmBagJoin( lhs, (BagPersistentAttribute) attributeJoin.getAttribute(), alias, joinType, fetched, nodeBuilder );
+			}
+			else if ( joinClass == SqmSetJoin.class ) {
+				return new SqmSetJoin( lhs, (SetPersistentAttribute) attributeJoin.getAttribute(), alias, joinType, fetched, nodeBuilder );
+			}
+			else if ( joinClass == SqmListJoin.class ) {
+				return new SqmListJoin( lhs, (ListPersistentAttribute) attributeJoin.getAttribute(), alias, joinType, fetched, nodeBuilder );
+			}
+			else {
+				return new SqmMapJoin( lhs, (MapPersistentAttribute) attributeJoin.getAttribute(), alias, joinType, fetched, nodeBuilder );
+			}
+		}
+
+		private SqmPredicate copyPredicate(SqmPredicate predicate) {
+			return (SqmPredicate) copyExpression( predicate );
+		}
+
+		private SqmExpression copyExpression(SqmExpression<?> expression) {
+			if ( expression == null ) {
+				return null;
+			}
+
+			if ( expression instanceof SqmFrom<?, ?> ) {
+				return fromCopies.get( expression );
+			}
+
+			final Class<?> expressionClass = expression.getClass();
+			if ( expressionClass == SqmBasicValuedSimplePath.class ) {
+				final SqmPath<?> path = (SqmPath<?>) expression;
+				final SqmPath<?> lhs = (SqmPath<?>) copyExpression( path.getLhs() );
+				return new SqmBasicValuedSimplePath( navigablePath( path, lhs ), path.getReferencedPathSource(), lhs, nodeBuilder );
+			}
+			else if ( expressionClass == SqmEmbeddedValuedSimplePath.class ) {
+				final SqmPath<?> path = (SqmPath<?>) expression;
+				final SqmPath<?> lhs = (SqmPath<?>) copyExpression( path.getLhs() );
+				return new SqmEmbeddedValuedSimplePath( navigablePath( path, lhs ), path.getReferencedPathSource(), lhs, nodeBuilder );
+			}
+			else if ( expressionClass == SqmEntityValuedSimplePath.class ) {
+				final SqmPath<?> path = (SqmPath<?>) expression;
+				final SqmPath<?> lhs = (SqmPath<?>) copyExpression( path.getLhs() );
+				return new SqmEntityValuedSimplePath( navigablePath( path, lhs ), path.getReferencedPathSource(), lhs, nodeBuilder );
+			}
+			else if ( expressionClass == SqmPluralValuedSimplePath.class ) {
+				final SqmPath<?> path = (SqmPath<?>) expression;
+				final SqmPath<?> lhs = (SqmPath<?>) copyExpression( path.getLhs() );
+				return new SqmPluralValuedSimplePath(
+						navigablePath( path, lhs ),
+						(PluralPersistentAttribute) path.getReferencedPathSource(),
+						lhs,
+						nodeBuilder
+				);
+			}
+			else if ( expressionClass == SqmJpaCriteriaParameterWrapper.class ) {
+				return (SqmExpression) ( (SqmJpaCriteriaParameterWrapper<?>) expression ).copy();
+			}
+			else if ( expressionClass == JpaCriteriaParameter.class || expressionClass == SqmLiteralNull.class ) {
+				// the parameters are bound through the query, and are shared with the copy
+				return expression;
+			}
+			else if ( expressionClass == SqmLiteral.class ) {
+				final SqmLiteral<?> literal = (SqmLiteral<?>) expression;
+				return new SqmLiteral( literal.getLiteralValue(), literal.getNodeType(), nodeBuilder );
+			}
+			else if ( expressionClass == SqmCaseSearched.class ) {
+				final SqmCaseSearched<?> caseSearched = (SqmCaseSearched<?>) expression;
+				final SqmCaseSearched copy = new SqmCaseSearched(
+						caseSearched.getNodeType(),
+						caseSearched.getWhenFragments().size(),
+						nodeBuilder
+				);
+				for ( SqmCaseSearched.WhenFragment<?> whenFragment : caseSearched.getWhenFragments() ) {
+					copy.when( copyPredicate( whenFragment.getPredicate() ), copyExpression( whenFragment.getResult() ) );
+				}
+				if ( caseSearched.getOtherwise() != null ) {
+					copy.otherwise( copyExpression( caseSearched.getOtherwise() ) );
+				}
+				return copy;
+			}
+			else if ( expressionClass == SqmCaseSimple.class ) {
+				final SqmCaseSimple<?, ?> caseSimple = (SqmCaseSimple<?, ?>) expression;
+				final SqmCaseSimple copy = new SqmCaseSimple(
+						copyExpression( caseSimple.getFixture() ),
+						caseSimple.getNodeType(),
+						caseSimple.getWhenFragments().size(),
+						nodeBuilder
+				);
+				for ( SqmCaseSimple.WhenFragment<?, ?> whenFragment : caseSimple.getWhenFragments() ) {
+					copy.when( copyExpression( whenFragment.getCheckValue() ), copyExpression( whenFragment.getResult() ) );
+				}
+				if ( caseSimple.getOtherwise() != null ) {
+					copy.otherwise( copyExpression( caseSimple.getOtherwise() ) );
+				}
+				return copy;
+			}
+			else if ( expressionClass == SqmCollectionSize.class ) {
+				final SqmCollectionSize size = (SqmCollectionSize) expression;
+				return new SqmCollectionSize( (SqmPath<?>) copyExpression( size.getPluralPath() ), size.getNodeType(), nodeBuilder );
+			}
+			else if ( expressionClass == SqmBinaryArithmetic.class ) {
+				final SqmBinaryArithmetic<?> arithmetic = (SqmBinaryArithmetic<?>) expression;
+				return new SqmBinaryArithmetic(
+						arithmetic.getOperator(),
+						copyExpression( arithmetic.getLeftHandOperand() ),
+						copyExpression( arithmetic.getRightHandOperand() ),
+						arithmetic.getNodeType(),
+						nodeBuilder
+				);
+			}
+			else if ( expressionClass == SqmUnaryOperation.class ) {
+				final SqmUnaryOperation<?> operation = (SqmUnaryOperation<?>) expression;
+				return new SqmUnaryOperation(
+						operation.getOperation(),
+						copyExpression( operation.getOperand() ),
+						operation.getNodeType()
+				);
+			}
+			else if ( expressionClass == SelfRenderingSqmFunction.class
+					|| expressionClass == SelfRenderingSqmAggregateFunction.class ) {
+				final SelfRenderingSqmFunction<?> function = (SelfRenderingSqmFunction<?>) expression;
+				final List<SqmTypedNode<?>> arguments = new ArrayList<>( function.getArguments().size() );
+				for ( SqmTypedNode<?> argument : function.getArguments() ) {
+					if ( argument instanceof SqmDistinct<?> ) {
+						arguments.add( new SqmDistinct( copyExpression( ( (SqmDistinct<?>) argument ).getExpression() ), nodeBuilder ) );
+					}
+					else if ( argument instanceof SqmStar ) {
+						arguments.add( argument );
+					}
+					else {
+						arguments.add( copyExpression( (SqmExpression<?>) argument ) );
+					}
+				}
+				return function.copy( arguments );
+			}
+			else if ( expressionClass == SqmAndPredicate.class ) {
+				final SqmAndPredicate predicate = (SqmAndPredicate) expression;
+				return new SqmAndPredicate(
+						copyPredicate( predicate.getLeftHandPredicate() ),
+						copyPredicate( predicate.getRightHandPredicate() ),
+						nodeBuilder
+				);
+			}
+			else if ( expressionClass == SqmOrPredicate.class ) {
+				final SqmOrPredicate predicate = (SqmOrPredicate) expression;
+				return new SqmOrPredicate(
+						copyPredicate( predicate.getLeftHandPredicate() ),
+						copyPredicate( predicate.getRightHandPredicate() ),
+						nodeBuilder
+				);
+			}
+			else if ( expressionClass == SqmGroupedPredicate.class ) {
+				return new SqmGroupedPredicate( copyPredicate( ( (SqmGroupedPredicate) expression ).getSubPredicate() ), nodeBuilder );
+			}
+			return copyNegatablePredicate( (AbstractNegatableSqmPredicate) expression, expressionClass );
+		}
+
+		private SqmPredicate copyNegatablePredicate(AbstractNegatableSqmPredicate predicate, Class<?> predicateClass) {
+			final boolean negated = predicate.isNegated();
+			if ( predicateClass == SqmNegatedPredicate.class ) {
+				final SqmNegatedPredicate copy = new SqmNegatedPredicate(
+						copyPredicate( ( (SqmNegatedPredicate) predicate ).getWrappedPredicate() ),
+						nodeBuilder
+				);
+				if ( negated ) {
+					copy.negate();
+				}
+				return copy;
+			}
+			else if ( predicateClass == SqmComparisonPredicate.class ) {
+				final SqmComparisonPredicate comparison = (SqmComparisonPredicate) predicate;
+				final SqmComparisonPredicate copy = new SqmComparisonPredicate(
+						copyExpression( comparison.getLeftHandExpression() ),
+						comparison.getSqmOperator(),
+						copyExpression( comparison.getRightHandExpression() ),
+						nodeBuilder
+				);
+				// negating a comparison predicate negates its operator instead
+				return negated ? new SqmNegatedPredicate( copy, nodeBuilder ) : copy;
+			}
+			else if ( predicateClass == SqmNullnessPredicate.class ) {
+				return new SqmNullnessPredicate(
+						copyExpression( ( (SqmNullnessPredicate) predicate ).getExpression() ),
+						negated,
+						nodeBuilder
+				);
+			}
+			else if ( predicateClass == SqmInListPredicate.class ) {
+				final SqmInListPredicate<?> inList = (SqmInListPredicate<?>) predicate;
+				final List<SqmExpression<?>> listExpressions = new ArrayList<>( inList.getListExpressions().size() );
+				for ( SqmExpression<?> listExpression : inList.getListExpressions() ) {
+					listExpressions.add( copyExpression( listExpression ) );
+				}
+				return new SqmInListPredicate( copyExpression( inList.getTestExpression() ), listExpressions, negated, nodeBuilder );
+			}
+			else if ( predicateClass == SqmLikePredicate.class ) {
+				final SqmLikePredicate like = (SqmLikePredicate) predicate;
+				return new SqmLikePredicate(
+						copyExpression( like.getMatchExpression() ),
+						copyExpression( like.getPattern() ),
+						copyExpression( like.getEscapeCharacter() ),
+						negated,
+						like.isCaseSensitive(),
+						nodeBuilder
+				);
+			}
+			else if ( predicateClass == SqmBetweenPredicate.class ) {
+				final SqmBetweenPredicate between = (SqmBetweenPredicate) predicate;
+				return new SqmBetweenPredicate(
+						copyExpression( between.getExpression() ),
+						copyExpression( between.getLowerBound() ),
+						copyExpression( between.getUpperBound() ),
+						negated,
+						nodeBuilder
+				);
+			}
+			else if ( predicateClass == SqmEmptinessPredicate.class ) {
+				return new SqmEmptinessPredicate(
+						(SqmPluralValuedSimplePath) copyExpression( ( (SqmEmptinessPredicate) predicate ).getPluralPath() ),
+						negated,
+						nodeBuilder
+				);
+			}
+			else if ( predicateClass == SqmMemberOfPredicate.class ) {
+				final SqmMemberOfPredicate memberOf = (SqmMemberOfPredicate) predicate;
+				return new SqmMemberOfPredicate(
+						copyExpression( memberOf.getLeftHandExpression() ),
+						(SqmPath<?>) copyExpression( memberOf.getPluralPath() ),
+						negated,
+						nodeBuilder
+				);
+			}
+			else {
+				return new SqmBooleanExpressionPredicate(
+						copyExpression( ( (SqmBooleanExpressionPredicate) predicate ).getBooleanExpression() ),
+						negated,
+						nodeBuilder
+				);
+			}
+		}
+
+		/**
+		 * The navigable path of the copy of the given path.  The navigable path of a join without
+		 * an alias is unique to the join, so the paths relative to the copy of such a join are
+		 * moved to the navigable path of the copy.
+		 */
+		private static NavigablePath navigablePath(SqmPath<?> path, SqmPath<?> lhsCopy) {
+			final NavigablePath lhsPath = path.getLhs().getNavigablePath();
+			if ( lhsPath.equals( lhsCopy.getNavigablePath() ) ) {
+				return path.getNavigablePath();
+			}
+			final NavigablePath navigablePath = rebase( path.getNavigablePath(), lhsPath, lhsCopy.getNavigablePath() );
+			return navigablePath == null
+					? lhsCopy.getNavigablePath().append( path.getReferencedPathSource().getPathName() )
+					: navigablePath;
+		}
+
+		private static NavigablePath rebase(NavigablePath navigablePath, NavigablePath from, NavigablePath to) {
+			if ( navigablePath == null ) {
+				return null;
+			}
+			if ( navigablePath.equals( from ) ) {
+				return to;
+			}
+			final NavigablePath parent = rebase( navigablePath.getRealParent(), from, to );
+			return parent == null ? null : parent.append( navigablePath.getUnaliasedLocalName() );
+		}
+	}
+}
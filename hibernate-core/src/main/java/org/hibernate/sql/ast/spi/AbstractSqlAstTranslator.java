@@ -9,6 +9,7 @@ package org.hibernate.sql.ast.spi;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
@@ -162,6 +163,7 @@ import org.hibernate.sql.exec.spi.JdbcParameterBinding;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelect;
 import org.hibernate.sql.exec.spi.JdbcUpdate;
+import org.hibernate.sql.exec.spi.QueryCachePartition;
 import org.hibernate.sql.results.internal.SqlSelectionImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesMappingProducerStandard;
 import org.hibernate.type.BasicType;
@@ -195,6 +197,8 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 	private final Dialect dialect;
 	private final Statement statement;
 	private final Set<String> affectedTableNames = new HashSet<>();
+	// Number of times each table was referenced, only tracked when query cache partitioning is enabled
+	private Map<String, Integer> tableReferenceCounts;
 	private MutationStatement dmlStatement;
 	private boolean needsSelectAliases;
 	// Column aliases that need to be injected
@@ -703,10 +707,116 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 				getAppliedParameterBindings(),
 				getJdbcLockStrategy(),
 				getOffsetParameter(),
-				getLimitParameter()
+				getLimitParameter(),
+				determineQueryCachePartition( sqlAstSelect )
 		);
 	}
 
+	/**
+	 * Determine whether the select is restricted by equality between a parameter and a
+	 * configured {@linkplain org.hibernate.cfg.AvailableSettings#QUERY_CACHE_PARTITION_COLUMNS
+	 * query cache partition column}.  Only top-level conjuncts of the where clause are
+	 * considered, and only for tables which are referenced exactly once in the statement,
+	 * so that no other part of the statement (e.g. a subquery) can read other partitions.
+	 */
+	protected QueryCachePartition determineQueryCachePartition(SelectStatement sqlAstSelect) {
+		if ( tableReferenceCounts == null || !( sqlAstSelect.getQueryPart() instanceof QuerySpec ) ) {
+			return null;
+		}
+		final Map<String, String> partitionColumns = sessionFactory.getSessionFactoryOptions()
+				.getQueryCachePartitionColumns();
+		final QuerySpec querySpec = (QuerySpec) sqlAstSelect.getQueryPart();
+
+		final Map<String, String> tableNamesByAlias = new HashMap<>();
+		querySpec.getFromClause().queryTableReferences(
+				tableReference -> {
+					if ( tableReference instanceof NamedTableReference ) {
+						final String tableName = ( (NamedTableReference) tableReference ).getTableExpression();
+						if ( partitionColumns.containsKey( tableName )
+								&& Integer.valueOf( 1 ).equals( tableReferenceCounts.get( tableName ) ) ) {
+							tableNamesByAlias.put( tableReference.getIdentificationVariable(), tableName );
+						}
+					}
+					return null;
+				}
+		);
+		if ( tableNamesByAlias.isEmpty() ) {
+			return null;
+		}
+
+		final List<Predicate> conjuncts = new ArrayList<>();
+		collectConjuncts( querySpec.getWhereClauseRestrictions(), conjuncts );
+		for ( Predicate conjunct : conjuncts ) {
+			if ( !( conjunct instanceof ComparisonPredicate ) ) {
+				continue;
+			}
+			final ComparisonPredicate comparison = (ComparisonPredicate) conjunct;
+			if ( comparison.getOperator() != ComparisonOperator.EQUAL ) {
+				continue;
+			}
+			final QueryCachePartition partition = resolveQueryCachePartition(
+					comparison.getLeftHandExpression(),
+					comparison.getRightHandExpression(),
+					tableNamesByAlias,
+					partitionColumns
+			);
+			if ( partition != null ) {
+				return partition;
+			}
+			final QueryCachePartition reversedPartition = resolveQueryCachePartition(
+					comparison.getRightHandExpression(),
+					comparison.getLeftHandExpression(),
+					tableNamesByAlias,
+					partitionColumns
+			);
+			if ( reversedPartition != null ) {
+				return reversedPartition;
+			}
+		}
+		return null;
+	}
+
+	private static void collectConjuncts(Predicate predicate, List<Predicate> conjuncts) {
+		if ( predicate == null ) {
+			return;
+		}
+		if ( predicate instanceof GroupedPredicate ) {
+			collectConjuncts( ( (GroupedPredicate) predicate ).getSubPredicate(), conjuncts );
+		}
+		else if ( predicate instanceof Junction
+				&& ( (Junction) predicate ).getNature() == Junction.Nature.CONJUNCTION ) {
+			for ( Predicate subPredicate : ( (Junction) predicate ).getPredicates() ) {
+				collectConjuncts( subPredicate, conjuncts );
+			}
+		}
+		else {
+			conjuncts.add( predicate );
+		}
+	}
+
+	private static QueryCachePartition resolveQueryCachePartition(
+			Expression columnSide,
+			Expression valueSide,
+			Map<String, String> tableNamesByAlias,
+			Map<String, String> partitionColumns) {
+		if ( !( columnSide instanceof ColumnReference ) || !( valueSide instanceof JdbcParameter ) ) {
+			return null;
+		}
+		final ColumnReference columnReference = (ColumnReference) columnSide;
+		if ( columnReference.isColumnExpressionFormula() ) {
+			return null;
+		}
+		final String tableName = tableNamesByAlias.get( columnReference.getQualifier() );
+		if ( tableName == null ) {
+			return null;
+		}
+		final String partitionColumn = partitionColumns.get( tableName );
+		if ( !partitionColumn.equalsIgnoreCase( columnReference.getColumnExpression() ) ) {
+			return null;
+		}
+		return new QueryCachePartition( tableName, partitionColumn, (JdbcParameter) valueSide );
+	}
+
 	protected int getRowsToSkip(SelectStatement sqlAstSelect, JdbcParameterBindings jdbcParameterBindings) {
 		if ( hasLimit() ) {
 			if ( offsetParameter != null && needsRowsToSkip() ) {
@@ -3868,6 +3978,12 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 	protected void registerAffectedTable(NamedTableReference tableReference) {
 		registerAffectedTable( tableReference.getTableExpression() );
+		if ( !sessionFactory.getSessionFactoryOptions().getQueryCachePartitionColumns().isEmpty() ) {
+			if ( tableReferenceCounts == null ) {
+				tableReferenceCounts = new HashMap<>();
+			}
+			tableReferenceCounts.merge( tableReference.getTableExpression(), 1, Integer::sum );
+		}
 	}
 
 	protected void registerAffectedTable(String tableExpression) {
@@ -3881,6 +3997,31 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 			return;
 		}
 
+		final Map<Object, String> fragmentCache = resolveTableReferenceJoinFragmentCache( tableGroup );
+		if ( fragmentCache == null ) {
+			renderTableReferenceJoins( joins );
+			return;
+		}
+
+		final TableReferenceJoinsKey key = new TableReferenceJoinsKey( getClass(), tableGroup, joins );
+		final String fragment = fragmentCache.get( key );
+		if ( fragment != null ) {
+			appendSql( fragment );
+			for ( TableReferenceJoin tableJoin : joins ) {
+				registerAffectedTable( tableJoin.getJoinedTableReference() );
+			}
+			return;
+		}
+
+		final int start = sqlBuffer.length();
+		final int parameterCount = parameterBinders.size();
+		renderTableReferenceJoins( joins );
+		if ( parameterBinders.size() == parameterCount ) {
+			fragmentCache.put( key, sqlBuffer.substring( start ) );
+		}
+	}
+
+	private void renderTableReferenceJoins(List<TableReferenceJoin> joins) {
 		for ( TableReferenceJoin tableJoin : joins ) {
 			appendSql( WHITESPACE );
 			appendSql( tableJoin.getJoinType().getText() );
@@ -3895,6 +4036,67 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		}
 	}
 
+	/**
+	 * The cache of rendered table reference joins to use for the given table group,
+	 * or {@code null} if the joins have to be rendered.  The joins of entity table
+	 * groups are generated by the entity persister and only depend on the aliases
+	 * and join types, except within DML statements which render column references
+	 * differently.
+	 */
+	private Map<Object, String> resolveTableReferenceJoinFragmentCache(TableGroup tableGroup) {
+		if ( dmlStatement != null || clauseStack.getCurrent() != Clause.FROM ) {
+			return null;
+		}
+		final ModelPart modelPart = tableGroup.getModelPart();
+		if ( modelPart == null || !( modelPart.getPartMappingType() instanceof AbstractEntityPersister ) ) {
+			return null;
+		}
+		return ( (AbstractEntityPersister) modelPart.getPartMappingType() ).getTableReferenceJoinFragments();
+	}
+
+	/**
+	 * Identifies the rendering of a table group's table reference joins
+	 */
+	private static final class TableReferenceJoinsKey {
+		private final Class<?> translatorClass;
+		private final Object[] parts;
+		private final int hashCode;
+
+		private TableReferenceJoinsKey(Class<?> translatorClass, TableGroup tableGroup, List<TableReferenceJoin> joins) {
+			this.translatorClass = translatorClass;
+			this.parts = new Object[joins.size() * 4 + 1];
+			parts[0] = tableGroup.getPrimaryTableReference().getIdentificationVariable();
+			int i = 1;
+			for ( TableReferenceJoin join : joins ) {
+				final NamedTableReference joinedTableReference = join.getJoinedTableReference();
+				parts[i++] = join.getJoinType();
+				parts[i++] = joinedTableReference.getTableExpression();
+				parts[i++] = joinedTableReference.getIdentificationVariable();
+				parts[i++] = join.getPredicate() != null && !join.getPredicate().isEmpty();
+			}
+			this.hashCode = 31 * translatorClass.hashCode() + Arrays.hashCode( parts );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof TableReferenceJoinsKey ) ) {
+				return false;
+			}
+			final TableReferenceJoinsKey that = (TableReferenceJoinsKey) o;
+			return hashCode == that.hashCode
+					&& translatorClass == that.translatorClass
+					&& Arrays.equals( parts, that.parts );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
 	@SuppressWarnings("WeakerAccess")
 	protected void processTableGroupJoins(TableGroup source) {
 		source.visitTableGroupJoins( tableGroupJoin -> processTableGroupJoin( tableGroupJoin, null ) );
@@ -9,6 +9,7 @@ package org.hibernate.sql.exec.internal;
 import java.io.Serializable;
 import java.sql.PreparedStatement;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -23,6 +24,7 @@ import org.hibernate.LockOptions;
 import org.hibernate.ScrollMode;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cache.spi.QuerySpacesHelper;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -41,6 +43,7 @@ import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelect;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.exec.spi.QueryCachePartition;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.internal.ResultsHelper;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
@@ -340,6 +343,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		final JdbcValues jdbcValues = resolveJdbcValuesSource(
 				executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
 				jdbcSelect,
+				jdbcParameterBindings,
 				resultsConsumer.canResultsBeCached(),
 				executionContext,
 				deferredResultSetAccess
@@ -454,10 +458,29 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		return -1;
 	}
 
+	private static Set<String> resolveQuerySpaces(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			SessionFactoryImplementor factory) {
+		final Set<String> affectedTableNames = jdbcSelect.getAffectedTableNames();
+		final Map<String, String> partitionColumns = factory.getSessionFactoryOptions().getQueryCachePartitionColumns();
+		if ( affectedTableNames == null || partitionColumns.isEmpty() ) {
+			return affectedTableNames;
+		}
+		final QueryCachePartition partition = jdbcSelect.getQueryCachePartition();
+		return QuerySpacesHelper.INSTANCE.resolveQuerySpaces(
+				affectedTableNames,
+				partitionColumns,
+				partition == null ? null : partition.getTableName(),
+				partition == null ? null : partition.resolveValue( jdbcParameterBindings )
+		);
+	}
+
 	@SuppressWarnings("unchecked")
 	private JdbcValues resolveJdbcValuesSource(
 			String queryIdentifier,
 			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
 			boolean canBeCached,
 			ExecutionContext executionContext,
 			ResultSetAccess resultSetAccess) {
@@ -475,7 +498,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 
 		if ( cacheable && cacheMode.isGetEnabled() ) {
 			SqlExecLogger.INSTANCE.debugf( "Reading Query result cache data per CacheMode#isGetEnabled [%s]", cacheMode.name() );
-			final Set<String> querySpaces = jdbcSelect.getAffectedTableNames();
+			final Set<String> querySpaces = resolveQuerySpaces( jdbcSelect, jdbcParameterBindings, factory );
 			if ( querySpaces == null || querySpaces.size() == 0 ) {
 				SqlExecLogger.INSTANCE.tracev( "Unexpected querySpaces is {0}", ( querySpaces == null ? querySpaces : "empty" ) );
 			}
@@ -29,6 +29,7 @@ public class JdbcSelect extends AbstractJdbcOperation {
 	private final JdbcParameter offsetParameter;
 	private final JdbcParameter limitParameter;
 	private final JdbcLockStrategy jdbcLockStrategy;
+	private final QueryCachePartition queryCachePartition;
 
 	public JdbcSelect(
 			String sql,
@@ -63,6 +64,35 @@ public class JdbcSelect extends AbstractJdbcOperation {
 			JdbcLockStrategy jdbcLockStrategy,
 			JdbcParameter offsetParameter,
 			JdbcParameter limitParameter) {
+		this(
+				sql,
+				parameterBinders,
+				jdbcValuesMappingProducer,
+				affectedTableNames,
+				filterJdbcParameters,
+				rowsToSkip,
+				maxRows,
+				appliedParameters,
+				jdbcLockStrategy,
+				offsetParameter,
+				limitParameter,
+				null
+		);
+	}
+
+	public JdbcSelect(
+			String sql,
+			List<JdbcParameterBinder> parameterBinders,
+			JdbcValuesMappingProducer jdbcValuesMappingProducer,
+			Set<String> affectedTableNames,
+			Set<FilterJdbcParameter> filterJdbcParameters,
+			int rowsToSkip,
+			int maxRows,
+			Map<JdbcParameter, JdbcParameterBinding> appliedParameters,
+			JdbcLockStrategy jdbcLockStrategy,
+			JdbcParameter offsetParameter,
+			JdbcParameter limitParameter,
+			QueryCachePartition queryCachePartition) {
 		super( sql, parameterBinders, affectedTableNames, filterJdbcParameters, appliedParameters );
 		this.jdbcValuesMappingProducer = jdbcValuesMappingProducer;
 		this.rowsToSkip = rowsToSkip;
@@ -70,6 +100,7 @@ public class JdbcSelect extends AbstractJdbcOperation {
 		this.jdbcLockStrategy = jdbcLockStrategy;
 		this.offsetParameter = offsetParameter;
 		this.limitParameter = limitParameter;
+		this.queryCachePartition = queryCachePartition;
 	}
 
 	public JdbcValuesMappingProducer getJdbcValuesMappingProducer() {
@@ -92,6 +123,15 @@ public class JdbcSelect extends AbstractJdbcOperation {
 		return jdbcLockStrategy;
 	}
 
+	/**
+	 * The table partition this select is restricted to, if any.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_PARTITION_COLUMNS
+	 */
+	public QueryCachePartition getQueryCachePartition() {
+		return queryCachePartition;
+	}
+
 	@Override
 	public boolean isCompatibleWith(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
 		if ( !appliedParameters.isEmpty() ) {
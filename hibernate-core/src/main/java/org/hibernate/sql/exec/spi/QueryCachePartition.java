@@ -0,0 +1,59 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.spi;
+
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+
+/**
+ * Describes the restriction of a {@link JdbcSelect} to a single partition of a
+ * table, as defined by {@link org.hibernate.cfg.AvailableSettings#QUERY_CACHE_PARTITION_COLUMNS}.
+ * The partition value itself is only known once the parameter is bound.
+ *
+ * @see org.hibernate.cache.spi.QuerySpacesHelper
+ */
+public class QueryCachePartition {
+	private final String tableName;
+	private final String columnName;
+	private final JdbcParameter parameter;
+
+	public QueryCachePartition(String tableName, String columnName, JdbcParameter parameter) {
+		this.tableName = tableName;
+		this.columnName = columnName;
+		this.parameter = parameter;
+	}
+
+	public String getTableName() {
+		return tableName;
+	}
+
+	public String getColumnName() {
+		return columnName;
+	}
+
+	public JdbcParameter getParameter() {
+		return parameter;
+	}
+
+	/**
+	 * Resolve the partition value from the given bindings
+	 *
+	 * @return The partition value, or {@code null} if the parameter is not bound
+	 * or bound to {@code null}
+	 */
+	public Object resolveValue(JdbcParameterBindings jdbcParameterBindings) {
+		if ( jdbcParameterBindings == null ) {
+			return null;
+		}
+		final JdbcParameterBinding binding = jdbcParameterBindings.getBinding( parameter );
+		return binding == null ? null : binding.getBindValue();
+	}
+
+	@Override
+	public String toString() {
+		return "QueryCachePartition(" + tableName + '.' + columnName + ')';
+	}
+}
@@ -831,6 +831,9 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 					resolvedEntityState,
 					attributeMapping -> attributeMapping.getAttributeMetadataAccess().resolveAttributeMetadata( concreteDescriptor ).isUpdatable()
 			);
+			if ( factory.getSessionFactoryOptions().isSnapshotDeduplicationEnabled() ) {
+				persistenceContext.deduplicateLoadedState( concreteDescriptor, resolvedEntityState );
+			}
 			persistenceContext.setEntryStatus( entityEntry, Status.MANAGED );
 		}
 
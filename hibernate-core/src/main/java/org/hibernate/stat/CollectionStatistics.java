@@ -44,4 +44,21 @@ public interface CollectionStatistics extends CacheableDataStatistics, Serializa
 	 * has been updated
 	 */
 	long getUpdateCount();
+
+	/**
+	 * Number of times (since last Statistics clearing) this collection
+	 * has been batch fetched
+	 */
+	default long getBatchFetchCount() {
+		return 0;
+	}
+
+	/**
+	 * The average number of keys per batch fetch (since last Statistics
+	 * clearing) of this collection.  When batch-fetch auto-tuning is enabled
+	 * this reflects the effective batch size.
+	 */
+	default double getAverageBatchFetchSize() {
+		return 0;
+	}
 }
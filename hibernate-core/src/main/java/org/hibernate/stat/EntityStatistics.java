@@ -50,4 +50,21 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * Number of times (since last Statistics clearing) this entity
+	 * has been batch fetched
+	 */
+	default long getBatchFetchCount() {
+		return 0;
+	}
+
+	/**
+	 * The average number of keys per batch fetch (since last Statistics
+	 * clearing) of this entity.  When batch-fetch auto-tuning is enabled
+	 * this reflects the effective batch size.
+	 */
+	default double getAverageBatchFetchSize() {
+		return 0;
+	}
 }
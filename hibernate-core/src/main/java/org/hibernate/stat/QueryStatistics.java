@@ -92,6 +92,22 @@ public interface QueryStatistics extends Serializable {
 		return 0;
 	}
 
+	/**
+	 * The number of executions which reused a SQL variant cached by the query plan.
+	 */
+	default long getPlanVariantHitCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The number of executions which needed a new SQL variant for the query plan.
+	 */
+	default long getPlanVariantMissCount() {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * The overall time spent to compile the plan for this particular query.
 	 */
@@ -386,4 +386,62 @@ public interface Statistics {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * Get the global number of query executions which reused one of the SQL
+	 * variants cached by the query plan
+	 */
+	default long getQueryPlanVariantHitCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the global number of query executions which needed a new SQL variant
+	 * for a cached query plan, because none of the cached variants was compatible
+	 * with the limit, lock options or parameter bindings
+	 */
+	default long getQueryPlanVariantMissCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the number of query plans of criteria queries successfully retrieved
+	 * from cache, which are also counted by {@link #getQueryPlanCacheHitCount()}
+	 */
+	default long getCriteriaQueryPlanCacheHitCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the number of query plan lookups of criteria queries *not* found in
+	 * cache, which are also counted by {@link #getQueryPlanCacheMissCount()}
+	 */
+	default long getCriteriaQueryPlanCacheMissCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the global number of HQL queries successfully parsed, not counting
+	 * the queries parsed to warm up the parser
+	 */
+	default long getHqlParseCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the global number of HQL queries which could not be parsed using the
+	 * faster SLL prediction of the parser, and had to be parsed again using full
+	 * LL prediction.  These are also counted by {@link #getHqlParseCount()}
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#HQL_PARSER_WARMUP
+	 */
+	default long getHqlParseLlFallbackCount() {
+		//For backward compatibility
+		return 0;
+	}
 }
@@ -25,6 +25,8 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 	private final LongAdder updateCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 	private final LongAdder recreateCount = new LongAdder();
+	private final LongAdder batchFetchCount = new LongAdder();
+	private final LongAdder batchFetchSizeTotal = new LongAdder();
 
 	CollectionStatisticsImpl(CollectionPersister persister) {
 		super(
@@ -76,6 +78,20 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		removeCount.increment();
 	}
 
+	public long getBatchFetchCount() {
+		return batchFetchCount.sum();
+	}
+
+	public double getAverageBatchFetchSize() {
+		final long count = batchFetchCount.sum();
+		return count == 0 ? 0 : (double) batchFetchSizeTotal.sum() / count;
+	}
+
+	void recordBatchFetch(int batchSize) {
+		batchFetchCount.increment();
+		batchFetchSizeTotal.add( batchSize );
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "CollectionStatistics" )
@@ -84,7 +100,8 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 				.append( ",fetchCount=" ).append( this.fetchCount )
 				.append( ",recreateCount=" ).append( this.recreateCount )
 				.append( ",removeCount=" ).append( this.removeCount )
-				.append( ",updateCount=" ).append( this.updateCount );
+				.append( ",updateCount=" ).append( this.updateCount )
+				.append( ",batchFetchCount=" ).append( this.batchFetchCount );
 		appendCacheStats( buffer );
 		return buffer.append(']').toString();
 	}
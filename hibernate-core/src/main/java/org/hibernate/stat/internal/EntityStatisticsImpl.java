@@ -26,6 +26,8 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private final LongAdder batchFetchCount = new LongAdder();
+	private final LongAdder batchFetchSizeTotal = new LongAdder();
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super(
@@ -84,6 +86,20 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		optimisticFailureCount.increment();
 	}
 
+	public long getBatchFetchCount() {
+		return batchFetchCount.sum();
+	}
+
+	public double getAverageBatchFetchSize() {
+		final long count = batchFetchCount.sum();
+		return count == 0 ? 0 : (double) batchFetchSizeTotal.sum() / count;
+	}
+
+	void recordBatchFetch(int batchSize) {
+		batchFetchCount.increment();
+		batchFetchSizeTotal.add( batchSize );
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "EntityStatistics" )
@@ -93,7 +109,8 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 				.append( ",insertCount=" ).append( this.insertCount )
 				.append( ",deleteCount=" ).append( this.deleteCount )
 				.append( ",fetchCount=" ).append( this.fetchCount )
-				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount );
+				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount )
+				.append( ",batchFetchCount=" ).append( this.batchFetchCount );
 		appendCacheStats( buffer );
 		return buffer.append( ']' ).toString();
 	}
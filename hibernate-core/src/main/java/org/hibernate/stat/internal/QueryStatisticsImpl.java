@@ -35,6 +35,8 @@ public class QueryStatisticsImpl implements QueryStatistics {
 
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
+	private final LongAdder planVariantHitCount = new LongAdder();
+	private final LongAdder planVariantMissCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
 
 
@@ -146,6 +148,20 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		return planCacheMissCount.sum();
 	}
 
+	/**
+	 * SQL variant of the query plan reused
+	 */
+	public long getPlanVariantHitCount() {
+		return planVariantHitCount.sum();
+	}
+
+	/**
+	 * SQL variant of the query plan created
+	 */
+	public long getPlanVariantMissCount() {
+		return planVariantMissCount.sum();
+	}
+
 	/**
 	 * Query plan overall compiled total
 	 */
@@ -206,6 +222,14 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		planCacheMissCount.increment();
 	}
 
+	void incrementPlanVariantHitCount() {
+		planVariantHitCount.increment();
+	}
+
+	void incrementPlanVariantMissCount() {
+		planVariantMissCount.increment();
+	}
+
 	public String toString() {
 		return "QueryStatistics"
 				+ "[query=" + query
@@ -86,6 +86,12 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanVariantHitCount = new LongAdder();
+	private final LongAdder queryPlanVariantMissCount = new LongAdder();
+	private final LongAdder criteriaQueryPlanCacheHitCount = new LongAdder();
+	private final LongAdder criteriaQueryPlanCacheMissCount = new LongAdder();
+	private final LongAdder hqlParseCount = new LongAdder();
+	private final LongAdder hqlParseLlFallbackCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -190,6 +196,12 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanVariantHitCount.reset();
+		queryPlanVariantMissCount.reset();
+		criteriaQueryPlanCacheHitCount.reset();
+		criteriaQueryPlanCacheMissCount.reset();
+		hqlParseCount.reset();
+		hqlParseLlFallbackCount.reset();
 
 		resetStartTime();
 	}
@@ -273,6 +285,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void batchFetchEntity(String entityName, int batchSize) {
+		getEntityStatistics( entityName ).recordBatchFetch( batchSize );
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
@@ -372,6 +389,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getCollectionStatistics( role ).incrementFetchCount();
 	}
 
+	@Override
+	public void batchFetchCollection(String role, int batchSize) {
+		getCollectionStatistics( role ).recordBatchFetch( batchSize );
+	}
+
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
@@ -757,6 +779,36 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanVariantHitCount() {
+		return queryPlanVariantHitCount.sum();
+	}
+
+	@Override
+	public long getQueryPlanVariantMissCount() {
+		return queryPlanVariantMissCount.sum();
+	}
+
+	@Override
+	public long getCriteriaQueryPlanCacheHitCount() {
+		return criteriaQueryPlanCacheHitCount.sum();
+	}
+
+	@Override
+	public long getCriteriaQueryPlanCacheMissCount() {
+		return criteriaQueryPlanCacheMissCount.sum();
+	}
+
+	@Override
+	public long getHqlParseCount() {
+		return hqlParseCount.sum();
+	}
+
+	@Override
+	public long getHqlParseLlFallbackCount() {
+		return hqlParseLlFallbackCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -784,6 +836,42 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void criteriaQueryPlanCacheHit() {
+		criteriaQueryPlanCacheHitCount.increment();
+	}
+
+	@Override
+	public void criteriaQueryPlanCacheMiss() {
+		criteriaQueryPlanCacheMissCount.increment();
+	}
+
+	@Override
+	public void queryPlanVariantHit(String query) {
+		queryPlanVariantHitCount.increment();
+
+		if ( query != null ) {
+			getQueryStatistics( query ).incrementPlanVariantHitCount();
+		}
+	}
+
+	@Override
+	public void queryPlanVariantMiss(String query) {
+		queryPlanVariantMissCount.increment();
+
+		if ( query != null ) {
+			getQueryStatistics( query ).incrementPlanVariantMissCount();
+		}
+	}
+
+	@Override
+	public void hqlParsed(boolean llFallback) {
+		hqlParseCount.increment();
+		if ( llFallback ) {
+			hqlParseLlFallbackCount.increment();
+		}
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return l2CacheStatsMap.getOrCompute(
 				regionName,
@@ -957,6 +1045,10 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				.append( ",max query time=" ).append( queryExecutionMaxTime )
 				.append( ",query plan cache hits=" ).append( queryPlanCacheHitCount )
 				.append( ",query plan cache misses=" ).append( queryPlanCacheMissCount )
+				.append( ",criteria query plan cache hits=" ).append( criteriaQueryPlanCacheHitCount )
+				.append( ",criteria query plan cache misses=" ).append( criteriaQueryPlanCacheMissCount )
+				.append( ",HQL parses=" ).append( hqlParseCount )
+				.append( ",HQL parse LL fallbacks=" ).append( hqlParseLlFallbackCount )
 				.append( ']' )
 				.toString();
 	}
@@ -70,6 +70,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchEntity(String entityName);
 
+	/**
+	 * Callback about a batch fetch of an entity.
+	 *
+	 * @param entityName The name of the entity fetched.
+	 * @param batchSize The number of keys included in the batch.
+	 */
+	default void batchFetchEntity(String entityName, int batchSize) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about an entity being updated.
 	 *
@@ -114,6 +124,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchCollection(String role);
 
+	/**
+	 * Callback about a batch fetch of a collection.
+	 *
+	 * @param role The collection role.
+	 * @param batchSize The number of keys included in the batch.
+	 */
+	default void batchFetchCollection(String role, int batchSize) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating a collection was updated.
 	 *
@@ -266,6 +286,49 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating a get from the query plan cache for a criteria query resulted
+	 * in a hit.  Called in addition to {@link #queryPlanCacheHit}.
+	 */
+	default void criteriaQueryPlanCacheHit() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a get from the query plan cache for a criteria query resulted
+	 * in a miss.  Called in addition to {@link #queryPlanCacheMiss}.
+	 */
+	default void criteriaQueryPlanCacheMiss() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a query execution reused a SQL variant cached by its query plan.
+	 *
+	 * @param query The query
+	 */
+	default void queryPlanVariantHit(String query) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a query execution needed a new SQL variant for its query plan.
+	 *
+	 * @param query The query
+	 */
+	default void queryPlanVariantMiss(String query) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating an HQL query was parsed.
+	 *
+	 * @param llFallback Whether the query had to be parsed again using full LL prediction
+	 */
+	default void hqlParsed(boolean llFallback) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -12,7 +12,18 @@ import java.io.Serializable;
 import java.sql.Blob;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
 
 import org.hibernate.HibernateException;
 import org.hibernate.annotations.Immutable;
@@ -35,15 +46,46 @@ public class SerializableJavaTypeDescriptor<T extends Serializable> extends Abst
 	public static class SerializableMutabilityPlan<S extends Serializable> extends MutableMutabilityPlan<S> {
 		public static final SerializableMutabilityPlan<Serializable> INSTANCE = new SerializableMutabilityPlan<>();
 
+		// final classes only, a subclass of any of these might be mutable
+		private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>( Arrays.asList(
+				String.class,
+				Boolean.class,
+				Character.class,
+				Byte.class,
+				Short.class,
+				Integer.class,
+				Long.class,
+				Float.class,
+				Double.class,
+				UUID.class,
+				LocalDate.class,
+				LocalTime.class,
+				LocalDateTime.class,
+				OffsetTime.class,
+				OffsetDateTime.class,
+				ZonedDateTime.class,
+				Instant.class,
+				Duration.class
+		) );
+
 		private SerializableMutabilityPlan() {
 		}
 
 		@Override
 		@SuppressWarnings({ "unchecked" })
 		public S deepCopyNotNull(S value) {
+			if ( isImmutable( value ) ) {
+				// no need to serialize a value which can not change
+				return value;
+			}
 			return (S) SerializationHelper.clone( value );
 		}
 
+		private static boolean isImmutable(Serializable value) {
+			// enum constants are resolved to the same instance by deserialization anyway
+			return value instanceof Enum || IMMUTABLE_TYPES.contains( value.getClass() );
+		}
+
 	}
 
 	public SerializableJavaTypeDescriptor(Class<T> type) {
@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for {@link org.hibernate.query.Query#getResultListAsync()} and friends
+ */
+@DomainModel(annotatedClasses = AsyncExecutionTest.Book.class)
+@SessionFactory
+public class AsyncExecutionTest {
+
+	@Test
+	public void testFindAsync(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Book book = await( session.findAsync( Book.class, 1 ) );
+			assertNotNull( book );
+			assertEquals( "Hibernate in Action", book.getTitle() );
+
+			assertNull( await( session.findAsync( Book.class, 99 ) ) );
+		} );
+	}
+
+	@Test
+	public void testQueryAsync(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Book> books = await(
+					session.createQuery( "from Book order by id", Book.class ).getResultListAsync()
+			);
+			assertEquals( 2, books.size() );
+
+			final Book book = await(
+					session.createQuery( "from Book where id = :id", Book.class )
+							.setParameter( "id", 2 )
+							.uniqueResultAsync()
+			);
+			assertEquals( "Java Persistence with Hibernate", book.getTitle() );
+		} );
+	}
+
+	@Test
+	public void testOperationsAreSerialized(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final CompletionStage<Integer> update = session.createQuery( "update Book set title = 'renamed'" )
+					.executeUpdateAsync();
+			final CompletionStage<List<String>> titles = session.createQuery( "select title from Book", String.class )
+					.getResultListAsync();
+
+			assertEquals( 2, await( update ) );
+			assertEquals( List.of( "renamed", "renamed" ), await( titles ) );
+		} );
+	}
+
+	private static <T> T await(CompletionStage<T> stage) {
+		try {
+			return stage.toCompletableFuture().get( 10, TimeUnit.SECONDS );
+		}
+		catch (InterruptedException | ExecutionException | TimeoutException e) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1, "Hibernate in Action" ) );
+			session.persist( new Book( 2, "Java Persistence with Hibernate" ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+}
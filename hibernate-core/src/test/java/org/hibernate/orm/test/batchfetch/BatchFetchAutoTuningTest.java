@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.loader.ast.internal.BatchSizeTuner;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AvailableSettings#BATCH_FETCH_AUTO_TUNING}
+ */
+@DomainModel(
+		annotatedClasses = {
+				BatchFetchAutoTuningTest.Parent.class,
+				BatchFetchAutoTuningTest.Child.class
+		}
+)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, value = "16"),
+				@Setting(name = AvailableSettings.BATCH_FETCH_AUTO_TUNING, value = "true")
+		}
+)
+public class BatchFetchAutoTuningTest {
+	private static final int NUMBER_OF_PARENTS = 5;
+
+	@Test
+	public void testBatchSizedFromQueue(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final List<Child> children = session.createQuery( "from Child", Child.class ).getResultList();
+			assertEquals( NUMBER_OF_PARENTS, children.size() );
+
+			Hibernate.initialize( children.get( 0 ).getParent() );
+			for ( Child child : children ) {
+				assertTrue( Hibernate.isInitialized( child.getParent() ) );
+			}
+		} );
+
+		final EntityStatistics parentStatistics = statistics.getEntityStatistics( Parent.class.getName() );
+		assertEquals( 1, parentStatistics.getBatchFetchCount() );
+		assertEquals( NUMBER_OF_PARENTS, parentStatistics.getAverageBatchFetchSize(), 0.0 );
+	}
+
+	@Test
+	public void testTunerBounds() {
+		final BatchSizeTuner tuner = new BatchSizeTuner( 2, 16 );
+		assertEquals( 2, tuner.determineBatchSize( 0 ) );
+		assertEquals( 2, tuner.determineBatchSize( 2 ) );
+		assertEquals( 5, tuner.determineBatchSize( 5 ) );
+		assertEquals( 16, tuner.determineBatchSize( 100 ) );
+
+		// repeatedly missing keys shrinks the upper bound
+		for ( int i = 0; i < 20; i++ ) {
+			tuner.recordBatch( 16, 1 );
+		}
+		assertTrue( tuner.determineBatchSize( 100 ) < 16 );
+	}
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= NUMBER_OF_PARENTS; i++ ) {
+				final Parent parent = new Parent( i, "Parent_" + i );
+				session.persist( parent );
+				session.persist( new Child( i, parent ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createQuery( "delete from Child" ).executeUpdate();
+			session.createQuery( "delete from Parent" ).executeUpdate();
+		} );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Parent() {
+		}
+
+		public Parent(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Parent getParent() {
+			return parent;
+		}
+	}
+}
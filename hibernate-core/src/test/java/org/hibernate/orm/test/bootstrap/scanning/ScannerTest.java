@@ -6,21 +6,25 @@
  */
 package org.hibernate.orm.test.bootstrap.scanning;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.InputStream;
 import java.util.HashMap;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
 
+import org.hibernate.boot.archive.scan.internal.CachingScanner;
 import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
 import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
 import org.hibernate.boot.archive.scan.internal.StandardScanner;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.ClassFileArchiveEntryHandler;
 import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
 import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
 import org.hibernate.boot.archive.scan.spi.ScanOptions;
 import org.hibernate.boot.archive.scan.spi.ScanResult;
 import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.registry.classloading.internal.ClassLoaderServiceImpl;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.jpa.boot.internal.ParsedPersistenceXmlDescriptor;
 import org.hibernate.jpa.boot.internal.StandardJpaScanEnvironmentImpl;
@@ -28,9 +32,17 @@ import org.hibernate.jpa.boot.spi.PersistenceUnitDescriptor;
 import org.hibernate.orm.test.jpa.pack.defaultpar.ApplicationServer;
 import org.hibernate.orm.test.jpa.pack.defaultpar.Version;
 
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.jboss.shrinkwrap.api.ArchivePaths;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -70,6 +82,81 @@ public class ScannerTest extends PackagingTestCase {
 		}
 	}
 
+	@Test
+	public void testPrebuiltJandexIndex() throws Exception {
+		final String entityClassFile = ApplicationServer.class.getName().replace( '.', '/' ) + ".class";
+		final Indexer indexer = new Indexer();
+		try ( InputStream stream = getClass().getClassLoader().getResourceAsStream( entityClassFile ) ) {
+			indexer.index( stream );
+		}
+		final ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+		new IndexWriter( indexBytes ).write( indexer.complete() );
+
+		// the class file itself is unreadable, so the entity can only be detected through the index
+		JavaArchive archive = ShrinkWrap.create( JavaArchive.class, "indexedpar.par" );
+		archive.addClasses( Version.class );
+		archive.add( new ByteArrayAsset( new byte[] { 0, 1, 2, 3 } ), entityClassFile );
+		archive.add( new ByteArrayAsset( indexBytes.toByteArray() ), ClassFileArchiveEntryHandler.INDEX_ENTRY_NAME );
+		archive.addAsResource( "defaultpar/META-INF/persistence.xml", ArchivePaths.create( "META-INF/persistence.xml" ) );
+		File indexedPar = new File( packageTargetDir, "indexedpar.par" );
+		archive.as( ZipExporter.class ).exportTo( indexedPar, true );
+
+		PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( indexedPar.toURL() );
+		ScanEnvironment env = new StandardJpaScanEnvironmentImpl( descriptor );
+		ScanOptions options = new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() );
+		ScanResult scanResult = new StandardScanner().scan( env, options, StandardScanParameters.INSTANCE );
+
+		assertEquals( 2, scanResult.getLocatedClasses().size() );
+		assertClassesContained( scanResult, ApplicationServer.class );
+		assertClassesContained( scanResult, Version.class );
+	}
+
+	@Test
+	public void testCachingScanner() throws Exception {
+		File defaultPar = buildDefaultPar();
+		addPackageToClasspath( defaultPar );
+
+		PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( defaultPar.toURL() );
+		ScanEnvironment env = new StandardJpaScanEnvironmentImpl( descriptor );
+		ScanOptions options = new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() );
+		File cacheFile = File.createTempFile( "scan-cache", ".bin" );
+		cacheFile.delete();
+		cacheFile.deleteOnExit();
+
+		ClassLoaderServiceImpl classLoaderService = new ClassLoaderServiceImpl();
+		try {
+			Scanner scanner = new CachingScanner( new CustomScanner(), cacheFile.toPath(), classLoaderService );
+
+			CustomScanner.resetUsed();
+			ScanResult scanResult = scanner.scan( env, options, StandardScanParameters.INSTANCE );
+			assertTrue( CustomScanner.isUsed() );
+			assertEquals( 3, scanResult.getLocatedClasses().size() );
+			assertTrue( cacheFile.exists() );
+
+			CustomScanner.resetUsed();
+			scanResult = scanner.scan( env, options, StandardScanParameters.INSTANCE );
+			assertFalse( CustomScanner.isUsed() );
+			assertEquals( 3, scanResult.getLocatedClasses().size() );
+			assertClassesContained( scanResult, ApplicationServer.class );
+			assertClassesContained( scanResult, Version.class );
+			assertEquals( 2, scanResult.getLocatedMappingFiles().size() );
+			for ( MappingFileDescriptor mappingFileDescriptor : scanResult.getLocatedMappingFiles() ) {
+				InputStream stream = mappingFileDescriptor.getStreamAccess().accessInputStream();
+				assertTrue( stream.read() != -1 );
+				stream.close();
+			}
+
+			// a changed archive invalidates the cached results
+			assertTrue( defaultPar.setLastModified( defaultPar.lastModified() + 10_000 ) );
+			CustomScanner.resetUsed();
+			scanner.scan( env, options, StandardScanParameters.INSTANCE );
+			assertTrue( CustomScanner.isUsed() );
+		}
+		finally {
+			classLoaderService.stop();
+		}
+	}
+
 	private void assertClassesContained(ScanResult scanResult, Class classToCheckFor) {
 		for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
 			if ( classDescriptor.getName().equals( classToCheckFor.getName() ) ) {
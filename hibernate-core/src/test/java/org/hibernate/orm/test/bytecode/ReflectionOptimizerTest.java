@@ -9,9 +9,15 @@ package org.hibernate.orm.test.bytecode;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cfg.Environment;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBasicImpl;
+import org.hibernate.property.access.internal.PropertyAccessStrategyFieldImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
 import org.hibernate.testing.TestForIssue;
 import org.hibernate.testing.junit4.BaseUnitTestCase;
 import org.junit.Test;
@@ -62,6 +68,69 @@ public class ReflectionOptimizerTest extends BaseUnitTestCase {
 		assertNotNull( reflectionOptimizer );
 	}
 
+	@Test
+	public void testPropertyAccessOptimization() {
+		final Map<String, PropertyAccess> propertyAccessMap = new LinkedHashMap<>();
+		propertyAccessMap.put( "id", PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( FieldBean.class, "id", true ) );
+		propertyAccessMap.put( "name", PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( FieldBean.class, "name", true ) );
+		propertyAccessMap.put( "count", PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( FieldBean.class, "count", true ) );
+		propertyAccessMap.put( "property", PropertyAccessStrategyBasicImpl.INSTANCE.buildPropertyAccess( FieldBean.class, "property", true ) );
+
+		final ReflectionOptimizer optimizer = Environment.getBytecodeProvider()
+				.getReflectionOptimizer( FieldBean.class, propertyAccessMap );
+		assertNotNull( optimizer );
+		assertNotNull( optimizer.getAccessOptimizer() );
+
+		final FieldBean bean = (FieldBean) optimizer.getInstantiationOptimizer().newInstance();
+		final Object[] values = new Object[] { 1L, "name", 5, "value" };
+		optimizer.getAccessOptimizer().setPropertyValues( bean, values );
+		assertEquals( 1L, bean.id );
+		assertEquals( "name", bean.name );
+		assertEquals( 5, bean.count );
+		assertEquals( "value", bean.getProperty() );
+		assertEquivalent( values, optimizer.getAccessOptimizer().getPropertyValues( bean ) );
+	}
+
+	@Test
+	public void testPrivateMemberOptimization() {
+		final Map<String, PropertyAccess> propertyAccessMap = new LinkedHashMap<>();
+		propertyAccessMap.put( "id", PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( PrivateBean.class, "id", true ) );
+		propertyAccessMap.put( "version", PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( PrivateBean.class, "version", true ) );
+		propertyAccessMap.put( "name", PropertyAccessStrategyBasicImpl.INSTANCE.buildPropertyAccess( PrivateBean.class, "name", true ) );
+		propertyAccessMap.put( "property", PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( AbstractClass.class, "property", true ) );
+
+		final ReflectionOptimizer optimizer = Environment.getBytecodeProvider()
+				.getReflectionOptimizer( PrivateBean.class, propertyAccessMap );
+		assertNotNull( optimizer );
+		assertNotNull( optimizer.getAccessOptimizer() );
+
+		final PrivateBean bean = new PrivateBean();
+		final Object[] values = new Object[] { 1L, 2, "name", "value" };
+		optimizer.getAccessOptimizer().setPropertyValues( bean, values );
+		assertEquals( Long.valueOf( 1L ), bean.id );
+		assertEquals( 2, bean.version );
+		assertEquals( "name", bean.name );
+		assertEquals( "value", bean.getProperty() );
+		assertEquivalent( values, optimizer.getAccessOptimizer().getPropertyValues( bean ) );
+	}
+
+	@Test
+	public void testDefaultMethodAccessorOptimization() {
+		final Map<String, PropertyAccess> propertyAccessMap = new LinkedHashMap<>();
+		propertyAccessMap.put( "label", PropertyAccessStrategyBasicImpl.INSTANCE.buildPropertyAccess( DefaultMethodBean.class, "label", true ) );
+		propertyAccessMap.put( "rawLabel", PropertyAccessStrategyBasicImpl.INSTANCE.buildPropertyAccess( DefaultMethodBean.class, "rawLabel", true ) );
+
+		final ReflectionOptimizer optimizer = Environment.getBytecodeProvider()
+				.getReflectionOptimizer( DefaultMethodBean.class, propertyAccessMap );
+		assertNotNull( optimizer );
+		assertNotNull( optimizer.getAccessOptimizer() );
+
+		final DefaultMethodBean bean = new DefaultMethodBean();
+		optimizer.getAccessOptimizer().setPropertyValues( bean, new Object[] { "label", "label" } );
+		assertEquals( "label", bean.getRawLabel() );
+		assertEquivalent( new Object[] { "label", "label" }, optimizer.getAccessOptimizer().getPropertyValues( bean ) );
+	}
+
 	private void assertEquivalent(Object[] checkValues, Object[] values) {
 		assertEquals( "Different lengths", checkValues.length, values.length );
 		for ( int i = 0; i < checkValues.length; i++ ) {
@@ -82,6 +151,67 @@ public class ReflectionOptimizerTest extends BaseUnitTestCase {
 		}
 	}
 
+	public static class BaseFieldBean {
+		Long id;
+	}
+
+	public static class FieldBean extends BaseFieldBean {
+		String name;
+		int count;
+		private String property;
+
+		public String getProperty() {
+			return property;
+		}
+
+		public void setProperty(String property) {
+			this.property = property;
+		}
+	}
+
+	public static class PrivateBean extends AbstractClass {
+		private final Long id = null;
+		private int version;
+		private String name;
+
+		private String getName() {
+			return name;
+		}
+
+		private void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public interface Labeled {
+
+		String getRawLabel();
+
+		void setRawLabel(String rawLabel);
+
+		default String getLabel() {
+			return getRawLabel();
+		}
+
+		default void setLabel(String label) {
+			setRawLabel( label );
+		}
+	}
+
+	public static class DefaultMethodBean implements Labeled {
+		private String rawLabel;
+
+		@Override
+		public String getRawLabel() {
+			return rawLabel;
+		}
+
+		@Override
+		public void setRawLabel(String rawLabel) {
+			this.rawLabel = rawLabel;
+		}
+	}
+
 	public interface Interface {
 
 		String getProperty();
@@ -0,0 +1,183 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode.enhancement.cascade;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PersistEvent;
+import org.hibernate.event.spi.PersistEventListener;
+import org.hibernate.orm.test.jpa.BaseEntityManagerFunctionalTestCase;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests {@link AvailableSettings#FLUSH_CASCADE_PRUNING}.
+ */
+@RunWith(BytecodeEnhancerRunner.class)
+public class FlushCascadePruningTest extends BaseEntityManagerFunctionalTestCase {
+
+	private static final AtomicInteger cascadedPersists = new AtomicInteger();
+
+	private Long parentId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Parent.class, Child.class };
+	}
+
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	protected void addConfigOptions(Map options) {
+		options.put( AvailableSettings.FLUSH_CASCADE_PRUNING, "true" );
+	}
+
+	@Override
+	protected void afterEntityManagerFactoryBuilt() {
+		entityManagerFactory().getServiceRegistry()
+				.getService( EventListenerRegistry.class )
+				.appendListeners(
+						EventType.PERSIST_ONFLUSH,
+						new PersistEventListener() {
+							@Override
+							public void onPersist(PersistEvent event) {
+								cascadedPersists.incrementAndGet();
+							}
+
+							@Override
+							public void onPersist(PersistEvent event, Map createdAlready) {
+								cascadedPersists.incrementAndGet();
+							}
+						}
+				);
+	}
+
+	@Before
+	public void prepare() {
+		doInJPA( this::entityManagerFactory, s -> {
+			final Parent parent = new Parent();
+			parent.favorite = new Child( "favorite" );
+			parent.addChild( new Child( "first" ) );
+			s.persist( parent );
+			parentId = parent.id;
+		} );
+	}
+
+	@Test
+	public void testUnchangedEntityIsNotCascadedFrom() {
+		doInJPA( this::entityManagerFactory, s -> {
+			final Parent parent = s.find( Parent.class, parentId );
+			assertNotNull( parent.favorite );
+
+			cascadedPersists.set( 0 );
+			s.flush();
+			assertEquals( 0, cascadedPersists.get() );
+
+			parent.name = "changed";
+			s.flush();
+			assertEquals( 1, cascadedPersists.get() );
+		} );
+	}
+
+	@Test
+	public void testRemovedEntityReachableFromUnchangedEntityIsPersistedAgain() {
+		doInJPA( this::entityManagerFactory, s -> {
+			final Parent parent = s.find( Parent.class, parentId );
+			final Child favorite = parent.favorite;
+
+			// the unchanged parent still cascades to its favorite, which is therefore not removed
+			s.remove( favorite );
+			s.flush();
+			assertSame( favorite, parent.favorite );
+			assertEquals( 2L, s.createQuery( "select count(c) from Child c", Long.class ).getSingleResult().longValue() );
+		} );
+	}
+
+	@Test
+	public void testNewlyAssociatedTransientsArePersisted() {
+		doInJPA( this::entityManagerFactory, s -> {
+			final Parent parent = s.find( Parent.class, parentId );
+			parent.favorite = new Child( "new favorite" );
+		} );
+		doInJPA( this::entityManagerFactory, s -> {
+			final Parent parent = s.find( Parent.class, parentId );
+			parent.addChild( new Child( "second" ) );
+		} );
+
+		doInJPA( this::entityManagerFactory, s -> {
+			final Parent parent = s.find( Parent.class, parentId );
+			assertEquals( "new favorite", parent.favorite.name );
+			assertEquals( 2, parent.children.size() );
+			assertEquals( 3L, s.createQuery( "select count(c) from Child c", Long.class ).getSingleResult().longValue() );
+		} );
+	}
+
+	// --- //
+
+	@Entity(name = "Parent")
+	@Table(name = "PRUNING_PARENT")
+	static class Parent {
+
+		@Id
+		@GeneratedValue
+		Long id;
+
+		String name;
+
+		@ManyToOne(cascade = CascadeType.ALL)
+		Child favorite;
+
+		@OneToMany(mappedBy = "parent", cascade = CascadeType.ALL)
+		List<Child> children = new ArrayList<>();
+
+		void addChild(Child child) {
+			child.parent = this;
+			children.add( child );
+		}
+	}
+
+	@Entity(name = "Child")
+	@Table(name = "PRUNING_CHILD")
+	static class Child {
+
+		@Id
+		@GeneratedValue
+		Long id;
+
+		String name;
+
+		@ManyToOne
+		Parent parent;
+
+		Child() {
+		}
+
+		Child(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,212 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.collection.bag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests {@link AvailableSettings#COLLECTION_DIFF_UPDATES}.
+ */
+@DomainModel(annotatedClasses = BagDiffUpdatesTest.Owner.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.COLLECTION_DIFF_UPDATES, value = "true"))
+@SessionFactory(statementInspectorClass = SQLStatementInspector.class)
+public class BagDiffUpdatesTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "from Owner", Owner.class )
+				.list()
+				.forEach( session::delete ) );
+	}
+
+	@Test
+	public void testSingleElementChange(SessionFactoryScope scope) {
+		final List<Integer> elements = new ArrayList<>();
+		for ( int i = 0; i < 50; i++ ) {
+			elements.add( i );
+		}
+		persist( scope, elements );
+
+		final SQLStatementInspector inspector = scope.getStatementInspector( SQLStatementInspector.class );
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final Owner owner = session.get( Owner.class, 1 );
+			owner.bag.remove( Integer.valueOf( 10 ) );
+			owner.bag.add( 100 );
+		} );
+		assertEquals( 1, count( inspector, "delete" ) );
+		assertEquals( 1, count( inspector, "insert" ) );
+
+		elements.remove( Integer.valueOf( 10 ) );
+		elements.add( 100 );
+		assertBag( scope, elements );
+	}
+
+	@Test
+	public void testDuplicates(SessionFactoryScope scope) {
+		persist( scope, Arrays.asList( 1, 1, 1, 2, 3 ) );
+
+		final SQLStatementInspector inspector = scope.getStatementInspector( SQLStatementInspector.class );
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final Owner owner = session.get( Owner.class, 1 );
+			owner.bag.remove( Integer.valueOf( 1 ) );
+			owner.bag.add( 3 );
+		} );
+		// all rows of 1 and 3 are replaced by their new occurrences
+		assertEquals( 2, count( inspector, "delete" ) );
+		assertEquals( 4, count( inspector, "insert" ) );
+		assertBag( scope, Arrays.asList( 1, 1, 2, 3, 3 ) );
+
+		scope.inTransaction( session -> {
+			final Owner owner = session.get( Owner.class, 1 );
+			owner.bag.removeAll( Collections.singleton( 1 ) );
+		} );
+		assertBag( scope, Arrays.asList( 2, 3, 3 ) );
+	}
+
+	@Test
+	public void testReorderingIsNotWritten(SessionFactoryScope scope) {
+		persist( scope, Arrays.asList( 1, 2, 3 ) );
+
+		final SQLStatementInspector inspector = scope.getStatementInspector( SQLStatementInspector.class );
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final Owner owner = session.get( Owner.class, 1 );
+			Collections.reverse( owner.bag );
+		} );
+		assertEquals( 0, count( inspector, "delete" ) );
+		assertEquals( 0, count( inspector, "insert" ) );
+		assertBag( scope, Arrays.asList( 1, 2, 3 ) );
+	}
+
+	@Test
+	public void testStringBagIsRecreated(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Owner owner = new Owner( 1 );
+			owner.strings.addAll( Arrays.asList( "a", "A", "b" ) );
+			session.persist( owner );
+		} );
+
+		final SQLStatementInspector inspector = scope.getStatementInspector( SQLStatementInspector.class );
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final Owner owner = session.get( Owner.class, 1 );
+			owner.strings.remove( "a" );
+		} );
+		// under a case insensitive collation deleting the rows of "a" would delete "A" too
+		assertEquals( 1, count( inspector, "delete", "owner_strings" ) );
+		assertEquals( 2, count( inspector, "insert", "owner_strings" ) );
+
+		scope.inTransaction( session -> {
+			final List<String> strings = new ArrayList<>( session.get( Owner.class, 1 ).strings );
+			Collections.sort( strings );
+			assertEquals( Arrays.asList( "A", "b" ), strings );
+		} );
+	}
+
+	@Test
+	public void testListReordering(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Owner owner = new Owner( 1 );
+			owner.list.addAll( Arrays.asList( "a", "b", "c", "d" ) );
+			session.persist( owner );
+		} );
+
+		scope.inTransaction( session -> {
+			final Owner owner = session.get( Owner.class, 1 );
+			owner.list.add( 0, owner.list.remove( 3 ) );
+			owner.list.remove( "b" );
+		} );
+
+		scope.inTransaction( session -> {
+			final Owner owner = session.get( Owner.class, 1 );
+			assertEquals( Arrays.asList( "d", "a", "c" ), owner.list );
+		} );
+	}
+
+	private static void persist(SessionFactoryScope scope, List<Integer> elements) {
+		scope.inTransaction( session -> {
+			final Owner owner = new Owner( 1 );
+			owner.bag.addAll( elements );
+			session.persist( owner );
+		} );
+	}
+
+	private static void assertBag(SessionFactoryScope scope, List<Integer> expected) {
+		scope.inTransaction( session -> {
+			final List<Integer> actual = new ArrayList<>( session.get( Owner.class, 1 ).bag );
+			final List<Integer> sorted = new ArrayList<>( expected );
+			Collections.sort( actual );
+			Collections.sort( sorted );
+			assertEquals( sorted, actual );
+		} );
+	}
+
+	private static long count(SQLStatementInspector inspector, String statementType) {
+		return count( inspector, statementType, "owner_bag" );
+	}
+
+	private static long count(SQLStatementInspector inspector, String statementType, String table) {
+		return inspector.getSqlQueries()
+				.stream()
+				.filter( sql -> sql.toLowerCase( Locale.ROOT ).startsWith( statementType )
+						&& sql.toLowerCase( Locale.ROOT ).contains( table ) )
+				.count();
+	}
+
+	@Entity(name = "Owner")
+	@Table(name = "bag_diff_owner")
+	public static class Owner {
+		@Id
+		private Integer id;
+
+		@ElementCollection
+		@CollectionTable(name = "owner_bag", joinColumns = @JoinColumn(name = "owner_id"))
+		private List<Integer> bag = new ArrayList<>();
+
+		@ElementCollection
+		@CollectionTable(name = "owner_strings", joinColumns = @JoinColumn(name = "owner_id"))
+		private List<String> strings = new ArrayList<>();
+
+		@ElementCollection
+		@CollectionTable(name = "owner_list", joinColumns = @JoinColumn(name = "owner_id"))
+		@OrderColumn(name = "list_order")
+		private List<String> list = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -6,6 +6,15 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
@@ -299,6 +308,41 @@ public class OptimizerUnitTest {
 
 	}
 
+	@Test
+	public void testConcurrentGeneration() throws Exception {
+		assertUniqueUnderContention( buildHiloOptimizer( -1, 10 ) );
+		assertUniqueUnderContention( buildPooledOptimizer( -1, 10 ) );
+		assertUniqueUnderContention( buildPooledLoOptimizer( -1, 10 ) );
+	}
+
+	private static void assertUniqueUnderContention(Optimizer optimizer) throws Exception {
+		final int threads = 8;
+		final int perThread = 1000;
+		// the source is not thread-safe, the optimizer is expected to guard it
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final Set<Long> generated = ConcurrentHashMap.newKeySet();
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add(
+						executor.submit( () -> {
+							for ( int j = 0; j < perThread; j++ ) {
+								generated.add( (Long) optimizer.generate( sequence ) );
+							}
+						} )
+				);
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 30, TimeUnit.SECONDS );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertEquals( threads * perThread, generated.size() );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
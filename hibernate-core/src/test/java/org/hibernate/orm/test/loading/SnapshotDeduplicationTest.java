@@ -0,0 +1,144 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.loading;
+
+import java.util.Date;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests {@link AvailableSettings#SNAPSHOT_DEDUPLICATION}.
+ */
+@DomainModel(annotatedClasses = SnapshotDeduplicationTest.Event.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.SNAPSHOT_DEDUPLICATION, value = "true"))
+@SessionFactory
+public class SnapshotDeduplicationTest {
+
+	private static final long TIME = 1_600_000_000_000L;
+
+	@BeforeEach
+	public void prepare(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Event( 1, new Date( TIME ) ) );
+			session.persist( new Event( 2, new Date( TIME ) ) );
+			session.persist( new Event( 3, new Date( TIME + 1000 ) ) );
+		} );
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete from Event" ).executeUpdate() );
+	}
+
+	@Test
+	public void testEqualValuesAreShared(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Event first = session.get( Event.class, 1 );
+			final Event second = session.get( Event.class, 2 );
+			final Event third = session.get( Event.class, 3 );
+
+			final Object firstSnapshot = loadedOccurredOn( session, first );
+			assertSame( firstSnapshot, loadedOccurredOn( session, second ) );
+			assertNotSame( firstSnapshot, loadedOccurredOn( session, third ) );
+			// the entities still have their own values
+			assertNotSame( first.occurredOn, second.occurredOn );
+			assertNotSame( first.occurredOn, firstSnapshot );
+		} );
+	}
+
+	@Test
+	public void testInPlaceChangeIsDetected(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.get( Event.class, 1 );
+			session.get( Event.class, 2 ).occurredOn.setTime( TIME + 2000 );
+		} );
+
+		scope.inTransaction( session -> {
+			assertEquals( TIME, session.get( Event.class, 1 ).occurredOn.getTime() );
+			assertEquals( TIME + 2000, session.get( Event.class, 2 ).occurredOn.getTime() );
+		} );
+	}
+
+	@Test
+	public void testCopyIsReleasedWithItsLastEntity(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Event first = session.get( Event.class, 1 );
+			final Event second = session.get( Event.class, 2 );
+			final Object snapshot = loadedOccurredOn( session, first );
+
+			// the copy is still shared with the second entity
+			session.evict( first );
+			assertSame( snapshot, loadedOccurredOn( session, session.get( Event.class, 1 ) ) );
+
+			session.evict( session.get( Event.class, 1 ) );
+			session.evict( second );
+			assertNotSame( snapshot, loadedOccurredOn( session, session.get( Event.class, 2 ) ) );
+		} );
+	}
+
+	@Test
+	public void testCopyIsReleasedOnFlush(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Event first = session.get( Event.class, 1 );
+			final Event second = session.get( Event.class, 2 );
+			final Object snapshot = loadedOccurredOn( session, first );
+
+			first.occurredOn = new Date( TIME + 2000 );
+			second.occurredOn = new Date( TIME + 2000 );
+			session.flush();
+
+			session.createQuery( "update Event set occurredOn = :occurredOn where id = 3" )
+					.setParameter( "occurredOn", new Date( TIME ) )
+					.executeUpdate();
+			assertNotSame( snapshot, loadedOccurredOn( session, session.get( Event.class, 3 ) ) );
+		} );
+	}
+
+	private static Object loadedOccurredOn(SessionImplementor session, Event event) {
+		final EntityEntry entry = session.getPersistenceContextInternal().getEntry( event );
+		final int index = entry.getPersister().getEntityMetamodel().getPropertyIndex( "occurredOn" );
+		return entry.getLoadedState()[index];
+	}
+
+	@Entity(name = "Event")
+	@Table(name = "snapshot_event")
+	public static class Event {
+		@Id
+		private Integer id;
+
+		@Temporal(TemporalType.TIMESTAMP)
+		private Date occurredOn;
+
+		public Event() {
+		}
+
+		public Event(Integer id, Date occurredOn) {
+			this.id = id;
+			this.occurredOn = occurredOn;
+		}
+	}
+}
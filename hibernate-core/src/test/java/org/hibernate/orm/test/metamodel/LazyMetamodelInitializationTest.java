@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.metamodel;
+
+import java.util.List;
+
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for {@link AvailableSettings#LAZY_METAMODEL_INITIALIZATION}
+ */
+@DomainModel(
+		annotatedClasses = {
+				LazyMetamodelInitializationTest.Customer.class,
+				LazyMetamodelInitializationTest.Supplier.class,
+				LazyMetamodelInitializationTest.Order.class
+		}
+)
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.LAZY_METAMODEL_INITIALIZATION, value = "true"))
+public class LazyMetamodelInitializationTest {
+
+	@Test
+	public void testPersisterInitializedOnFirstUse(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Customer( 1, "C-1", "first" ) ) );
+
+		scope.inTransaction( session -> {
+			final Customer customer = session.find( Customer.class, 1 );
+			assertEquals( "first", customer.name );
+			customer.name = "renamed";
+		} );
+
+		scope.inTransaction( session -> {
+			final Customer customer = session.bySimpleNaturalId( Customer.class ).load( "C-1" );
+			assertEquals( "renamed", customer.name );
+			final List<Customer> customers = session.byMultipleIds( Customer.class ).multiLoad( 1, 2 );
+			assertEquals( 1, customers.size() );
+			session.remove( customer );
+		} );
+
+		scope.inTransaction( session -> assertNull( session.find( Customer.class, 1 ) ) );
+	}
+
+	@Test
+	public void testUnusedPersisterDoesNotAffectOthers(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			assertEquals( 0, session.createQuery( "from Supplier", Supplier.class ).list().size() );
+			assertNull( session.find( Customer.class, 42 ) );
+		} );
+	}
+
+	@Test
+	@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsIdentityColumns.class)
+	public void testDynamicInsertWithIdentity(SessionFactoryScope scope) {
+		// the first use of the persister is a dynamic insert generating the identifier
+		final Order order = new Order( "first" );
+		scope.inTransaction( session -> session.persist( order ) );
+		assertNotNull( order.id );
+
+		scope.inTransaction( session -> assertEquals( "first", session.find( Order.class, order.id ).description ) );
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		private Integer id;
+
+		@NaturalId
+		private String code;
+
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String code, String name) {
+			this.id = id;
+			this.code = code;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Supplier")
+	public static class Supplier {
+		@Id
+		private Integer id;
+
+		private String name;
+	}
+
+	@Entity(name = "Order")
+	@Table(name = "lazy_init_order")
+	@DynamicInsert
+	public static class Order {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String description;
+
+		public Order() {
+		}
+
+		public Order(String description) {
+			this.description = description;
+		}
+	}
+}
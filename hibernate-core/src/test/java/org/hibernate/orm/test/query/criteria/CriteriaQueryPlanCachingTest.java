@@ -0,0 +1,190 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.criteria;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests sharing of query plans between criteria queries of the same structure
+ */
+@DomainModel(annotatedClasses = CriteriaQueryPlanCachingTest.Product.class)
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"))
+public class CriteriaQueryPlanCachingTest {
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Product( 1, "apple", 3 ) );
+			session.persist( new Product( 2, "pear", 5 ) );
+			session.persist( new Product( 3, "plum", 5 ) );
+		} );
+	}
+
+	@AfterEach
+	public void cleanupTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testPlanSharedBetweenIdenticalCriteria(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final CriteriaBuilder cb = session.getCriteriaBuilder();
+
+			assertEquals( "apple", session.createQuery( byName( cb, "apple" ) ).getSingleResult().name );
+			final long hits = statistics.getQueryPlanCacheHitCount();
+			final long criteriaHits = statistics.getCriteriaQueryPlanCacheHitCount();
+			assertEquals( 1, criteriaHits + statistics.getCriteriaQueryPlanCacheMissCount() );
+
+			// the same shape, but a different tree with a different parameter
+			assertEquals( "pear", session.createQuery( byName( cb, "pear" ) ).getSingleResult().name );
+			assertTrue( statistics.getQueryPlanCacheHitCount() > hits );
+			assertEquals( criteriaHits + 1, statistics.getCriteriaQueryPlanCacheHitCount() );
+
+			assertEquals( 2, session.createQuery( byQuantity( cb, 5 ) ).getResultList().size() );
+			assertEquals( 1, session.createQuery( byQuantity( cb, 3 ) ).getResultList().size() );
+		} );
+	}
+
+	@Test
+	public void testPlanSharedForCaseExpressions(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final CriteriaBuilder cb = session.getCriteriaBuilder();
+
+			assertEquals( 2, session.createQuery( bySize( cb, 4, "large" ) ).getResultList().size() );
+			assertEquals( 1, statistics.getCriteriaQueryPlanCacheMissCount() );
+
+			assertEquals( 1, session.createQuery( bySize( cb, 4, "small" ) ).getResultList().size() );
+			assertEquals( 1, statistics.getCriteriaQueryPlanCacheHitCount() );
+			assertEquals( 1, statistics.getCriteriaQueryPlanCacheMissCount() );
+		} );
+	}
+
+	@Test
+	public void testPlanNotSharedAfterModification(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final CriteriaBuilder cb = session.getCriteriaBuilder();
+
+			final CriteriaQuery<Product> original = byName( cb, "apple" );
+			assertEquals( 1, session.createQuery( original ).getResultList().size() );
+
+			// change the tree the cached plan was built for
+			final Root<?> root = original.getRoots().iterator().next();
+			original.where( cb.equal( root.get( "quantity" ), 5 ) );
+			assertEquals( 2, session.createQuery( original ).getResultList().size() );
+
+			final List<Product> products = session.createQuery( byName( cb, "plum" ) ).getResultList();
+			assertEquals( 1, products.size() );
+			assertEquals( "plum", products.get( 0 ).name );
+		} );
+	}
+
+	@Test
+	public void testPlanNotSharedForDifferentParameterTypes(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final CriteriaBuilder cb = session.getCriteriaBuilder();
+
+			assertEquals(
+					3,
+					session.createQuery( byEqualParameters( cb, String.class ) )
+							.setParameter( "first", "x" )
+							.setParameter( "second", "x" )
+							.getResultList()
+							.size()
+			);
+			assertEquals(
+					3,
+					session.createQuery( byEqualParameters( cb, Integer.class ) )
+							.setParameter( "first", 1 )
+							.setParameter( "second", 1 )
+							.getResultList()
+							.size()
+			);
+			assertEquals( 0, statistics.getCriteriaQueryPlanCacheHitCount() );
+			assertEquals( 2, statistics.getCriteriaQueryPlanCacheMissCount() );
+		} );
+	}
+
+	private static CriteriaQuery<Product> byEqualParameters(CriteriaBuilder cb, Class<?> parameterType) {
+		final CriteriaQuery<Product> criteria = cb.createQuery( Product.class );
+		criteria.from( Product.class );
+		return criteria.where(
+				cb.equal( cb.parameter( parameterType, "first" ), cb.parameter( parameterType, "second" ) )
+		);
+	}
+
+	private static CriteriaQuery<Product> byName(CriteriaBuilder cb, String name) {
+		final CriteriaQuery<Product> criteria = cb.createQuery( Product.class );
+		final Root<Product> root = criteria.from( Product.class );
+		return criteria.where( cb.equal( root.get( "name" ), name ) );
+	}
+
+	private static CriteriaQuery<Product> byQuantity(CriteriaBuilder cb, int quantity) {
+		final CriteriaQuery<Product> criteria = cb.createQuery( Product.class );
+		final Root<Product> root = criteria.from( Product.class );
+		return criteria.where( cb.equal( root.get( "quantity" ), quantity ) ).orderBy( cb.asc( root.get( "id" ) ) );
+	}
+
+	private static CriteriaQuery<Product> bySize(CriteriaBuilder cb, int threshold, String size) {
+		final CriteriaQuery<Product> criteria = cb.createQuery( Product.class );
+		final Root<Product> root = criteria.from( Product.class );
+		final Expression<String> sizeExpression = cb.<String>selectCase()
+				.when( cb.gt( root.get( "quantity" ), threshold ), "large" )
+				.otherwise( "small" );
+		return criteria.where( cb.equal( sizeExpression, size ) );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private int quantity;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name, int quantity) {
+			this.id = id;
+			this.name = name;
+			this.quantity = quantity;
+		}
+	}
+}
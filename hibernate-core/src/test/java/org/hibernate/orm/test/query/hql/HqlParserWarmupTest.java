@@ -0,0 +1,102 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.util.Collections;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.hql.internal.HqlParseTreeBuilder;
+import org.hibernate.query.hql.internal.HqlParserWarmup;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link AvailableSettings#HQL_PARSER_WARMUP}
+ */
+@DomainModel(annotatedClasses = HqlParserWarmupTest.Document.class)
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.HQL_PARSER_WARMUP, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+public class HqlParserWarmupTest {
+
+	@Test
+	public void testStandardQueriesAreValid() {
+		for ( String query : HqlParserWarmup.STANDARD_QUERIES ) {
+			HqlParseTreeBuilder.INSTANCE.parseHql( query );
+		}
+	}
+
+	@Test
+	public void testWarmupParsesAreNotCounted(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		HqlParserWarmup.warmUp( Collections.singletonList( "select d from Document d where d.title = :title" ) );
+
+		assertEquals( 0, statistics.getHqlParseCount() );
+		assertEquals( 0, statistics.getHqlParseLlFallbackCount() );
+	}
+
+	@Test
+	public void testParsesAreCounted(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction(
+				session -> session.createQuery( "select d.title from Document d where d.id > 10", String.class )
+		);
+
+		assertEquals( 1, statistics.getHqlParseCount() );
+
+		// queries which cannot be parsed are not counted
+		scope.inSession(
+				session -> assertThrows(
+						IllegalArgumentException.class,
+						() -> session.createQuery( "select d.title from Document d where d.id > > 10", String.class )
+				)
+		);
+
+		assertEquals( 1, statistics.getHqlParseCount() );
+	}
+
+	@Test
+	public void testNamedQueryAfterWarmup(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> assertEquals(
+						0,
+						session.createNamedQuery( "Document.byTitle", Document.class )
+								.setParameter( "title", "draft" )
+								.list()
+								.size()
+				)
+		);
+	}
+
+	@Entity(name = "Document")
+	@NamedQuery(name = "Document.byTitle", query = "select d from Document d where d.title = :title")
+	public static class Document {
+		@Id
+		private Integer id;
+
+		private String title;
+	}
+}
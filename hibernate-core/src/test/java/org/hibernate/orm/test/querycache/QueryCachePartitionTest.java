@@ -0,0 +1,193 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.cache.spi.QuerySpacesHelper;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AvailableSettings#QUERY_CACHE_PARTITION_COLUMNS}
+ */
+@DomainModel(annotatedClasses = QueryCachePartitionTest.TenantItem.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.QUERY_CACHE_PARTITION_COLUMNS, value = "tenant_items.tenant_id")
+		}
+)
+public class QueryCachePartitionTest {
+
+	@Test
+	public void testWriteToOtherPartitionKeepsCachedResults(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		assertEquals( 2, findByTenant( scope, 1 ).size() );
+		assertEquals( 0, statistics.getQueryCacheHitCount() );
+
+		assertEquals( 2, findByTenant( scope, 1 ).size() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+
+		scope.inTransaction( session -> session.persist( new TenantItem( 10, 2, "other" ) ) );
+
+		assertEquals( 2, findByTenant( scope, 1 ).size() );
+		assertEquals( 2, statistics.getQueryCacheHitCount() );
+
+		scope.inTransaction( session -> session.persist( new TenantItem( 11, 1, "same" ) ) );
+
+		assertEquals( 3, findByTenant( scope, 1 ).size() );
+		assertEquals( 2, statistics.getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testUnpartitionedQueryInvalidatedByAnyWrite(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		assertEquals( 4, findAll( scope ).size() );
+		assertEquals( 4, findAll( scope ).size() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+
+		scope.inTransaction( session -> session.persist( new TenantItem( 10, 2, "other" ) ) );
+
+		assertEquals( 5, findAll( scope ).size() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testBulkUpdateInvalidatesAllPartitions(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		findByTenant( scope, 1 );
+		findByTenant( scope, 1 );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+
+		scope.inTransaction(
+				session -> session.createQuery( "update TenantItem set name = 'renamed' where tenantId = 2" )
+						.executeUpdate()
+		);
+
+		findByTenant( scope, 1 );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testPartitionValuesAreNormalized() {
+		final QuerySpacesHelper helper = QuerySpacesHelper.INSTANCE;
+
+		// an integral partition is the same whatever the width of the bound value
+		assertEquals( helper.toPartitionValue( 5 ), helper.toPartitionValue( 5L ) );
+		assertEquals( "abc", helper.toPartitionValue( "abc" ) );
+
+		// values whose form depends on their Java type are never matched to a partition
+		assertNull( helper.toPartitionValue( LocalDate.of( 2020, 1, 1 ) ) );
+		assertNull( helper.toPartitionValue( java.sql.Date.valueOf( "2020-01-01" ) ) );
+
+		final Map<String, String> partitionColumns = Collections.singletonMap( "tenant_items", "tenant_id" );
+		final Set<String> spaces = helper.resolveQuerySpaces(
+				Collections.singleton( "tenant_items" ),
+				partitionColumns,
+				"tenant_items",
+				LocalDate.of( 2020, 1, 1 )
+		);
+		assertEquals( 2, spaces.size() );
+		assertTrue( spaces.contains( helper.toAnyPartitionSpace( "tenant_items" ) ) );
+	}
+
+	private static List<TenantItem> findByTenant(SessionFactoryScope scope, int tenantId) {
+		return scope.fromTransaction(
+				session -> session.createQuery( "from TenantItem where tenantId = :tenantId", TenantItem.class )
+						.setParameter( "tenantId", tenantId )
+						.setCacheable( true )
+						.list()
+		);
+	}
+
+	private static List<TenantItem> findAll(SessionFactoryScope scope) {
+		return scope.fromTransaction(
+				session -> session.createQuery( "from TenantItem", TenantItem.class )
+						.setCacheable( true )
+						.list()
+		);
+	}
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new TenantItem( 1, 1, "first" ) );
+			session.persist( new TenantItem( 2, 1, "second" ) );
+			session.persist( new TenantItem( 3, 2, "third" ) );
+			session.persist( new TenantItem( 4, 2, "fourth" ) );
+		} );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete from TenantItem" ).executeUpdate() );
+	}
+
+	@Entity(name = "TenantItem")
+	@Table(name = "tenant_items")
+	public static class TenantItem {
+		@Id
+		private Integer id;
+
+		@Column(name = "tenant_id")
+		private Integer tenantId;
+
+		private String name;
+
+		public TenantItem() {
+		}
+
+		public TenantItem(Integer id, Integer tenantId, String name) {
+			this.id = id;
+			this.tenantId = tenantId;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Integer getTenantId() {
+			return tenantId;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
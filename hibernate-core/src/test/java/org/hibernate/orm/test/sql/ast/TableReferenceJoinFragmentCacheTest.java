@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.sql.ast;
+
+import java.util.List;
+
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests reuse of the rendered table reference joins of entity table groups
+ */
+@DomainModel(
+		annotatedClasses = {
+				TableReferenceJoinFragmentCacheTest.Animal.class,
+				TableReferenceJoinFragmentCacheTest.Dog.class
+		}
+)
+@SessionFactory(statementInspectorClass = SQLStatementInspector.class)
+public class TableReferenceJoinFragmentCacheTest {
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Animal( 1, "cat" ) );
+			session.persist( new Dog( 2, "rex", "beagle" ) );
+		} );
+	}
+
+	@AfterEach
+	public void cleanupTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete Animal" ).executeUpdate() );
+	}
+
+	@Test
+	public void testJoinsReusedBetweenTranslations(SessionFactoryScope scope) {
+		final AbstractEntityPersister persister = (AbstractEntityPersister) scope.getSessionFactory()
+				.getDomainModel()
+				.getEntityDescriptor( Animal.class );
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			final List<Animal> animals = session.createQuery( "select a from Animal a order by a.id", Animal.class )
+					.getResultList();
+			assertEquals( 2, animals.size() );
+			assertFalse( persister.getTableReferenceJoinFragments().isEmpty() );
+
+			final List<Animal> named = session.createQuery( "select a from Animal a where a.name = :name", Animal.class )
+					.setParameter( "name", "rex" )
+					.getResultList();
+			assertEquals( 1, named.size() );
+			assertTrue( named.get( 0 ) instanceof Dog );
+			assertEquals( "beagle", ( (Dog) named.get( 0 ) ).breed );
+		} );
+
+		statementInspector.assertExecutedCount( 2 );
+		statementInspector.assertNumberOfOccurrenceInQuery( 0, "join", 1 );
+		statementInspector.assertNumberOfOccurrenceInQuery( 1, "join", 1 );
+		final String firstSql = statementInspector.getSqlQueries().get( 0 );
+		final String secondSql = statementInspector.getSqlQueries().get( 1 );
+		assertEquals( joins( firstSql ), joins( secondSql ) );
+	}
+
+	private static String joins(String sql) {
+		final int start = sql.indexOf( " left join " );
+		final int end = sql.indexOf( " where " );
+		return sql.substring( start, end < 0 ? sql.indexOf( " order by " ) : end );
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Animal {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Animal() {
+		}
+
+		public Animal(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		private String breed;
+
+		public Dog() {
+		}
+
+		public Dog(Integer id, String name, String breed) {
+			super( id, name );
+			this.breed = breed;
+		}
+	}
+}
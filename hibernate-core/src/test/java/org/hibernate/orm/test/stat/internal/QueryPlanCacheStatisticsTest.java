@@ -344,6 +344,29 @@ public class QueryPlanCacheStatisticsTest {
 		} );
 	}
 
+	@Test
+	public void testAlternatingLimitReusesPlanVariants(SessionFactoryScope scope) {
+		final String hql = "select e from Employee e";
+		scope.inTransaction( entityManager -> {
+			assertEquals( 2, entityManager.createQuery( hql, Employee.class ).setMaxResults( 2 ).getResultList().size() );
+			assertEquals( 5, entityManager.createQuery( hql, Employee.class ).getResultList().size() );
+
+			// the unpaged execution could not reuse the paged variant
+			assertEquals( 0, statistics.getQueryPlanVariantHitCount() );
+			assertEquals( 1, statistics.getQueryPlanVariantMissCount() );
+
+			assertEquals( 3, entityManager.createQuery( hql, Employee.class ).setMaxResults( 3 ).getResultList().size() );
+			assertEquals( 5, entityManager.createQuery( hql, Employee.class ).getResultList().size() );
+
+			assertEquals( 2, statistics.getQueryPlanVariantHitCount() );
+			assertEquals( 1, statistics.getQueryPlanVariantMissCount() );
+
+			final QueryStatistics queryStatistics = statistics.getQueryStatistics( hql );
+			assertEquals( 2, queryStatistics.getPlanVariantHitCount() );
+			assertEquals( 1, queryStatistics.getPlanVariantMissCount() );
+		} );
+	}
+
 	private void assertQueryStatistics(String hql, int hitCount) {
 		QueryStatistics queryStatistics = statistics.getQueryStatistics( hql );
 
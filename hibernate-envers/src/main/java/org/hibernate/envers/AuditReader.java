@@ -314,4 +314,14 @@ public interface AuditReader {
 	 * </ul>
 	 */
 	CrossTypeRevisionChangesReader getCrossTypeRevisionChangesReader() throws AuditException;
+
+	/**
+	 * Waits until the audit data of all transactions committed so far has been written.  Returns immediately
+	 * unless {@code org.hibernate.envers.async_audit_writing} is enabled, as the audit data is otherwise
+	 * written within the audited transaction.
+	 *
+	 * @throws AuditException If the audit data of any of these transactions could not be written, and is
+	 * left in the outbox table to be retried.
+	 */
+	void awaitAuditWrites() throws AuditException;
 }
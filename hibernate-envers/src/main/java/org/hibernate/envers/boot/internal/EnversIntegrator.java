@@ -7,6 +7,8 @@
 package org.hibernate.envers.boot.internal;
 
 import org.hibernate.HibernateException;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.engine.config.spi.ConfigurationService;
@@ -20,6 +22,8 @@ import org.hibernate.envers.event.spi.EnversPostUpdateEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreCollectionRemoveEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreCollectionUpdateEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreUpdateEventListenerImpl;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.internal.synchronization.AsyncAuditWriter;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EventType;
 import org.hibernate.integrator.spi.Integrator;
@@ -115,6 +119,30 @@ public class EnversIntegrator implements Integrator {
 					new EnversPreCollectionUpdateEventListenerImpl( enversService )
 			);
 		}
+
+		final AsyncAuditWriter asyncAuditWriter = enversService.getAuditProcessManager().getAsyncAuditWriter();
+		if ( asyncAuditWriter != null ) {
+			sessionFactory.addObserver(
+					new SessionFactoryObserver() {
+						@Override
+						public void sessionFactoryCreated(SessionFactory factory) {
+							// writes the audit data left in the outbox table as well
+							asyncAuditWriter.start( (SessionFactoryImplementor) factory );
+						}
+
+						@Override
+						public void sessionFactoryClosing(SessionFactory factory) {
+							// write the audit data of the committed transactions while the factory can still open sessions
+							try {
+								asyncAuditWriter.awaitCompletion();
+							}
+							catch (AuditException e) {
+								log.debug( "Audit data is left in the outbox table after closing the SessionFactory", e );
+							}
+						}
+					}
+			);
+		}
 	}
 
 	@Override
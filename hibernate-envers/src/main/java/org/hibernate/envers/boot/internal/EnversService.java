@@ -13,6 +13,7 @@ import org.hibernate.envers.configuration.internal.MappingCollector;
 import org.hibernate.envers.internal.entities.EntitiesConfigurations;
 import org.hibernate.envers.internal.revisioninfo.ModifiedEntityNamesReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
+import org.hibernate.envers.internal.reader.AuditSnapshotCache;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoQueryCreator;
 import org.hibernate.envers.internal.synchronization.AuditProcessManager;
 import org.hibernate.envers.strategy.AuditStrategy;
@@ -59,6 +60,13 @@ public interface EnversService extends Service {
 
 	AuditProcessManager getAuditProcessManager();
 
+	/**
+	 * The cache of audit table entries shared by all audit readers.
+	 *
+	 * @return The cache, or {@code null} if it is not enabled.
+	 */
+	AuditSnapshotCache getAuditSnapshotCache();
+
 	AuditStrategy getAuditStrategy();
 
 	EntitiesConfigurations getEntitiesConfigurations();
@@ -19,9 +19,12 @@ import org.hibernate.envers.configuration.internal.EntitiesConfigurator;
 import org.hibernate.envers.configuration.internal.MappingCollector;
 import org.hibernate.envers.internal.entities.EntitiesConfigurations;
 import org.hibernate.envers.internal.entities.PropertyData;
+import org.hibernate.envers.internal.reader.AuditSnapshotCache;
 import org.hibernate.envers.internal.revisioninfo.ModifiedEntityNamesReader;
+import org.hibernate.envers.internal.revisioninfo.RevisionInfoGenerator;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoQueryCreator;
+import org.hibernate.envers.internal.synchronization.AsyncAuditWriter;
 import org.hibernate.envers.internal.synchronization.AuditProcessManager;
 import org.hibernate.envers.internal.tools.ReflectionTools;
 import org.hibernate.envers.strategy.AuditStrategy;
@@ -59,6 +62,7 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 	//			keyed by Transaction (Session)
 	private Configuration configuration;
 	private AuditProcessManager auditProcessManager;
+	private AuditSnapshotCache auditSnapshotCache;
 	private EntitiesConfigurations entitiesConfigurations;
 
 	@Override
@@ -102,7 +106,15 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 		properties.putAll( cfgService.getSettings() );
 
 		this.configuration = new Configuration( properties, this, metadata );
-		this.auditProcessManager = new AuditProcessManager( configuration.getRevisionInfo().getRevisionInfoGenerator() );
+		final RevisionInfoGenerator revisionInfoGenerator = configuration.getRevisionInfo().getRevisionInfoGenerator();
+		this.auditSnapshotCache = configuration.isUseSnapshotCache() ? new AuditSnapshotCache( configuration ) : null;
+		this.auditProcessManager = new AuditProcessManager(
+				revisionInfoGenerator,
+				configuration.isAsyncAuditWriting()
+						? new AsyncAuditWriter( this, auditSnapshotCache )
+						: null,
+				auditSnapshotCache
+		);
 
 		final EnversMetadataBuildingContext metadataBuildingContext = new EnversMetadataBuildingContextImpl(
 				configuration,
@@ -145,6 +157,14 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 		return auditProcessManager;
 	}
 
+	@Override
+	public AuditSnapshotCache getAuditSnapshotCache() {
+		if ( !initialized ) {
+			throw new IllegalStateException( "Service is not yet initialized" );
+		}
+		return auditSnapshotCache;
+	}
+
 	@Override
 	@Deprecated
 	public AuditStrategy getAuditStrategy() {
@@ -204,6 +224,8 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 
 	@Override
 	public void stop() {
-		// anything to release?
+		if ( auditProcessManager != null && auditProcessManager.getAsyncAuditWriter() != null ) {
+			auditProcessManager.getAsyncAuditWriter().stop();
+		}
 	}
 }
@@ -72,6 +72,9 @@ public class Configuration {
 	private final boolean modifiedFlagsDefined;
 	private final boolean findByRevisionExactMatch;
 	private final boolean globalLegacyRelationTargetNotFound;
+	private final boolean asyncAuditWriting;
+	private final boolean notExistsRevisionLookup;
+	private final boolean useSnapshotCache;
 
 	private final boolean trackEntitiesChanged;
 	private boolean trackEntitiesOverride;
@@ -130,6 +133,9 @@ public class Configuration {
 
 		findByRevisionExactMatch = configProps.getBoolean( EnversSettings.FIND_BY_REVISION_EXACT_MATCH, false );
 		globalLegacyRelationTargetNotFound = configProps.getBoolean( EnversSettings.GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG, true );
+		asyncAuditWriting = configProps.getBoolean( EnversSettings.ASYNC_AUDIT_WRITING, false );
+		notExistsRevisionLookup = configProps.getBoolean( EnversSettings.AUDIT_STRATEGY_DEFAULT_NOT_EXISTS_LOOKUP, false );
+		useSnapshotCache = configProps.getBoolean( EnversSettings.USE_SNAPSHOT_CACHE, false );
 
 		auditTablePrefix = configProps.getString( EnversSettings.AUDIT_TABLE_PREFIX, DEFAULT_PREFIX );
 		auditTableSuffix = configProps.getString( EnversSettings.AUDIT_TABLE_SUFFIX, DEFAULT_SUFFIX );
@@ -232,6 +238,18 @@ public class Configuration {
 		return globalLegacyRelationTargetNotFound;
 	}
 
+	public boolean isAsyncAuditWriting() {
+		return asyncAuditWriting;
+	}
+
+	public boolean isNotExistsRevisionLookup() {
+		return notExistsRevisionLookup;
+	}
+
+	public boolean isUseSnapshotCache() {
+		return useSnapshotCache;
+	}
+
 	public boolean isRevisionEndTimestampEnabled() {
 		return revisionEndTimestampEnabled;
 	}
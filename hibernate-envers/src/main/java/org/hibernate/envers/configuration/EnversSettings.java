@@ -183,4 +183,43 @@ public interface EnversSettings {
 	 * that the exception is thrown.
 	 */
 	String GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG = "org.hibernate.envers.global_relation_not_found_legacy_flag";
+
+	/**
+	 * Whether the audit data of a transaction should be written in the background, after the transaction
+	 * committed, rather than before the transaction completes.  The transaction persists its revision entity
+	 * and writes the captured audit data to the {@code REVOUTBOX} outbox table, which a single background
+	 * writer drains in the order of the revision numbers.  A revision which cannot be written is left in the
+	 * outbox table and retried, as is the audit data left when the application stopped.
+	 *
+	 * Use {@link org.hibernate.envers.AuditReader#awaitAuditWrites()} to wait until the audit data of the
+	 * completed transactions has been written.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 6.0
+	 */
+	String ASYNC_AUDIT_WRITING = "org.hibernate.envers.async_audit_writing";
+
+	/**
+	 * Whether the default audit strategy should resolve the revision of an entity at a given revision with a
+	 * {@code not exists} subquery, looking for a later revision of the same entity, rather than comparing the
+	 * revision to the correlated {@code max(REV)} subquery.  Most databases execute the former as an anti-join
+	 * using the primary key of the audit table, rather than aggregating the revisions of every candidate row.
+	 *
+	 * Only used by {@link org.hibernate.envers.strategy.internal.DefaultAuditStrategy}.  Defaults to {@literal false}.
+	 *
+	 * @since 6.0
+	 */
+	String AUDIT_STRATEGY_DEFAULT_NOT_EXISTS_LOOKUP = "org.hibernate.envers.audit_strategy_default_not_exists_lookup";
+
+	/**
+	 * Whether the audit table entries read by {@link org.hibernate.envers.AuditReader#find} should be cached in a
+	 * region shared by all audit readers.  The region is built by the configured
+	 * {@link org.hibernate.cache.spi.RegionFactory}, and requires the second-level cache to be enabled.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 6.0
+	 */
+	String USE_SNAPSHOT_CACHE = "org.hibernate.envers.use_snapshot_cache";
 }
@@ -104,6 +104,14 @@ public class EntitiesConfigurator {
 
 				metadataBuildingContext.getMappingCollector().addDocument( mappingData.getMapping() );
 			}
+
+			if ( configuration.isAsyncAuditWriting() ) {
+				final EntityMappingData mappingData = new EntityMappingData();
+				mappingData.addMapping( configuration.getRevisionInfo().getAuditOutboxMapping() );
+				mappingData.build();
+
+				metadataBuildingContext.getMappingCollector().addDocument( mappingData.getMapping() );
+			}
 		}
 
 		return new EntitiesConfigurations(
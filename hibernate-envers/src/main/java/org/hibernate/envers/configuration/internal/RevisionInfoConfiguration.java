@@ -45,6 +45,7 @@ import org.hibernate.envers.internal.revisioninfo.RevisionInfoGenerator;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoQueryCreator;
 import org.hibernate.envers.internal.revisioninfo.RevisionTimestampValueResolver;
+import org.hibernate.envers.internal.synchronization.AsyncAuditWriter;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Property;
 import org.hibernate.service.ServiceRegistry;
@@ -64,6 +65,8 @@ public class RevisionInfoConfiguration {
 	private static final String DEFAULT_REVISION_TIMESTAMP_FIELD_NAME = "REVTSTMP";
 	private static final String DEFAULT_REVCHANGES_TABLE_NAME = "REVCHANGES";
 	private static final String DEFAULT_REVCHANGES_ENTITY_COLUMN_NAME = "ENTITYNAME";
+	private static final String DEFAULT_OUTBOX_TABLE_NAME = "REVOUTBOX";
+	private static final String DEFAULT_OUTBOX_DATA_COLUMN_NAME = "DATA";
 
 	private final Configuration configuration;
 	private final RevisionInfoGenerator revisionInfoGenerator;
@@ -158,6 +161,40 @@ public class RevisionInfoConfiguration {
 		return useDefaultRevisionInfoMapping ? generateDefaultRevisionInfoMapping( revisionInfoIdName ) : null;
 	}
 	
+	/**
+	 * @return The mapping of the outbox table, to which the audit data of a transaction is written when
+	 * it is written asynchronously.
+	 */
+	public RootPersistentEntity getAuditOutboxMapping() {
+		final RootPersistentEntity mapping = new RootPersistentEntity(
+				new AuditTableData(
+						AsyncAuditWriter.OUTBOX_ENTITY_NAME,
+						DEFAULT_OUTBOX_TABLE_NAME,
+						configuration.getDefaultSchemaName(),
+						configuration.getDefaultCatalogName()
+				),
+				null,
+				DEFAULT_OUTBOX_TABLE_NAME
+		);
+
+		// the outbox entry of a revision is identified by the revision number, assigned by the audited transaction
+		final SimpleIdentifier identifier = new SimpleIdentifier( AsyncAuditWriter.OUTBOX_REVISION_PROPERTY, revisionPropType );
+		identifier.setGeneratorClass( "assigned" );
+		identifier.addColumn( createColumn( DEFAULT_REVISION_FIELD_NAME, revisionPropSqlType ) );
+		mapping.setIdentifier( identifier );
+
+		final BasicAttribute dataAttribute = new BasicAttribute(
+				AsyncAuditWriter.OUTBOX_DATA_PROPERTY,
+				"materialized_blob",
+				true,
+				false
+		);
+		dataAttribute.addColumn( createColumn( DEFAULT_OUTBOX_DATA_COLUMN_NAME, null ) );
+		mapping.addAttribute( dataAttribute );
+
+		return mapping;
+	}
+
 	public Attribute getRevisionInfoRelationMapping() {
 		final ManyToOneAttribute attribute = new ManyToOneAttribute(
 				configuration.getRevisionFieldName(),
@@ -25,9 +25,12 @@ import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.exception.NotAuditedException;
 import org.hibernate.envers.exception.RevisionDoesNotExistException;
+import org.hibernate.envers.internal.entities.EntityInstantiator;
+import org.hibernate.envers.internal.synchronization.AsyncAuditWriter;
 import org.hibernate.envers.internal.synchronization.AuditProcess;
 import org.hibernate.envers.query.AuditEntity;
 import org.hibernate.envers.query.AuditQueryCreator;
+import org.hibernate.envers.query.internal.impl.EntitiesAtRevisionQuery;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.query.Query;
@@ -115,6 +118,11 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 			return (T) firstLevelCache.get( entityName, revision, primaryKey );
 		}
 
+		final AuditSnapshotCache snapshotCache = enversService.getAuditSnapshotCache();
+		if ( snapshotCache != null ) {
+			return (T) findUsingSnapshotCache( snapshotCache, cls, entityName, primaryKey, revision, includeDeletions );
+		}
+
 		Object result;
 		try {
 			// The result is put into the cache by the entity instantiator called from the query
@@ -138,6 +146,58 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		return this.getRevisions( cls, cls.getName(), primaryKey );
 	}
 
+	private Object findUsingSnapshotCache(
+			AuditSnapshotCache snapshotCache,
+			Class<?> cls,
+			String entityName,
+			Object primaryKey,
+			Number revision,
+			boolean includeDeletions) {
+		if ( !isEntityNameAudited( entityName ) ) {
+			throw new NotAuditedException(
+					entityName,
+					"Cannot query audit history on a non-audited entity [" + entityName + "]."
+			);
+		}
+
+		final EntityInstantiator entityInstantiator = new EntityInstantiator( enversService, this );
+		Map versionsEntity = snapshotCache.get( entityName, primaryKey, revision, includeDeletions, sessionImplementor );
+		if ( versionsEntity == null ) {
+			// the generation has to be read before the entry, for a concurrent revision to invalidate it
+			final Object generation = snapshotCache.getGeneration( entityName, primaryKey, sessionImplementor );
+
+			final EntitiesAtRevisionQuery query = new EntitiesAtRevisionQuery(
+					enversService,
+					this,
+					cls,
+					entityName,
+					revision,
+					includeDeletions
+			);
+			query.add( AuditEntity.id().eq( primaryKey ) );
+			final List versionsEntities = query.listVersionsEntities();
+			if ( versionsEntities.isEmpty() ) {
+				return null;
+			}
+			if ( versionsEntities.size() > 1 ) {
+				throw new AuditException( new NonUniqueResultException( versionsEntities.size() ) );
+			}
+
+			versionsEntity = (Map) versionsEntities.get( 0 );
+			snapshotCache.put(
+					entityName,
+					primaryKey,
+					revision,
+					includeDeletions,
+					generation,
+					versionsEntity,
+					sessionImplementor
+			);
+		}
+
+		return entityInstantiator.createInstanceFromVersionsEntity( entityName, versionsEntity, revision );
+	}
+
 	@Override
 	public <T> T find(Class<T> cls, Object primaryKey, Date date)
 			throws IllegalArgumentException, NotAuditedException, RevisionDoesNotExistException, IllegalStateException {
@@ -294,6 +354,14 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		return crossTypeRevisionChangesReader;
 	}
 
+	@Override
+	public void awaitAuditWrites() throws AuditException {
+		final AsyncAuditWriter asyncAuditWriter = enversService.getAuditProcessManager().getAsyncAuditWriter();
+		if ( asyncAuditWriter != null ) {
+			asyncAuditWriter.awaitCompletion();
+		}
+	}
+
 	@Override
 	@SuppressWarnings({"unchecked"})
 	public <T> T getCurrentRevision(Class<T> revisionEntityClass, boolean persist) {
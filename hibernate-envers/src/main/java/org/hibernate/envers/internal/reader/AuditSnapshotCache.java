@@ -0,0 +1,402 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.reader;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.hibernate.cache.cfg.spi.CollectionDataCachingConfig;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
+import org.hibernate.cache.cfg.spi.NaturalIdDataCachingConfig;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.metamodel.model.domain.NavigableRole;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.tuple.DynamicMapInstantiator;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+import org.jboss.logging.Logger;
+
+/**
+ * Cache of audit table entries shared by all audit readers, when
+ * {@link org.hibernate.envers.configuration.EnversSettings#USE_SNAPSHOT_CACHE} is enabled.
+ * <p>
+ * Entries are keyed by entity name, id and the revision they were read at, and stored in a domain
+ * data region of their own, built by the {@link org.hibernate.cache.spi.RegionFactory} with the
+ * {@link AccessType#NONSTRICT_READ_WRITE} access type.  An entry only changes when a later revision
+ * of the entity ends the revision it holds, so every entity has a generation in the region which is
+ * evicted whenever a revision of the entity is written.  Entries of an older generation are ignored.
+ * <p>
+ * Entries are disassembled through the types of the audit entity properties when put into the region,
+ * and assembled again when read, the same way as the entries of cached entities.  Only entries which
+ * hold nothing but values and the ids of other entities are cached.  The revision entity references of
+ * an entry are not cached, as they are not needed to build the audited entity.
+ */
+public class AuditSnapshotCache {
+	private static final Logger log = Logger.getLogger( AuditSnapshotCache.class );
+
+	public static final String REGION_NAME = "org.hibernate.envers.audit_snapshots";
+
+	private static final NavigableRole SNAPSHOTS_ROLE = new NavigableRole( REGION_NAME );
+
+	private final Configuration configuration;
+
+	private volatile EntityDataAccess dataAccess;
+	private volatile boolean unavailable;
+
+	public AuditSnapshotCache(Configuration configuration) {
+		this.configuration = configuration;
+	}
+
+	/**
+	 * The current generation of the given entity, to be passed to {@link #put} for an entry read afterwards.
+	 */
+	public Object getGeneration(String entityName, Object id, SharedSessionContractImplementor session) {
+		final EntityDataAccess dataAccess = getDataAccess( session.getFactory() );
+		if ( dataAccess == null ) {
+			return null;
+		}
+
+		final GenerationKey key = new GenerationKey( getRootEntityName( entityName, session ), id );
+		final Object generation = dataAccess.get( session, key );
+		if ( generation != null ) {
+			return generation;
+		}
+		dataAccess.putFromLoad( session, key, UUID.randomUUID(), null );
+		// a concurrent reader might have put its own generation first
+		return dataAccess.get( session, key );
+	}
+
+	/**
+	 * The cached audit table entry of the given entity at the given revision, or {@code null}
+	 */
+	public Map get(
+			String entityName,
+			Object id,
+			Number revision,
+			boolean includeDeletions,
+			SharedSessionContractImplementor session) {
+		final EntityDataAccess dataAccess = getDataAccess( session.getFactory() );
+		if ( dataAccess == null ) {
+			return null;
+		}
+
+		final Snapshot snapshot = (Snapshot) dataAccess.get(
+				session,
+				new SnapshotKey( entityName, id, revision.longValue(), includeDeletions )
+		);
+		if ( snapshot == null ) {
+			return null;
+		}
+
+		final Object generation = dataAccess.get(
+				session,
+				new GenerationKey( getRootEntityName( entityName, session ), id )
+		);
+		if ( !Objects.equals( snapshot.generation, generation ) ) {
+			return null;
+		}
+
+		return copy( snapshot.versionsEntity, getAuditPersister( entityName, snapshot.versionsEntity, session ), false, session );
+	}
+
+	/**
+	 * Caches the given audit table entry of the given entity, if it can be shared between sessions.
+	 */
+	public void put(
+			String entityName,
+			Object id,
+			Number revision,
+			boolean includeDeletions,
+			Object generation,
+			Map versionsEntity,
+			SharedSessionContractImplementor session) {
+		final EntityDataAccess dataAccess = getDataAccess( session.getFactory() );
+		if ( dataAccess == null || generation == null ) {
+			return;
+		}
+
+		final Map copy = copy( versionsEntity, getAuditPersister( entityName, versionsEntity, session ), true, session );
+		if ( copy != null ) {
+			dataAccess.putFromLoad(
+					session,
+					new SnapshotKey( entityName, id, revision.longValue(), includeDeletions ),
+					new Snapshot( generation, copy ),
+					null
+			);
+		}
+	}
+
+	/**
+	 * Invalidates the cached entries of the given entity, after a revision of it has been written.
+	 */
+	public void invalidate(String entityName, Object id, SharedSessionContractImplementor session) {
+		final EntityDataAccess dataAccess = getDataAccess( session.getFactory() );
+		if ( dataAccess != null ) {
+			dataAccess.evict( new GenerationKey( getRootEntityName( entityName, session ), id ) );
+		}
+	}
+
+	private EntityDataAccess getDataAccess(SessionFactoryImplementor sessionFactory) {
+		if ( dataAccess == null && !unavailable ) {
+			synchronized ( this ) {
+				if ( dataAccess == null && !unavailable ) {
+					if ( sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled() ) {
+						// the region is owned, and destroyed, by the cache of the session factory
+						final CacheImplementor cache = sessionFactory.getCache();
+						cache.prime( Collections.singleton( new SnapshotRegionConfig() ) );
+						dataAccess = cache.getEntityRegionAccess( SNAPSHOTS_ROLE );
+					}
+					else {
+						log.warn(
+								"Envers snapshot cache requested, but the second-level cache is disabled; "
+										+ "audit table entries are not cached"
+						);
+						unavailable = true;
+					}
+				}
+			}
+		}
+		return dataAccess;
+	}
+
+	private String getRootEntityName(String entityName, SharedSessionContractImplementor session) {
+		return session.getFactory().getMetamodel().entityPersister( entityName ).getRootEntityName();
+	}
+
+	private EntityPersister getAuditPersister(
+			String entityName,
+			Map versionsEntity,
+			SharedSessionContractImplementor session) {
+		// the entry of a subclass names the audit entity it was read as
+		final Object auditEntityName = versionsEntity.get( DynamicMapInstantiator.KEY );
+		return session.getFactory().getMetamodel().entityPersister(
+				auditEntityName instanceof String
+						? (String) auditEntityName
+						: configuration.getAuditEntityName( entityName )
+		);
+	}
+
+	private Map copy(
+			Map<String, Object> versionsEntity,
+			EntityPersister auditPersister,
+			boolean toCache,
+			SharedSessionContractImplementor session) {
+		final String[] names = new String[auditPersister.getPropertyNames().length + 1];
+		final Type[] types = new Type[names.length];
+		System.arraycopy( auditPersister.getPropertyNames(), 0, names, 0, names.length - 1 );
+		System.arraycopy( auditPersister.getPropertyTypes(), 0, types, 0, types.length - 1 );
+		names[names.length - 1] = configuration.getOriginalIdPropertyName();
+		types[types.length - 1] = auditPersister.getIdentifierType();
+		return copy( versionsEntity, names, types, toCache, session );
+	}
+
+	/**
+	 * Copies the given entry, disassembling its values when copying for the cache, and assembling them
+	 * otherwise.  When copying for the cache, revision entity references are left out, and {@code null}
+	 * is returned if the entry references any other entity, or holds a value of an unknown property.
+	 */
+	@SuppressWarnings("unchecked")
+	private Map copy(
+			Map<String, Object> versionsEntity,
+			String[] names,
+			Type[] types,
+			boolean toCache,
+			SharedSessionContractImplementor session) {
+		final Map<String, Object> copy = new HashMap<>( versionsEntity.size() );
+		for ( Map.Entry<String, Object> entry : versionsEntity.entrySet() ) {
+			final String key = entry.getKey();
+			final Object value = entry.getValue();
+			if ( toCache && ( key.equals( configuration.getRevisionFieldName() )
+					|| key.equals( configuration.getRevisionEndFieldName() ) ) ) {
+				continue;
+			}
+			if ( key.equals( DynamicMapInstantiator.KEY ) || value == null ) {
+				copy.put( key, value );
+				continue;
+			}
+
+			final Type type = getType( key, names, types );
+			if ( type == null || type.isAssociationType() ) {
+				if ( toCache ) {
+					return null;
+				}
+				copy.put( key, value );
+			}
+			else if ( value instanceof Map && type instanceof CompositeType ) {
+				final CompositeType compositeType = (CompositeType) type;
+				final Map nested = copy(
+						(Map<String, Object>) value,
+						compositeType.getPropertyNames(),
+						compositeType.getSubtypes(),
+						toCache,
+						session
+				);
+				if ( nested == null ) {
+					return null;
+				}
+				copy.put( key, nested );
+			}
+			else if ( toCache ) {
+				copy.put( key, type.disassemble( value, session, null ) );
+			}
+			else {
+				copy.put( key, type.assemble( (Serializable) value, session, null ) );
+			}
+		}
+		return copy;
+	}
+
+	private static Type getType(String name, String[] names, Type[] types) {
+		for ( int i = 0; i < names.length; i++ ) {
+			if ( names[i].equals( name ) ) {
+				return types[i];
+			}
+		}
+		return null;
+	}
+
+	private static class SnapshotRegionConfig implements DomainDataRegionConfig, EntityDataCachingConfig {
+		@Override
+		public String getRegionName() {
+			return REGION_NAME;
+		}
+
+		@Override
+		public List<EntityDataCachingConfig> getEntityCaching() {
+			return Collections.singletonList( this );
+		}
+
+		@Override
+		public List<NaturalIdDataCachingConfig> getNaturalIdCaching() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<CollectionDataCachingConfig> getCollectionCaching() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public AccessType getAccessType() {
+			return AccessType.NONSTRICT_READ_WRITE;
+		}
+
+		@Override
+		public boolean isMutable() {
+			return true;
+		}
+
+		@Override
+		public boolean isVersioned() {
+			return false;
+		}
+
+		@Override
+		public Supplier<Comparator> getVersionComparatorAccess() {
+			return null;
+		}
+
+		@Override
+		public Set<NavigableRole> getCachedTypes() {
+			return Collections.singleton( SNAPSHOTS_ROLE );
+		}
+
+		@Override
+		public NavigableRole getNavigableRole() {
+			return SNAPSHOTS_ROLE;
+		}
+	}
+
+	private static class GenerationKey implements Serializable {
+		private final String rootEntityName;
+		private final Object id;
+
+		private GenerationKey(String rootEntityName, Object id) {
+			this.rootEntityName = rootEntityName;
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final GenerationKey that = (GenerationKey) o;
+			return rootEntityName.equals( that.rootEntityName ) && id.equals( that.id );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * rootEntityName.hashCode() + id.hashCode();
+		}
+	}
+
+	private static class SnapshotKey implements Serializable {
+		private final String entityName;
+		private final Object id;
+		private final long revision;
+		private final boolean includeDeletions;
+
+		private SnapshotKey(String entityName, Object id, long revision, boolean includeDeletions) {
+			this.entityName = entityName;
+			this.id = id;
+			this.revision = revision;
+			this.includeDeletions = includeDeletions;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final SnapshotKey that = (SnapshotKey) o;
+			return revision == that.revision
+					&& includeDeletions == that.includeDeletions
+					&& entityName.equals( that.entityName )
+					&& id.equals( that.id );
+		}
+
+		@Override
+		public int hashCode() {
+			int result = entityName.hashCode();
+			result = 31 * result + id.hashCode();
+			result = 31 * result + Long.hashCode( revision );
+			result = 31 * result + ( includeDeletions ? 1 : 0 );
+			return result;
+		}
+	}
+
+	private static class Snapshot implements Serializable {
+		private final Object generation;
+		private final Map versionsEntity;
+
+		private Snapshot(Object generation, Map versionsEntity) {
+			this.generation = generation;
+			this.versionsEntity = versionsEntity;
+		}
+	}
+}
@@ -0,0 +1,297 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.LockMode;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.internal.reader.AuditSnapshotCache;
+import org.hibernate.envers.internal.synchronization.work.CapturedWork;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy.RevisionEndUpdates;
+import org.hibernate.internal.util.SerializationHelper;
+import org.jboss.logging.Logger;
+
+/**
+ * Writes the audit data of committed transactions in the background, when
+ * {@link org.hibernate.envers.configuration.EnversSettings#ASYNC_AUDIT_WRITING} is enabled.
+ * <p>
+ * The audited transaction persists its revision entity, and writes the captured audit data to an outbox
+ * table, so that the audit data commits, or rolls back, together with the audited changes.  The writer
+ * drains the outbox table in the order of the revision numbers, writing each revision in its own
+ * transaction, which also deletes the outbox entry.  A revision which cannot be written is left in the
+ * outbox table, along with all the later revisions, and is retried after {@link #RETRY_DELAY} milliseconds;
+ * entries left by a previous run are written once the writer is started.
+ * <p>
+ * As with synchronous writing, the revision numbers are assigned when the audited transaction completes.
+ * Transactions changing the same entity are serialized by the database, so their revisions are written
+ * in the order in which they committed.
+ */
+public class AsyncAuditWriter {
+	private static final Logger log = Logger.getLogger( AsyncAuditWriter.class );
+
+	/**
+	 * The name of the entity mapping the outbox table.
+	 */
+	public static final String OUTBOX_ENTITY_NAME = "EnversAuditOutbox";
+
+	/**
+	 * The identifier of an outbox entry: the number of the revision it holds the audit data of.
+	 */
+	public static final String OUTBOX_REVISION_PROPERTY = "revision";
+
+	/**
+	 * The serialized {@link CapturedRevision} of an outbox entry.
+	 */
+	public static final String OUTBOX_DATA_PROPERTY = "data";
+
+	/**
+	 * The delay, in milliseconds, after which the writer retries writing a revision which could not be written.
+	 */
+	public static final long RETRY_DELAY = 5000;
+
+	private static final int BATCH_SIZE = 100;
+
+	private final EnversService enversService;
+	private final AuditSnapshotCache auditSnapshotCache;
+
+	private final Object lock = new Object();
+	private SessionFactoryImplementor sessionFactory;
+	private Thread thread;
+	private long requestedPasses;
+	private long completedPasses;
+	private RuntimeException failure;
+
+	public AsyncAuditWriter(EnversService enversService, AuditSnapshotCache auditSnapshotCache) {
+		this.enversService = enversService;
+		this.auditSnapshotCache = auditSnapshotCache;
+	}
+
+	/**
+	 * Starts the background thread, which first writes the revisions left in the outbox table.
+	 *
+	 * @param sessionFactory The session factory to write the audit data with.
+	 */
+	public void start(SessionFactoryImplementor sessionFactory) {
+		synchronized ( lock ) {
+			if ( thread == null ) {
+				this.sessionFactory = sessionFactory;
+				thread = new Thread( this::run, "Envers audit writer" );
+				thread.setDaemon( true );
+				thread.start();
+			}
+			requestedPasses++;
+			lock.notifyAll();
+		}
+	}
+
+	/**
+	 * Notifies the writer that a transaction wrote audit data to the outbox table.
+	 */
+	public void signal() {
+		synchronized ( lock ) {
+			requestedPasses++;
+			lock.notifyAll();
+		}
+	}
+
+	/**
+	 * Waits until the outbox table has been drained of the audit data of all transactions committed so far.
+	 *
+	 * @throws AuditException If any of these revisions could not be written, and is left in the outbox table.
+	 */
+	public void awaitCompletion() {
+		synchronized ( lock ) {
+			if ( thread == null ) {
+				return;
+			}
+
+			// waiting for a pass which started after all the revisions committed so far
+			final long targetPass = ++requestedPasses;
+			lock.notifyAll();
+			while ( completedPasses < targetPass ) {
+				try {
+					lock.wait();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new AuditException( "Interrupted while waiting for the audit data to be written", e );
+				}
+			}
+
+			if ( failure != null ) {
+				throw new AuditException( "Failed to write the audit data left in the outbox table", failure );
+			}
+		}
+	}
+
+	/**
+	 * Stops the background thread.  The revisions not written yet are left in the outbox table.
+	 */
+	public void stop() {
+		synchronized ( lock ) {
+			if ( thread != null ) {
+				thread.interrupt();
+				thread = null;
+			}
+		}
+	}
+
+	private void run() {
+		while ( !Thread.currentThread().isInterrupted() ) {
+			final long pass;
+			synchronized ( lock ) {
+				if ( completedPasses >= requestedPasses ) {
+					try {
+						// nothing was requested, though the revisions left after a failure are retried
+						lock.wait( failure == null ? 0 : RETRY_DELAY );
+					}
+					catch (InterruptedException e) {
+						return;
+					}
+				}
+				pass = requestedPasses;
+			}
+
+			final RuntimeException passFailure = drain();
+
+			synchronized ( lock ) {
+				completedPasses = Math.max( completedPasses, pass );
+				failure = passFailure;
+				lock.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Writes the revisions in the outbox table, stopping at the first one which cannot be written.
+	 *
+	 * @return The failure which left revisions in the outbox table, or {@code null} if it was drained.
+	 */
+	private RuntimeException drain() {
+		try ( Session session = sessionFactory.openSession() ) {
+			while ( true ) {
+				final Transaction transaction = session.beginTransaction();
+				final List<Object> revisions;
+				try {
+					revisions = session.createQuery(
+							"select e." + OUTBOX_REVISION_PROPERTY + " from " + OUTBOX_ENTITY_NAME + " e"
+									+ " order by e." + OUTBOX_REVISION_PROPERTY,
+							Object.class
+					).setMaxResults( BATCH_SIZE ).list();
+					transaction.commit();
+				}
+				catch (RuntimeException e) {
+					if ( transaction.isActive() ) {
+						transaction.rollback();
+					}
+					throw e;
+				}
+
+				if ( revisions.isEmpty() ) {
+					return null;
+				}
+
+				for ( Object revision : revisions ) {
+					write( session, revision );
+				}
+			}
+		}
+		catch (RuntimeException e) {
+			log.errorf( e, "Failed to write the audit data in the outbox table, retrying in %s ms", RETRY_DELAY );
+			return e;
+		}
+	}
+
+	@SuppressWarnings({"unchecked"})
+	private void write(Session session, Object revision) {
+		final CapturedRevision capturedRevision;
+		final Transaction transaction = session.beginTransaction();
+		try {
+			// locking the entry, so that it is written once when several writers share the outbox table
+			final Map<String, Object> entry = (Map<String, Object>) session.get(
+					OUTBOX_ENTITY_NAME,
+					revision,
+					LockMode.PESSIMISTIC_WRITE
+			);
+			if ( entry == null ) {
+				transaction.commit();
+				return;
+			}
+
+			final String revisionInfoEntityName = enversService.getConfig()
+					.getRevisionInfo()
+					.getRevisionInfoEntityName();
+			final Object revisionData = session.get( revisionInfoEntityName, revision );
+			if ( revisionData == null ) {
+				throw new AuditException( "The revision [" + revision + "] in the outbox table does not exist" );
+			}
+
+			capturedRevision = (CapturedRevision) SerializationHelper.deserialize( (byte[]) entry.get( OUTBOX_DATA_PROPERTY ) );
+			final RevisionEndUpdates revisionEndUpdates = new RevisionEndUpdates();
+			for ( CapturedWork work : capturedRevision.works ) {
+				work.perform( session, enversService, revisionData, revisionEndUpdates );
+			}
+			session.flush();
+			revisionEndUpdates.execute( (SessionImplementor) session );
+
+			session.remove( entry );
+			transaction.commit();
+		}
+		catch (RuntimeException e) {
+			if ( transaction.isActive() ) {
+				transaction.rollback();
+			}
+			throw new AuditException( "Failed to write the audit data of revision [" + revision + "]", e );
+		}
+		finally {
+			session.clear();
+		}
+
+		if ( auditSnapshotCache != null ) {
+			for ( int i = 0; i < capturedRevision.changedEntityNames.size(); i++ ) {
+				auditSnapshotCache.invalidate(
+						capturedRevision.changedEntityNames.get( i ),
+						capturedRevision.changedEntityIds.get( i ),
+						(SharedSessionContractImplementor) session
+				);
+			}
+		}
+	}
+
+	/**
+	 * The audit data of a transaction, stored in the outbox table until it has been written
+	 */
+	static class CapturedRevision implements Serializable {
+		private final ArrayList<CapturedWork> works;
+		private final ArrayList<String> changedEntityNames;
+		private final ArrayList<Object> changedEntityIds;
+
+		/**
+		 * @param works The captured work units, in the order they are to be performed.
+		 * @param changedEntityNames The names of the entities the revision is written for.
+		 * @param changedEntityIds The ids of the entities the revision is written for.
+		 */
+		CapturedRevision(
+				ArrayList<CapturedWork> works,
+				ArrayList<String> changedEntityNames,
+				ArrayList<Object> changedEntityIds) {
+			this.works = works;
+			this.changedEntityNames = changedEntityNames;
+			this.changedEntityIds = changedEntityIds;
+		}
+	}
+}
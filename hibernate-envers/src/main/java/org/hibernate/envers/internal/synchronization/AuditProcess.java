@@ -6,8 +6,10 @@
  */
 package org.hibernate.envers.internal.synchronization;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 
@@ -18,8 +20,13 @@ import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoGenerator;
 import org.hibernate.envers.internal.synchronization.work.AuditWorkUnit;
+import org.hibernate.envers.internal.synchronization.work.CapturedWork;
+import org.hibernate.envers.internal.synchronization.work.PersistentCollectionChangeWorkUnit;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy.RevisionEndUpdates;
 import org.hibernate.envers.tools.Pair;
+import org.hibernate.internal.util.SerializationHelper;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.hibernate.type.SerializationException;
 import org.jboss.logging.Logger;
 
 /**
@@ -30,6 +37,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private static final Logger log = Logger.getLogger( AuditProcess.class );
 
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final AsyncAuditWriter asyncAuditWriter;
 	private final SessionImplementor session;
 
 	private final LinkedList<AuditWorkUnit> workUnits;
@@ -38,15 +46,33 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private final Map<Pair<String, Object>, Object[]> entityStateCache;
 	private final EntityChangeNotifier entityChangeNotifier;
 	private Object revisionData;
+	private final List<Pair<String, Object>> changedEntities;
+	private boolean writtenToOutbox;
+	private final RevisionEndUpdates revisionEndUpdates = new RevisionEndUpdates();
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
+		this( revisionInfoGenerator, null, session );
+	}
+
+	/**
+	 * @param revisionInfoGenerator The revision info generator.
+	 * @param asyncAuditWriter The writer of the audit data, if it is to be written after the transaction
+	 * completed; {@code null} otherwise.
+	 * @param session The session.
+	 */
+	public AuditProcess(
+			RevisionInfoGenerator revisionInfoGenerator,
+			AsyncAuditWriter asyncAuditWriter,
+			SessionImplementor session) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.asyncAuditWriter = asyncAuditWriter;
 		this.session = session;
 
 		workUnits = new LinkedList<>();
 		undoQueue = new LinkedList<>();
 		usedIds = new HashMap<>();
 		entityStateCache = new HashMap<>();
+		changedEntities = new ArrayList<>();
 		entityChangeNotifier = new EntityChangeNotifier( revisionInfoGenerator, session );
 	}
 
@@ -122,11 +148,89 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 		}
 
 		while ( (vwu = workUnits.poll()) != null ) {
-			vwu.perform( session, revisionData );
+			vwu.perform( session, revisionData, revisionEndUpdates );
+			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+			addChangedEntity( vwu );
+		}
+	}
+
+	/**
+	 * Writes the audit data to the outbox table, from which it is written by the {@link AsyncAuditWriter}
+	 * once the transaction committed.
+	 *
+	 * @return Whether the audit data was written to the outbox table, which it is not when it cannot be serialized.
+	 */
+	private boolean writeToOutbox(Session session) {
+		final ArrayList<CapturedWork> works = new ArrayList<>( workUnits.size() );
+		final ArrayList<String> changedEntityNames = new ArrayList<>( workUnits.size() );
+		final ArrayList<Object> changedEntityIds = new ArrayList<>( workUnits.size() );
+		for ( AuditWorkUnit vwu : workUnits ) {
+			works.add( vwu.capture() );
+			if ( isEntityChange( vwu ) ) {
+				changedEntityNames.add( vwu.getEntityName() );
+				changedEntityIds.add( vwu.getEntityId() );
+			}
+		}
+
+		final byte[] data;
+		try {
+			data = SerializationHelper.serialize(
+					new AsyncAuditWriter.CapturedRevision( works, changedEntityNames, changedEntityIds )
+			);
+		}
+		catch (SerializationException e) {
+			log.debug( "Could not serialize the audit data, writing it within the transaction instead", e );
+			return false;
+		}
+
+		// Persisting the revision data, which assigns the revision number as when writing synchronously.
+		final Object currentRevisionData = getCurrentRevisionData( session, true );
+
+		AuditWorkUnit vwu;
+
+		// First undoing any performed work units
+		while ( (vwu = undoQueue.poll()) != null ) {
+			vwu.undo( session );
+		}
+
+		while ( (vwu = workUnits.poll()) != null ) {
 			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+			addChangedEntity( vwu );
+		}
+
+		final Map<String, Object> outboxEntry = new HashMap<>();
+		outboxEntry.put( AsyncAuditWriter.OUTBOX_REVISION_PROPERTY, session.getIdentifier( currentRevisionData ) );
+		outboxEntry.put( AsyncAuditWriter.OUTBOX_DATA_PROPERTY, data );
+		session.persist( AsyncAuditWriter.OUTBOX_ENTITY_NAME, outboxEntry );
+
+		writtenToOutbox = true;
+		return true;
+	}
+
+	private void writeInSession(Session session) {
+		if ( asyncAuditWriter == null || !writeToOutbox( session ) ) {
+			executeInSession( session );
+		}
+	}
+
+	private boolean isEntityChange(AuditWorkUnit vwu) {
+		// Collection change work units are identified by the collection entries, rather than by an entity
+		return !( vwu.getEntityId() instanceof PersistentCollectionChangeWorkUnit.PersistentCollectionChangeWorkUnitId );
+	}
+
+	private void addChangedEntity(AuditWorkUnit vwu) {
+		if ( isEntityChange( vwu ) ) {
+			changedEntities.add( Pair.make( vwu.getEntityName(), vwu.getEntityId() ) );
 		}
 	}
 
+	/**
+	 * @return The names and ids of the entities a revision was written for.
+	 */
+	public List<Pair<String, Object>> getChangedEntities() {
+		return changedEntities;
+	}
+
 	public Object getCurrentRevisionData(Session session, boolean persist) {
 		// Generating the revision data if not yet generated
 		if ( revisionData == null ) {
@@ -162,8 +266,9 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 						.connectionHandlingMode( PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION )
 						.noInterceptor()
 						.openSession();
-				executeInSession( temporarySession );
+				writeInSession( temporarySession );
 				temporarySession.flush();
+				revisionEndUpdates.execute( (SessionImplementor) temporarySession );
 			}
 			finally {
 				if ( temporarySession != null ) {
@@ -172,10 +277,25 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 			}
 		}
 		else {
-			executeInSession( session );
+			writeInSession( session );
 
 			// Explicitly flushing the session, as the auto-flush may have already happened.
 			session.flush();
+
+			// The previous audit rows are ended once the new ones have been inserted.
+			revisionEndUpdates.execute( session );
+		}
+	}
+
+	/**
+	 * Notifies the writer of the audit data the transaction wrote to the outbox table.
+	 *
+	 * @param success Whether the transaction completed successfully.
+	 */
+	public void doAfterTransactionCompletion(boolean success) {
+		if ( success && writtenToOutbox ) {
+			asyncAuditWriter.signal();
 		}
+		writtenToOutbox = false;
 	}
 }
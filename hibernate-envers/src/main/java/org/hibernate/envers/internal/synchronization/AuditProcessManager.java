@@ -14,7 +14,9 @@ import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.envers.internal.reader.AuditSnapshotCache;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoGenerator;
+import org.hibernate.envers.tools.Pair;
 import org.hibernate.event.spi.EventSource;
 
 /**
@@ -23,11 +25,30 @@ import org.hibernate.event.spi.EventSource;
 public class AuditProcessManager {
 	private final Map<Transaction, AuditProcess> auditProcesses;
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final AsyncAuditWriter asyncAuditWriter;
+	private final AuditSnapshotCache auditSnapshotCache;
 
 	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator) {
+		this( revisionInfoGenerator, null, null );
+	}
+
+	public AuditProcessManager(
+			RevisionInfoGenerator revisionInfoGenerator,
+			AsyncAuditWriter asyncAuditWriter,
+			AuditSnapshotCache auditSnapshotCache) {
 		auditProcesses = new ConcurrentHashMap<>();
 
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.asyncAuditWriter = asyncAuditWriter;
+		this.auditSnapshotCache = auditSnapshotCache;
+	}
+
+	/**
+	 * @return The writer of the audit data, if the audit data is written after the transactions completed;
+	 * {@code null} otherwise.
+	 */
+	public AsyncAuditWriter getAsyncAuditWriter() {
+		return asyncAuditWriter;
 	}
 
 	public AuditProcess get(EventSource session) {
@@ -36,7 +57,7 @@ public class AuditProcessManager {
 		AuditProcess auditProcess = auditProcesses.get( transaction );
 		if ( auditProcess == null ) {
 			// No worries about registering a transaction twice - a transaction is single thread
-			auditProcess = new AuditProcess( revisionInfoGenerator, session );
+			auditProcess = new AuditProcess( revisionInfoGenerator, asyncAuditWriter, session );
 			auditProcesses.put( transaction, auditProcess );
 
 			session.getActionQueue().registerProcess(
@@ -53,7 +74,15 @@ public class AuditProcessManager {
 			session.getActionQueue().registerProcess(
 					new AfterTransactionCompletionProcess() {
 						public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
-							auditProcesses.remove( transaction );
+							final AuditProcess process = auditProcesses.remove( transaction );
+							if ( process != null ) {
+								process.doAfterTransactionCompletion( success );
+								if ( success && auditSnapshotCache != null ) {
+									for ( Pair<String, Object> entity : process.getChangedEntities() ) {
+										auditSnapshotCache.invalidate( entity.getFirst(), entity.getSecond(), session );
+									}
+								}
+							}
 						}
 					}
 			);
@@ -16,6 +16,8 @@ import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
 import org.hibernate.envers.strategy.AuditStrategy;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy.RevisionEndUpdates;
 
 /**
  * @author Adam Warski (adam at warski dot org)
@@ -61,14 +63,45 @@ public abstract class AbstractAuditWorkUnit implements AuditWorkUnit {
 	}
 
 	@Override
-	public void perform(Session session, Object revisionData) {
+	public void perform(Session session, Object revisionData, RevisionEndUpdates revisionEndUpdates) {
 		final Map<String, Object> data = generateData( revisionData );
 
-		auditStrategy.perform( session, getEntityName(), enversService, id, data, revisionData );
+		performWithStrategy( auditStrategy, session, getEntityName(), enversService, id, data, revisionData, revisionEndUpdates );
 
 		setPerformed( data );
 	}
 
+	private static void performWithStrategy(
+			AuditStrategy auditStrategy,
+			Session session,
+			String entityName,
+			EnversService enversService,
+			Object id,
+			Map<String, Object> data,
+			Object revisionData,
+			RevisionEndUpdates revisionEndUpdates) {
+		if ( auditStrategy instanceof ValidityAuditStrategy ) {
+			// the end revision updates are batched by the caller
+			( (ValidityAuditStrategy) auditStrategy ).perform(
+					session,
+					entityName,
+					enversService.getConfig(),
+					id,
+					data,
+					revisionData,
+					revisionEndUpdates
+			);
+		}
+		else {
+			auditStrategy.perform( session, entityName, enversService, id, data, revisionData );
+		}
+	}
+
+	@Override
+	public CapturedWork capture() {
+		return new CapturedEntityWork( getEntityName(), id, new HashMap<>( generateData( null ) ) );
+	}
+
 	@Override
 	public Object getEntityId() {
 		return id;
@@ -102,4 +135,41 @@ public abstract class AbstractAuditWorkUnit implements AuditWorkUnit {
 	public RevisionType getRevisionType() {
 		return revisionType;
 	}
+
+	private static class CapturedEntityWork implements CapturedWork {
+		private final String entityName;
+		private final Object id;
+		private final HashMap<String, Object> data;
+
+		private CapturedEntityWork(String entityName, Object id, HashMap<String, Object> data) {
+			this.entityName = entityName;
+			this.id = id;
+			this.data = data;
+		}
+
+		@Override
+		@SuppressWarnings({"unchecked"})
+		public void perform(
+				Session session,
+				EnversService enversService,
+				Object revisionData,
+				RevisionEndUpdates revisionEndUpdates) {
+			final Configuration configuration = enversService.getConfig();
+
+			// Setting the revision number
+			( (Map<String, Object>) data.get( configuration.getOriginalIdPropertyName() ) )
+					.put( configuration.getRevisionFieldName(), revisionData );
+
+			performWithStrategy(
+					enversService.getAuditStrategy(),
+					session,
+					entityName,
+					enversService,
+					id,
+					data,
+					revisionData,
+					revisionEndUpdates
+			);
+		}
+	}
 }
@@ -10,6 +10,7 @@ import java.util.Map;
 
 import org.hibernate.Session;
 import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy.RevisionEndUpdates;
 
 /**
  * TODO: refactor constructors into factory methods
@@ -31,11 +32,21 @@ public interface AuditWorkUnit extends WorkUnitMergeVisitor, WorkUnitMergeDispat
 	 * @param session Session, in which the work unit should be performed.
 	 * @param revisionData The current revision data, which will be used to populate the work unit with the correct
 	 * revision relation.
+	 * @param revisionEndUpdates Collects the end revision updates of the previous audit rows, executed by the
+	 * caller once the session was flushed.
 	 */
-	void perform(Session session, Object revisionData);
+	void perform(Session session, Object revisionData, RevisionEndUpdates revisionEndUpdates);
 
 	void undo(Session session);
 
+	/**
+	 * Generates the data of this work unit, so that the work unit can be stored and performed later, in another
+	 * session.  The revision relation is populated when the captured work is performed.
+	 *
+	 * @return The captured work.
+	 */
+	CapturedWork capture();
+
 	/**
 	 * @param revisionData The current revision data, which will be used to populate the work unit with the correct
 	 * revision relation.
@@ -0,0 +1,34 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization.work;
+
+import java.io.Serializable;
+
+import org.hibernate.Session;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy.RevisionEndUpdates;
+
+/**
+ * The data of an {@link AuditWorkUnit}, captured so that it can be stored and performed later, in another session.
+ *
+ * @see AuditWorkUnit#capture()
+ */
+public interface CapturedWork extends Serializable {
+	/**
+	 * Writes the captured audit data in the given session.
+	 *
+	 * @param session Session, in which the audit data should be written.
+	 * @param enversService The Envers service.
+	 * @param revisionData The revision data the audit data belongs to.
+	 * @param revisionEndUpdates Collects the end revision updates of the previous audit rows.
+	 */
+	void perform(
+			Session session,
+			EnversService enversService,
+			Object revisionData,
+			RevisionEndUpdates revisionEndUpdates);
+}
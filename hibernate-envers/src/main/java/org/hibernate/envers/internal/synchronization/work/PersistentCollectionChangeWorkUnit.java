@@ -20,6 +20,7 @@ import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy.RevisionEndUpdates;
 
 /**
  * @author Adam Warski (adam at warski dot org)
@@ -77,7 +78,7 @@ public class PersistentCollectionChangeWorkUnit extends AbstractAuditWorkUnit im
 
 	@Override
 	@SuppressWarnings({"unchecked"})
-	public void perform(Session session, Object revisionData) {
+	public void perform(Session session, Object revisionData, RevisionEndUpdates revisionEndUpdates) {
 		final Configuration configuration = enversService.getConfig();
 
 		for ( PersistentCollectionChangeData persistentCollectionChangeData : collectionChanges ) {
@@ -96,6 +97,18 @@ public class PersistentCollectionChangeWorkUnit extends AbstractAuditWorkUnit im
 		}
 	}
 
+	@Override
+	public CapturedWork capture() {
+		// the collection changes were computed when the work unit was created
+		final ArrayList<String> middleEntityNames = new ArrayList<>( collectionChanges.size() );
+		final ArrayList<HashMap<String, Object>> changesData = new ArrayList<>( collectionChanges.size() );
+		for ( PersistentCollectionChangeData persistentCollectionChangeData : collectionChanges ) {
+			middleEntityNames.add( persistentCollectionChangeData.getEntityName() );
+			changesData.add( new HashMap<>( persistentCollectionChangeData.getData() ) );
+		}
+		return new CapturedCollectionChangeWork( getEntityName(), referencingPropertyName, middleEntityNames, changesData );
+	}
+
 	public String getReferencingPropertyName() {
 		return referencingPropertyName;
 	}
@@ -241,4 +254,50 @@ public class PersistentCollectionChangeWorkUnit extends AbstractAuditWorkUnit im
 			return ownerId;
 		}
 	}
+
+	private static class CapturedCollectionChangeWork implements CapturedWork {
+		private final String entityName;
+		private final String referencingPropertyName;
+		private final ArrayList<String> middleEntityNames;
+		private final ArrayList<HashMap<String, Object>> changesData;
+
+		private CapturedCollectionChangeWork(
+				String entityName,
+				String referencingPropertyName,
+				ArrayList<String> middleEntityNames,
+				ArrayList<HashMap<String, Object>> changesData) {
+			this.entityName = entityName;
+			this.referencingPropertyName = referencingPropertyName;
+			this.middleEntityNames = middleEntityNames;
+			this.changesData = changesData;
+		}
+
+		@Override
+		@SuppressWarnings({"unchecked"})
+		public void perform(
+				Session session,
+				EnversService enversService,
+				Object revisionData,
+				RevisionEndUpdates revisionEndUpdates) {
+			final Configuration configuration = enversService.getConfig();
+
+			for ( int i = 0; i < changesData.size(); i++ ) {
+				final Map<String, Object> data = changesData.get( i );
+
+				// Setting the revision number
+				( (Map<String, Object>) data.get( configuration.getOriginalIdPropertyName() ) )
+						.put( configuration.getRevisionFieldName(), revisionData );
+
+				// the changed element is only needed by the listeners, which ran when the data was captured
+				enversService.getAuditStrategy().performCollectionChange(
+						session,
+						entityName,
+						referencingPropertyName,
+						enversService,
+						new PersistentCollectionChangeData( middleEntityNames.get( i ), data, null ),
+						revisionData
+				);
+			}
+		}
+	}
 }
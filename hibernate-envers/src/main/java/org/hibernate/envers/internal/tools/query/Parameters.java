@@ -288,6 +288,26 @@ public class Parameters {
 		expressions.add( expression.toString() );
 	}
 
+	/**
+	 * Adds an <code>EXISTS</code> restriction on the given subquery, or a <code>NOT EXISTS</code> restriction
+	 * if negated.
+	 *
+	 * @param subquery The subquery.
+	 * @param negated Positive if the subquery shall not return any rows.
+	 */
+	public void addExistsRestriction(QueryBuilder subquery, boolean negated) {
+		final StringBuilder expression = new StringBuilder();
+
+		if ( negated ) {
+			expression.append( "not " );
+		}
+		expression.append( "exists (" );
+		subquery.build( expression, localQueryParamValues );
+		expression.append( ")" );
+
+		expressions.add( expression.toString() );
+	}
+
 	/**
 	 * Add where clause with a null restriction: (left = right or (left is null and right is null))
 	 *
@@ -56,6 +56,16 @@ public class EntitiesAtRevisionQuery extends AbstractAuditQuery {
 	}
 
 	public List list() {
+		return applyProjections( listVersionsEntities(), revision );
+	}
+
+	/**
+	 * Executes the query without applying its projections.  Without projections, the result holds the
+	 * audit table entries of the entities at the revision.
+	 *
+	 * @return The result of the query.
+	 */
+	public List listVersionsEntities() {
 		/*
          * The query that we need to create:
          *   SELECT new list(e) FROM versionsReferencedEntity e
@@ -135,8 +145,7 @@ public class EntitiesAtRevisionQuery extends AbstractAuditQuery {
 		if ( params.contains( REVISION_PARAMETER ) ) {
 			query.setParameter( REVISION_PARAMETER, revision );
 		}
-		List queryResult = query.list();
-		return applyProjections( queryResult, revision );
+		return query.list();
 	}
 
 	@Override
@@ -65,6 +65,11 @@ public class DefaultAuditStrategy implements AuditStrategy {
 	 * For this implementation, a subquery is used
 	 * <p>
 	 * {@code e.revision = (SELECT max(...)  ...}
+	 * <p>
+	 * or, if {@link org.hibernate.envers.configuration.EnversSettings#AUDIT_STRATEGY_DEFAULT_NOT_EXISTS_LOOKUP}
+	 * is enabled
+	 * <p>
+	 * {@code e.revision <= :revision AND NOT EXISTS (SELECT ... WHERE e2.revision > e.revision ...}
 	 */
 	@Override
 	public void addEntityAtRevisionRestriction(
@@ -80,6 +85,22 @@ public class DefaultAuditStrategy implements AuditStrategy {
 			String alias1,
 			String alias2,
 			boolean inclusive) {
+		if ( configuration.isNotExistsRevisionLookup() ) {
+			addEntityAtRevisionNotExistsRestriction(
+					rootQueryBuilder,
+					parameters,
+					revisionProperty,
+					addAlias,
+					idData,
+					revisionPropertyPath,
+					originalIdPropertyName,
+					alias1,
+					alias2,
+					inclusive
+			);
+			return;
+		}
+
 		// create a subquery builder
 		// SELECT max(e.revision) FROM versionsReferencedEntity e2
 		QueryBuilder maxERevQb = rootQueryBuilder.newSubQueryBuilder( idData.getAuditEntityName(), alias2 );
@@ -99,6 +120,40 @@ public class DefaultAuditStrategy implements AuditStrategy {
 		parameters.addWhere( revisionProperty, addAlias, subqueryOperator, maxERevQb );
 	}
 
+	private void addEntityAtRevisionNotExistsRestriction(
+			QueryBuilder rootQueryBuilder,
+			Parameters parameters,
+			String revisionProperty,
+			boolean addAlias,
+			MiddleIdData idData,
+			String revisionPropertyPath,
+			String originalIdPropertyName,
+			String alias1,
+			String alias2,
+			boolean inclusive) {
+		// e.revision <= :revision
+		parameters.addWhereWithNamedParam( revisionProperty, addAlias, inclusive ? "<=" : "<", REVISION_PARAMETER );
+
+		// create a subquery builder for a later revision of the same entity
+		// SELECT e2.revision FROM versionsReferencedEntity e2
+		QueryBuilder laterRevQb = rootQueryBuilder.newSubQueryBuilder( idData.getAuditEntityName(), alias2 );
+		laterRevQb.addProjection( null, alias2, revisionPropertyPath, false );
+		// WHERE
+		Parameters laterRevQbParameters = laterRevQb.getRootParameters();
+		// e2.revision <= :revision
+		laterRevQbParameters.addWhereWithNamedParam( revisionPropertyPath, inclusive ? "<=" : "<", REVISION_PARAMETER );
+		// e2.revision > e.revision
+		laterRevQbParameters.addWhere( alias2, revisionPropertyPath, ">", alias1, revisionPropertyPath );
+		// e2.id_ref_ed = e.id_ref_ed
+		idData.getOriginalMapper().addIdsEqualToQuery(
+				laterRevQbParameters,
+				alias1 + "." + originalIdPropertyName, alias2 + "." + originalIdPropertyName
+		);
+
+		// NOT EXISTS (subquery)
+		parameters.addExistsRestriction( laterRevQb, true );
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -11,15 +11,21 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -42,6 +48,7 @@ import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.envers.strategy.spi.AuditStrategyContext;
 import org.hibernate.envers.strategy.spi.MappingContext;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.jdbc.Expectation;
 import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
 import org.hibernate.persister.entity.Queryable;
 import org.hibernate.persister.entity.UnionSubclassEntityPersister;
@@ -156,6 +163,30 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			final Object id,
 			final Object data,
 			final Object revision) {
+		perform( session, entityName, configuration, id, data, revision, null );
+	}
+
+	/**
+	 * Perform the persistence of audited data for regular entities, collecting the update of the
+	 * end revision of the previous audit row instead of executing it.
+	 *
+	 * @param session Session, which can be used to persist the data.
+	 * @param entityName Name of the entity, in which the audited change happens
+	 * @param configuration The audit entity configuration
+	 * @param id Id of the entity.
+	 * @param data Audit data to persist
+	 * @param revision Current revision data
+	 * @param revisionEndUpdates The updates executed once the audit data has been flushed, or {@code null}
+	 * to execute the update before the transaction completes.
+	 */
+	public void perform(
+			final Session session,
+			final String entityName,
+			final Configuration configuration,
+			final Object id,
+			final Object data,
+			final Object revision,
+			final RevisionEndUpdates revisionEndUpdates) {
 		final String auditedEntityName = configuration.getAuditEntityName( entityName );
 
 		// Save the audit data
@@ -170,47 +201,24 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
 		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
-			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
-				// Construct the update contexts
-				final List<UpdateContext> contexts = getUpdateContexts(
-						entityName,
-						auditedEntityName,
-						sessionImplementor,
-						configuration,
-						id,
-						revision
+			final PendingRevisionEndUpdate update = new PendingRevisionEndUpdate(
+					entityName,
+					auditedEntityName,
+					configuration,
+					id,
+					revision,
+					// the UPDATE may no-op if an identifier is used for the first time
+					reuseEntityIdentifier && getRevisionType( configuration, data ) == RevisionType.ADD
+			);
+			if ( revisionEndUpdates != null ) {
+				revisionEndUpdates.add( this, update );
+			}
+			else {
+				// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
+				( (EventSource) session ).getActionQueue().registerProcess(
+						sessionImplementor -> executeUpdates( sessionImplementor, Collections.singletonList( update ) )
 				);
-
-				if ( contexts.isEmpty() ) {
-					throw new AuditException(
-							String.format(
-									Locale.ENGLISH,
-									"Failed to build update contexts for entity %s and id %s",
-									auditedEntityName,
-									id
-							)
-					);
-				}
-
-				for ( UpdateContext context : contexts ) {
-					final int rows = executeUpdate( sessionImplementor, context );
-					if ( rows != 1 ) {
-						final RevisionType revisionType = getRevisionType( configuration, data );
-						if ( !reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
-							throw new AuditException(
-									String.format(
-											Locale.ENGLISH,
-											"Cannot update previous revision for entity %s and id %s (%s rows modified).",
-											auditedEntityName,
-											id,
-											rows
-									)
-							);
-						}
-					}
-				}
-			} );
+			}
 		}
 		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
@@ -452,33 +460,79 @@ public class ValidityAuditStrategy implements AuditStrategy {
 	}
 
 	/**
-	 * Executes the {@link UpdateContext} within the scope of the specified session.
+	 * Executes the revision end updates of the given changes, batching the statements
+	 * through the JDBC batch of the session.
 	 *
 	 * @param session the session
-	 * @param context the update context to be executed
-	 * @return the number of rows affected by the operation
+	 * @param updates the changes whose previous revision is to be ended
 	 */
-	private int executeUpdate(SessionImplementor session, UpdateContext context) {
-		final String sql = context.toStatementString();
-		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+	private void executeUpdates(SessionImplementor session, List<PendingRevisionEndUpdate> updates) {
+		// group the statements by their SQL, so that the statements of each table are batched together
+		final Map<String, List<UpdateContext>> contextsBySql = new LinkedHashMap<>();
+		final Map<String, RevisionEndExpectation> expectations = new HashMap<>();
+		for ( PendingRevisionEndUpdate update : updates ) {
+			final List<UpdateContext> contexts = getUpdateContexts(
+					update.entityName,
+					update.auditedEntityName,
+					session,
+					update.configuration,
+					update.id,
+					update.revision
+			);
 
-		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
-		return session.doReturningWork(
-				connection -> {
-					try {
-						int index = 1;
-						for ( QueryParameterBinding binding : context.getBindings() ) {
-							index += binding.bind( index, statement, session );
-						}
-						int result = jdbcCoordinator.getResultSetReturn().executeUpdate( statement );
-						return result;
-					}
-					finally {
-						jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
-						jdbcCoordinator.afterStatementExecution();
+			if ( contexts.isEmpty() ) {
+				throw new AuditException(
+						String.format(
+								Locale.ENGLISH,
+								"Failed to build update contexts for entity %s and id %s",
+								update.auditedEntityName,
+								update.id
+						)
+				);
+			}
+
+			for ( UpdateContext context : contexts ) {
+				final String sql = context.toStatementString();
+				final String batchKey = ( update.allowNoPreviousRevision ? "optional:" : "" ) + sql;
+				contextsBySql.computeIfAbsent( batchKey, key -> new ArrayList<>() ).add( context );
+				expectations.computeIfAbsent(
+						batchKey,
+						key -> new RevisionEndExpectation( update.auditedEntityName, update.allowNoPreviousRevision )
+				).addId( update.id );
+			}
+		}
+
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		try {
+			for ( Map.Entry<String, List<UpdateContext>> entry : contextsBySql.entrySet() ) {
+				final Batch batch = jdbcCoordinator.getBatch(
+						new BasicBatchKey(
+								ValidityAuditStrategy.class.getName() + "#" + entry.getKey(),
+								expectations.get( entry.getKey() )
+						)
+				);
+				for ( UpdateContext context : entry.getValue() ) {
+					final PreparedStatement statement = batch.getBatchStatement( context.toStatementString(), false );
+					int index = 1;
+					for ( QueryParameterBinding binding : context.getBindings() ) {
+						index += binding.bind( index, statement, session );
 					}
+					batch.addToBatch();
 				}
-		);
+			}
+			jdbcCoordinator.executeBatch();
+		}
+		catch (SQLException e) {
+			jdbcCoordinator.abortBatch();
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Could not update the revision end of audit rows"
+			);
+		}
+		catch (RuntimeException e) {
+			jdbcCoordinator.abortBatch();
+			throw e;
+		}
 	}
 
 	private List<UpdateContext> getUpdateContexts(
@@ -683,4 +737,113 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			return type.getColumnSpan( session.getSessionFactory() );
 		}
 	}
+
+	/**
+	 * The revision end update of a changed entity
+	 */
+	private static class PendingRevisionEndUpdate {
+		private final String entityName;
+		private final String auditedEntityName;
+		private final Configuration configuration;
+		private final Object id;
+		private final Object revision;
+		private final boolean allowNoPreviousRevision;
+
+		private PendingRevisionEndUpdate(
+				String entityName,
+				String auditedEntityName,
+				Configuration configuration,
+				Object id,
+				Object revision,
+				boolean allowNoPreviousRevision) {
+			this.entityName = entityName;
+			this.auditedEntityName = auditedEntityName;
+			this.configuration = configuration;
+			this.id = id;
+			this.revision = revision;
+			this.allowNoPreviousRevision = allowNoPreviousRevision;
+		}
+	}
+
+	/**
+	 * The end revision updates of the audit rows written by an audit process, executed in batches
+	 * once the new audit rows have been flushed.
+	 */
+	public static class RevisionEndUpdates {
+		private final List<PendingRevisionEndUpdate> updates = new ArrayList<>();
+		private ValidityAuditStrategy strategy;
+
+		private void add(ValidityAuditStrategy strategy, PendingRevisionEndUpdate update) {
+			this.strategy = strategy;
+			updates.add( update );
+		}
+
+		/**
+		 * Executes the collected updates.  Must be called after the audit rows they end have been flushed.
+		 *
+		 * @param session The session the audit data was written in.
+		 */
+		public void execute(SessionImplementor session) {
+			if ( updates.isEmpty() ) {
+				return;
+			}
+			try {
+				strategy.executeUpdates( session, updates );
+			}
+			finally {
+				updates.clear();
+			}
+		}
+	}
+
+	/**
+	 * Expects the update of exactly one previous audit row per statement, unless the entity
+	 * identifier may be used for the first time.  The row counts are reported in the order the
+	 * statements were added to the batch, which maps them back to the entity identifiers.
+	 */
+	private static class RevisionEndExpectation implements Expectation {
+		private final String auditedEntityName;
+		private final boolean allowNoPreviousRevision;
+		private final List<Object> ids = new ArrayList<>();
+		private int verified;
+
+		private RevisionEndExpectation(String auditedEntityName, boolean allowNoPreviousRevision) {
+			this.auditedEntityName = auditedEntityName;
+			this.allowNoPreviousRevision = allowNoPreviousRevision;
+		}
+
+		private void addId(Object id) {
+			ids.add( id );
+		}
+
+		@Override
+		public void verifyOutcome(int rowCount, PreparedStatement statement, int batchPosition, String statementSQL) {
+			final Object id = ids.get( verified++ );
+			if ( allowNoPreviousRevision || rowCount == Statement.SUCCESS_NO_INFO ) {
+				// either no row needs to be updated, or the driver does not report the row counts of batched statements
+				return;
+			}
+			if ( rowCount != 1 ) {
+				throw new AuditException(
+						String.format(
+								Locale.ENGLISH,
+								"Cannot update previous revision for entity %s and id %s (%s rows modified).",
+								auditedEntityName,
+								id,
+								rowCount
+						)
+				);
+			}
+		}
+
+		@Override
+		public int prepare(PreparedStatement statement) {
+			return 0;
+		}
+
+		@Override
+		public boolean canBeBatched() {
+			return true;
+		}
+	}
 }
@@ -0,0 +1,121 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.async;
+
+import java.util.Arrays;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests writing the audit data after the transactions completed.
+ */
+public class AsyncAuditWritingTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.ASYNC_AUDIT_WRITING, "true" );
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		em.getTransaction().begin();
+		final StrTestEntity entity = new StrTestEntity( "x" );
+		em.persist( entity );
+		id = entity.getId();
+		em.getTransaction().commit();
+
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, id ).setStr( "y" );
+		em.getTransaction().commit();
+
+		em.getTransaction().begin();
+		em.remove( em.find( StrTestEntity.class, id ) );
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		getAuditReader().awaitAuditWrites();
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, id ) );
+	}
+
+	@Test
+	public void testHistory() {
+		getAuditReader().awaitAuditWrites();
+		assertEquals( new StrTestEntity( "x", id ), getAuditReader().find( StrTestEntity.class, id, 1 ) );
+		assertEquals( new StrTestEntity( "y", id ), getAuditReader().find( StrTestEntity.class, id, 2 ) );
+		assertNull( getAuditReader().find( StrTestEntity.class, id, 3 ) );
+	}
+
+	@Test
+	public void testOutboxIsDrained() {
+		getAuditReader().awaitAuditWrites();
+		assertEquals( 0, countOutboxEntries() );
+	}
+
+	@Test
+	public void testFailedRevisionIsLeftInOutbox() {
+		// an entry which cannot be written, as its revision does not exist
+		doInJPA(
+				this::entityManagerFactory,
+				em -> {
+					em.createNativeQuery( "insert into REVOUTBOX (REV, DATA) values (1000, :data)" )
+							.setParameter( "data", new byte[] { 0 } )
+							.executeUpdate();
+				}
+		);
+
+		try {
+			getAuditReader().awaitAuditWrites();
+			fail( "Expected the revision left in the outbox table to be reported" );
+		}
+		catch (AuditException e) {
+			// expected
+		}
+		assertEquals( 1, countOutboxEntries() );
+
+		doInJPA( this::entityManagerFactory, em -> {
+			em.createNativeQuery( "delete from REVOUTBOX" ).executeUpdate();
+		} );
+		getAuditReader().awaitAuditWrites();
+	}
+
+	private int countOutboxEntries() {
+		return doInJPA(
+				this::entityManagerFactory,
+				em -> {
+					return ( (Number) em.createNativeQuery( "select count(*) from REVOUTBOX" ).getSingleResult() ).intValue();
+				}
+		);
+	}
+}
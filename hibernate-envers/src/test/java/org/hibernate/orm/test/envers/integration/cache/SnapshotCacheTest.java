@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.cache;
+
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests {@link EnversSettings#USE_SNAPSHOT_CACHE}.
+ */
+public class SnapshotCacheTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.USE_SNAPSHOT_CACHE, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+		em.getTransaction().begin();
+		final StrTestEntity entity = new StrTestEntity( "x" );
+		em.persist( entity );
+		em.getTransaction().commit();
+		id = entity.getId();
+		em.close();
+	}
+
+	@Test
+	@Priority(5)
+	public void testEntryReadFromCache() {
+		assertEquals( new StrTestEntity( "x", id ), findInNewReader( 1 ) );
+
+		// change the audit table behind the back of Envers, the cached entry is still used
+		final EntityManager em = getEntityManager();
+		em.getTransaction().begin();
+		em.createNativeQuery( "update STR_TEST_AUD set str = 'z' where id = :id" )
+				.setParameter( "id", id )
+				.executeUpdate();
+		em.getTransaction().commit();
+		em.close();
+
+		assertEquals( new StrTestEntity( "x", id ), findInNewReader( 1 ) );
+	}
+
+	@Test
+	@Priority(1)
+	public void testEntryInvalidatedByLaterRevision() {
+		// a revision not written yet resolves to the latest revision of the entity
+		assertEquals( "z", findInNewReader( 10 ).getStr() );
+
+		final EntityManager em = getEntityManager();
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, id ).setStr( "y" );
+		em.getTransaction().commit();
+		em.close();
+
+		assertEquals( new StrTestEntity( "y", id ), findInNewReader( 10 ) );
+	}
+
+	private StrTestEntity findInNewReader(int revision) {
+		final EntityManager em = getEntityManager();
+		try {
+			final AuditReader auditReader = AuditReaderFactory.get( em );
+			return auditReader.find( StrTestEntity.class, id, revision );
+		}
+		finally {
+			em.close();
+		}
+	}
+}
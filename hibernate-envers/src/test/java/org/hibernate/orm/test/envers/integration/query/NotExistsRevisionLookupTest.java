@@ -0,0 +1,111 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.query;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrIntTestEntity;
+import org.hibernate.orm.test.envers.entities.ids.MulId;
+import org.hibernate.orm.test.envers.entities.ids.MulIdTestEntity;
+import org.hibernate.orm.test.envers.tools.TestTools;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests entity at revision queries using {@link EnversSettings#AUDIT_STRATEGY_DEFAULT_NOT_EXISTS_LOOKUP}.
+ */
+@SuppressWarnings({"unchecked"})
+public class NotExistsRevisionLookupTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id1;
+	private Integer id2;
+	private MulId mulId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrIntTestEntity.class, MulIdTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY_DEFAULT_NOT_EXISTS_LOOKUP, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrIntTestEntity site1 = new StrIntTestEntity( "a", 10 );
+		final StrIntTestEntity site2 = new StrIntTestEntity( "b", 20 );
+		em.persist( site1 );
+		em.persist( site2 );
+		mulId = new MulId( 1, 2 );
+		em.persist( new MulIdTestEntity( mulId.getId1(), mulId.getId2(), "x" ) );
+		em.getTransaction().commit();
+		id1 = site1.getId();
+		id2 = site2.getId();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrIntTestEntity.class, id1 ).setNumber( 11 );
+		em.find( MulIdTestEntity.class, mulId ).setStr1( "y" );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.remove( em.find( StrIntTestEntity.class, id2 ) );
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testFind() {
+		assertEquals( new StrIntTestEntity( "a", 10, id1 ), getAuditReader().find( StrIntTestEntity.class, id1, 1 ) );
+		assertEquals( new StrIntTestEntity( "a", 11, id1 ), getAuditReader().find( StrIntTestEntity.class, id1, 3 ) );
+		assertEquals( new StrIntTestEntity( "b", 20, id2 ), getAuditReader().find( StrIntTestEntity.class, id2, 2 ) );
+		assertNull( getAuditReader().find( StrIntTestEntity.class, id2, 3 ) );
+
+		assertEquals(
+				new MulIdTestEntity( mulId.getId1(), mulId.getId2(), "x" ),
+				getAuditReader().find( MulIdTestEntity.class, mulId, 1 )
+		);
+		assertEquals(
+				new MulIdTestEntity( mulId.getId1(), mulId.getId2(), "y" ),
+				getAuditReader().find( MulIdTestEntity.class, mulId, 2 )
+		);
+	}
+
+	@Test
+	public void testEntitiesAtRevision() {
+		final List ver2 = getAuditReader().createQuery()
+				.forEntitiesAtRevision( StrIntTestEntity.class, 2 )
+				.getResultList();
+		assertEquals(
+				TestTools.makeSet( new StrIntTestEntity( "a", 11, id1 ), new StrIntTestEntity( "b", 20, id2 ) ),
+				new HashSet( ver2 )
+		);
+
+		final List ver3 = getAuditReader().createQuery()
+				.forEntitiesAtRevision( StrIntTestEntity.class, 3 )
+				.add( AuditEntity.property( "number" ).ge( 10 ) )
+				.getResultList();
+		assertEquals( TestTools.makeSet( new StrIntTestEntity( "a", 11, id1 ) ), new HashSet( ver3 ) );
+	}
+}
@@ -0,0 +1,261 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that the {@link ValidityAuditStrategy} batches the updates of the end revision
+ * of the previous audit rows.
+ */
+public class ValidityAuditStrategyBatchingTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 5;
+
+	private final RevisionEndUpdateCountingConnectionProvider connectionProvider =
+			new RevisionEndUpdateCountingConnectionProvider();
+
+	private final List<Integer> ids = new ArrayList<>();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		options.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final StrTestEntity entity = new StrTestEntity( "x" );
+			em.persist( entity );
+			ids.add( entity.getId() );
+		}
+		em.getTransaction().commit();
+		em.close();
+	}
+
+	@Test
+	@Priority(9)
+	public void testUpdatesAreBatched() {
+		updateAll( "a", 2 );
+
+		assertEquals( ENTITY_COUNT, connectionProvider.addedToBatch );
+		assertEquals( 3, connectionProvider.executedBatches );
+		assertEquals( 0, connectionProvider.executedUpdates );
+		assertEndRevisions( 2 );
+	}
+
+	@Test
+	@Priority(8)
+	public void testBatchSize() {
+		updateAll( "b", ENTITY_COUNT );
+
+		assertEquals( ENTITY_COUNT, connectionProvider.addedToBatch );
+		assertEquals( 1, connectionProvider.executedBatches );
+		assertEndRevisions( 3 );
+
+		// without batching, every update is executed on its own
+		updateAll( "c", 1 );
+
+		assertEquals( 0, connectionProvider.addedToBatch );
+		assertEquals( 0, connectionProvider.executedBatches );
+		assertEquals( ENTITY_COUNT, connectionProvider.executedUpdates );
+		assertEndRevisions( 4 );
+	}
+
+	@Test
+	@Priority(7)
+	public void testUnexpectedRowCountNamesTheEntity() {
+		final Integer id = ids.get( 2 );
+
+		// ending the current audit row, so that the next change finds no row to end
+		EntityManager em = getEntityManager();
+		em.getTransaction().begin();
+		em.createNativeQuery( "update STR_TEST_AUD set REVEND = REV where id = :id and REVEND is null" )
+				.setParameter( "id", id )
+				.executeUpdate();
+		em.getTransaction().commit();
+		em.close();
+
+		em = getEntityManager();
+		em.unwrap( Session.class ).setJdbcBatchSize( 2 );
+		em.getTransaction().begin();
+		for ( Integer each : ids ) {
+			em.find( StrTestEntity.class, each ).setStr( "d" );
+		}
+		try {
+			em.getTransaction().commit();
+			fail( "Expected the update of the previous revision to fail" );
+		}
+		catch (RuntimeException e) {
+			final AuditException auditException = findAuditException( e );
+			assertTrue(
+					auditException.getMessage(),
+					auditException.getMessage().contains( "and id " + id + " (0 rows modified)" )
+			);
+		}
+		finally {
+			if ( em.getTransaction().isActive() ) {
+				em.getTransaction().rollback();
+			}
+			em.close();
+		}
+	}
+
+	private void updateAll(String str, int batchSize) {
+		final EntityManager em = getEntityManager();
+		em.unwrap( Session.class ).setJdbcBatchSize( batchSize );
+		em.getTransaction().begin();
+		for ( Integer id : ids ) {
+			em.find( StrTestEntity.class, id ).setStr( str );
+		}
+		connectionProvider.reset();
+		em.getTransaction().commit();
+		em.close();
+	}
+
+	private void assertEndRevisions(int revision) {
+		for ( Integer id : ids ) {
+			final List<Number> revisions = new ArrayList<>();
+			for ( int i = 1; i <= revision; i++ ) {
+				revisions.add( i );
+			}
+			assertEquals( revisions, getAuditReader().getRevisions( StrTestEntity.class, id ) );
+		}
+
+		final EntityManager em = getEntityManager();
+		final Number current = (Number) em.createNativeQuery( "select count(*) from STR_TEST_AUD where REVEND is null" )
+				.getSingleResult();
+		final Number ended = (Number) em.createNativeQuery( "select count(*) from STR_TEST_AUD where REVEND = REV + 1" )
+				.getSingleResult();
+		em.close();
+
+		assertEquals( ENTITY_COUNT, current.intValue() );
+		assertEquals( ENTITY_COUNT * ( revision - 1 ), ended.intValue() );
+	}
+
+	private static AuditException findAuditException(Throwable throwable) {
+		Throwable cause = throwable;
+		while ( cause != null ) {
+			if ( cause instanceof AuditException ) {
+				return (AuditException) cause;
+			}
+			cause = cause.getCause();
+		}
+		throw new AssertionError( "Expected an AuditException, but was: " + throwable, throwable );
+	}
+
+	/**
+	 * Counts how the statements updating the end revision of {@code STR_TEST_AUD} rows are executed
+	 */
+	private static class RevisionEndUpdateCountingConnectionProvider extends ConnectionProviderDelegate {
+		private final Map<Connection, Connection> connections = new ConcurrentHashMap<>();
+
+		private volatile int addedToBatch;
+		private volatile int executedBatches;
+		private volatile int executedUpdates;
+
+		private void reset() {
+			addedToBatch = 0;
+			executedBatches = 0;
+			executedUpdates = 0;
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			final Connection connection = super.getConnection();
+			final Connection proxy = proxy( Connection.class, connection, (method, args, result) -> {
+				if ( "prepareStatement".equals( method.getName() ) && isRevisionEndUpdate( (String) args[0] ) ) {
+					return proxy( PreparedStatement.class, (PreparedStatement) result, this::count );
+				}
+				return result;
+			} );
+			connections.put( proxy, connection );
+			return proxy;
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			final Connection target = connections.remove( connection );
+			super.closeConnection( target == null ? connection : target );
+		}
+
+		private Object count(Method method, Object[] args, Object result) {
+			switch ( method.getName() ) {
+				case "addBatch":
+					addedToBatch++;
+					break;
+				case "executeBatch":
+					executedBatches++;
+					break;
+				case "executeUpdate":
+					executedUpdates++;
+					break;
+				default:
+			}
+			return result;
+		}
+
+		private static boolean isRevisionEndUpdate(String sql) {
+			return sql.toLowerCase( Locale.ROOT ).contains( "update str_test_aud " );
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T> T proxy(Class<T> type, T target, InvocationListener listener) {
+			return (T) Proxy.newProxyInstance(
+					ValidityAuditStrategyBatchingTest.class.getClassLoader(),
+					new Class<?>[] { type },
+					(proxy, method, args) -> {
+						try {
+							return listener.invoked( method, args, method.invoke( target, args ) );
+						}
+						catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					}
+			);
+		}
+	}
+
+	private interface InvocationListener {
+		Object invoked(Method method, Object[] args, Object result);
+	}
+}
@@ -0,0 +1,350 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.lang.NonNullApi;
+import io.micrometer.core.lang.NonNullFields;
+import io.micrometer.core.lang.Nullable;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.SessionEventListener;
+import org.hibernate.SessionFactory;
+
+/**
+ * A {@link MeterBinder} implementation that provides timers for the phases of
+ * Session work, as reported to {@link org.hibernate.SessionEventListener}: JDBC
+ * connection handling, statement preparation and execution, flushes, second-level
+ * cache access and dirty checking.
+ * <p>
+ * Unlike {@link HibernateMetrics}, these timers do not require statistics to be enabled.
+ * When hibernate-micrometer is on the classpath, they are registered automatically
+ * against the registry configured through {@link #METER_REGISTRY}, or else against
+ * {@link io.micrometer.core.instrument.Metrics#globalRegistry}; see {@link #AUTO_REGISTER}.
+ * The same instance may be bound to several registries, each of which then records
+ * every timing.
+ */
+@NonNullApi
+@NonNullFields
+public class HibernateSessionMetrics implements MeterBinder {
+
+	/**
+	 * Setting to disable the automatic registration of the session metrics.
+	 * Default is {@code true}
+	 */
+	public static final String AUTO_REGISTER = "hibernate.micrometer.session_metrics";
+
+	/**
+	 * Setting holding the {@link MeterRegistry} instance the session metrics are registered
+	 * against when the SessionFactory is built.  Default is
+	 * {@link io.micrometer.core.instrument.Metrics#globalRegistry}
+	 */
+	public static final String METER_REGISTRY = "hibernate.micrometer.session_metrics.registry";
+
+	private static final Timers[] NO_TIMERS = new Timers[0];
+
+	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
+
+	private final SessionFactory sessionFactory;
+	private final Iterable<Tag> tags;
+
+	private final Supplier<SessionEventListener> listenerSupplier = () -> new MetricsSessionEventListener( this );
+
+	// the timers of each registry bound to, replaced on change so that recording needs no lock
+	private volatile Timers[] timers = NO_TIMERS;
+
+	/**
+	 * Create {@code HibernateSessionMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			String... tags) {
+		monitor( registry, sessionFactory, sessionFactoryName, Tags.of( tags ) );
+	}
+
+	/**
+	 * Create {@code HibernateSessionMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			Iterable<Tag> tags) {
+		new HibernateSessionMetrics( sessionFactory, sessionFactoryName, tags ).bindTo( registry );
+	}
+
+	/**
+	 * Create a {@code HibernateSessionMetrics}.
+	 *
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public HibernateSessionMetrics(SessionFactory sessionFactory, String sessionFactoryName, Iterable<Tag> tags) {
+		this.sessionFactory = sessionFactory;
+		this.tags = Tags.concat( tags, SESSION_FACTORY_TAG_NAME, sessionFactoryName );
+	}
+
+	@Override
+	public synchronized void bindTo(MeterRegistry registry) {
+		final Timers[] current = timers;
+		for ( Timers bound : current ) {
+			if ( bound.registry == registry ) {
+				return;
+			}
+		}
+
+		final Timers[] updated = Arrays.copyOf( current, current.length + 1 );
+		updated[current.length] = new Timers( registry, tags );
+		timers = updated;
+		if ( current.length == 0 ) {
+			sessionFactory.getSessionFactoryOptions()
+					.getBaselineSessionEventsListenerBuilder()
+					.addListenerSupplier( listenerSupplier );
+		}
+	}
+
+	/**
+	 * Stop recording, and remove the timers from all the registries this was bound to.
+	 */
+	public synchronized void close() {
+		sessionFactory.getSessionFactoryOptions()
+				.getBaselineSessionEventsListenerBuilder()
+				.removeListenerSupplier( listenerSupplier );
+		final Timers[] current = timers;
+		timers = NO_TIMERS;
+		for ( Timers bound : current ) {
+			bound.remove();
+		}
+	}
+
+	/**
+	 * The timers, resolved once per registry so that recording is a plain
+	 * {@link Timer#record} call.
+	 */
+	private static class Timers {
+		private final MeterRegistry registry;
+		private final Timer connectionAcquisition;
+		private final Timer connectionRelease;
+		private final Timer statementPrepare;
+		private final Timer statementExecute;
+		private final Timer batchExecute;
+		private final Timer flush;
+		private final Timer partialFlush;
+		private final Timer cachePut;
+		private final Timer cacheGetHit;
+		private final Timer cacheGetMiss;
+		private final Timer dirtyCheck;
+
+		private Timers(MeterRegistry registry, Iterable<Tag> tags) {
+			this.registry = registry;
+			connectionAcquisition = timer( registry, tags, "hibernate.session.jdbc.connection",
+					"Time spent acquiring JDBC connections", "operation", "acquire" );
+			connectionRelease = timer( registry, tags, "hibernate.session.jdbc.connection",
+					"Time spent releasing JDBC connections", "operation", "release" );
+			statementPrepare = timer( registry, tags, "hibernate.session.jdbc.statement",
+					"Time spent preparing JDBC statements", "operation", "prepare" );
+			statementExecute = timer( registry, tags, "hibernate.session.jdbc.statement",
+					"Time spent executing JDBC statements", "operation", "execute" );
+			batchExecute = timer( registry, tags, "hibernate.session.jdbc.statement",
+					"Time spent executing JDBC batches", "operation", "batch" );
+			flush = timer( registry, tags, "hibernate.session.flush",
+					"Time spent flushing", "type", "full" );
+			partialFlush = timer( registry, tags, "hibernate.session.flush",
+					"Time spent flushing", "type", "partial" );
+			cachePut = timer( registry, tags, "hibernate.session.cache",
+					"Time spent accessing the second level cache", "operation", "put", "result", "none" );
+			cacheGetHit = timer( registry, tags, "hibernate.session.cache",
+					"Time spent accessing the second level cache", "operation", "get", "result", "hit" );
+			cacheGetMiss = timer( registry, tags, "hibernate.session.cache",
+					"Time spent accessing the second level cache", "operation", "get", "result", "miss" );
+			dirtyCheck = timer( registry, tags, "hibernate.session.dirty.check",
+					"Time spent on dirty checking" );
+		}
+
+		private void remove() {
+			for ( Timer timer : new Timer[] {
+					connectionAcquisition, connectionRelease, statementPrepare, statementExecute, batchExecute,
+					flush, partialFlush, cachePut, cacheGetHit, cacheGetMiss, dirtyCheck
+			} ) {
+				registry.remove( timer );
+			}
+		}
+
+		private static Timer timer(
+				MeterRegistry registry,
+				Iterable<Tag> tags,
+				String name,
+				String description,
+				String... extraTags) {
+			return Timer.builder( name )
+					.tags( tags )
+					.tags( extraTags )
+					.description( description )
+					.register( registry );
+		}
+	}
+
+	/**
+	 * Per-Session listener, so the start times need no synchronization.  The metrics
+	 * are not serializable; a deserialized Session simply stops recording.
+	 */
+	private static class MetricsSessionEventListener extends BaseSessionEventListener {
+		@Nullable
+		private final transient HibernateSessionMetrics metrics;
+
+		private long connectionAcquisitionStart;
+		private long connectionReleaseStart;
+		private long prepareStatementStart;
+		private long executeStatementStart;
+		private long executeBatchStart;
+		private long flushStart;
+		private long partialFlushStart;
+		private long cachePutStart;
+		private long cacheGetStart;
+		private long dirtyCalculationStart;
+
+		private MetricsSessionEventListener(HibernateSessionMetrics metrics) {
+			this.metrics = metrics;
+		}
+
+		private void record(Function<Timers, Timer> timer, long start) {
+			if ( metrics == null ) {
+				return;
+			}
+			final Timers[] bound = metrics.timers;
+			if ( bound.length == 0 ) {
+				return;
+			}
+			final long duration = System.nanoTime() - start;
+			for ( Timers timers : bound ) {
+				timer.apply( timers ).record( duration, TimeUnit.NANOSECONDS );
+			}
+		}
+
+		@Override
+		public void jdbcConnectionAcquisitionStart() {
+			connectionAcquisitionStart = System.nanoTime();
+		}
+
+		@Override
+		public void jdbcConnectionAcquisitionEnd() {
+			record( timers -> timers.connectionAcquisition, connectionAcquisitionStart );
+		}
+
+		@Override
+		public void jdbcConnectionReleaseStart() {
+			connectionReleaseStart = System.nanoTime();
+		}
+
+		@Override
+		public void jdbcConnectionReleaseEnd() {
+			record( timers -> timers.connectionRelease, connectionReleaseStart );
+		}
+
+		@Override
+		public void jdbcPrepareStatementStart() {
+			prepareStatementStart = System.nanoTime();
+		}
+
+		@Override
+		public void jdbcPrepareStatementEnd() {
+			record( timers -> timers.statementPrepare, prepareStatementStart );
+		}
+
+		@Override
+		public void jdbcExecuteStatementStart() {
+			executeStatementStart = System.nanoTime();
+		}
+
+		@Override
+		public void jdbcExecuteStatementEnd() {
+			record( timers -> timers.statementExecute, executeStatementStart );
+		}
+
+		@Override
+		public void jdbcExecuteBatchStart() {
+			executeBatchStart = System.nanoTime();
+		}
+
+		@Override
+		public void jdbcExecuteBatchEnd() {
+			record( timers -> timers.batchExecute, executeBatchStart );
+		}
+
+		@Override
+		public void cachePutStart() {
+			cachePutStart = System.nanoTime();
+		}
+
+		@Override
+		public void cachePutEnd() {
+			record( timers -> timers.cachePut, cachePutStart );
+		}
+
+		@Override
+		public void cacheGetStart() {
+			cacheGetStart = System.nanoTime();
+		}
+
+		@Override
+		public void cacheGetEnd(boolean hit) {
+			record( hit ? timers -> timers.cacheGetHit : timers -> timers.cacheGetMiss, cacheGetStart );
+		}
+
+		@Override
+		public void flushStart() {
+			flushStart = System.nanoTime();
+		}
+
+		@Override
+		public void flushEnd(int numberOfEntities, int numberOfCollections) {
+			record( timers -> timers.flush, flushStart );
+		}
+
+		@Override
+		public void partialFlushStart() {
+			partialFlushStart = System.nanoTime();
+		}
+
+		@Override
+		public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+			record( timers -> timers.partialFlush, partialFlushStart );
+		}
+
+		@Override
+		public void dirtyCalculationStart() {
+			dirtyCalculationStart = System.nanoTime();
+		}
+
+		@Override
+		public void dirtyCalculationEnd(boolean dirty) {
+			record( timers -> timers.dirtyCheck, dirtyCalculationStart );
+		}
+	}
+}
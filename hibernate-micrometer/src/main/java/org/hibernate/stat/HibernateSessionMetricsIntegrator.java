@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Registers {@link HibernateSessionMetrics} against the registry configured through
+ * {@link HibernateSessionMetrics#METER_REGISTRY}, or the Micrometer global registry,
+ * and removes them again when the SessionFactory is closed.  The registration is
+ * disabled through {@link HibernateSessionMetrics#AUTO_REGISTER}.
+ */
+public class HibernateSessionMetricsIntegrator implements Integrator {
+
+	private static final String DEFAULT_SESSION_FACTORY_NAME = "default";
+
+	private final Map<SessionFactoryImplementor, HibernateSessionMetrics> sessionMetrics = new ConcurrentHashMap<>();
+
+	@Override
+	public void integrate(
+			Metadata metadata,
+			BootstrapContext bootstrapContext,
+			SessionFactoryImplementor sessionFactory) {
+		final ConfigurationService configurationService = sessionFactory.getServiceRegistry()
+				.getService( ConfigurationService.class );
+		if ( !configurationService.getSetting( HibernateSessionMetrics.AUTO_REGISTER, StandardConverters.BOOLEAN, true ) ) {
+			return;
+		}
+
+		Object registry = configurationService.getSettings().get( HibernateSessionMetrics.METER_REGISTRY );
+		if ( registry == null ) {
+			registry = Metrics.globalRegistry;
+		}
+		else if ( !( registry instanceof MeterRegistry ) ) {
+			throw new HibernateException(
+					"Setting [" + HibernateSessionMetrics.METER_REGISTRY + "] must hold a "
+							+ MeterRegistry.class.getName() + " instance, but was: " + registry
+			);
+		}
+
+		final String name = sessionFactory.getName();
+		final HibernateSessionMetrics metrics = new HibernateSessionMetrics(
+				sessionFactory,
+				name == null ? DEFAULT_SESSION_FACTORY_NAME : name,
+				Tags.empty()
+		);
+		metrics.bindTo( (MeterRegistry) registry );
+		sessionMetrics.put( sessionFactory, metrics );
+	}
+
+	@Override
+	public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+		final HibernateSessionMetrics metrics = sessionMetrics.remove( sessionFactory );
+		if ( metrics != null ) {
+			metrics.close();
+		}
+	}
+}
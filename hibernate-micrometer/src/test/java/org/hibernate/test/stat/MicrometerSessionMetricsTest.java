@@ -0,0 +1,116 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stat;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.stat.HibernateSessionMetrics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link HibernateSessionMetrics}
+ */
+public class MicrometerSessionMetricsTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class, AccountId.class };
+	}
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private HibernateSessionMetrics metrics;
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "false" );
+	}
+
+	@Before
+	public void setUpMetrics() {
+		metrics = new HibernateSessionMetrics( sessionFactory(), "something", Tags.empty() );
+		metrics.bindTo( registry );
+	}
+
+	@After
+	public void cleanUpMetrics() {
+		metrics.close();
+		assertTrue( registry.getMeters().isEmpty() );
+	}
+
+	@Test
+	public void testSessionPhaseTimers() {
+		assertEquals( 0, registry.get( "hibernate.session.flush" ).tags( "type", "full" ).timer().count() );
+
+		Session session = openSession();
+		session.beginTransaction();
+		Account account = new Account( new AccountId( 1 ), "testAcct" );
+		session.save( account );
+		session.getTransaction().commit();
+		session.close();
+
+		assertEquals( 1, registry.get( "hibernate.session.flush" ).tags( "type", "full" ).timer().count() );
+		assertTrue( registry.get( "hibernate.session.jdbc.connection" ).tags( "operation", "acquire" ).timer().count() > 0 );
+		assertTrue( registry.get( "hibernate.session.jdbc.statement" ).tags( "operation", "prepare" ).timer().count() > 0 );
+
+		session = openSession();
+		session.beginTransaction();
+		session.delete( session.get( Account.class, account.getAccountId() ) );
+		session.getTransaction().commit();
+		session.close();
+
+		assertEquals( 2, registry.get( "hibernate.session.flush" ).tags( "type", "full" ).timer().count() );
+		assertTrue( registry.get( "hibernate.session.jdbc.statement" ).tags( "operation", "execute" ).timer().count() > 0 );
+	}
+
+	@Test
+	public void testRegisteredAgainstGlobalRegistryByDefault() {
+		// no registry is configured, so the integrator falls back to the global one
+		assertFalse( Metrics.globalRegistry.find( "hibernate.session.flush" ).timers().isEmpty() );
+	}
+
+	@Test
+	public void testEveryBoundRegistryRecords() {
+		final SimpleMeterRegistry other = new SimpleMeterRegistry();
+		metrics.bindTo( other );
+
+		Session session = openSession();
+		session.beginTransaction();
+		session.save( new Account( new AccountId( 2 ), "otherAcct" ) );
+		session.getTransaction().commit();
+		session.close();
+
+		assertEquals( 1, registry.get( "hibernate.session.flush" ).tags( "type", "full" ).timer().count() );
+		assertEquals( 1, other.get( "hibernate.session.flush" ).tags( "type", "full" ).timer().count() );
+
+		metrics.close();
+		assertTrue( other.getMeters().isEmpty() );
+
+		session = openSession();
+		session.beginTransaction();
+		session.delete( session.get( Account.class, new AccountId( 2 ) ) );
+		session.getTransaction().commit();
+		session.close();
+
+		assertTrue( other.getMeters().isEmpty() );
+	}
+}
@@ -17,6 +17,7 @@ package org.hibernate.spatial;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.query.sqm.function.NamedSqmFunctionDescriptor;
@@ -30,6 +31,17 @@ public class BaseSqmFunctionDescriptors implements KeyedSqmFunctionDescriptors {
 	protected final Map<FunctionKey, SqmFunctionDescriptor> map = new HashMap<>();
 
 	public BaseSqmFunctionDescriptors(FunctionContributions functionContributions) {
+		this( functionContributions, Collections.emptySet() );
+	}
+
+	/**
+	 * @param boundingBoxFiltered The spatial relation functions to precede with the
+	 * {@linkplain #getBoundingBoxFilter() bounding box filter} of the database.
+	 */
+	public BaseSqmFunctionDescriptors(
+			FunctionContributions functionContributions,
+			Set<CommonSpatialFunction> boundingBoxFiltered) {
+		final BoundingBoxFilter boundingBoxFilter = getBoundingBoxFilter();
 		final BasicTypeRegistry basicTypeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
 		for ( CommonSpatialFunction func : filter( CommonSpatialFunction.values() ) ) {
 			final FunctionReturnTypeResolver returnTypeResolver;
@@ -41,18 +53,39 @@ public class BaseSqmFunctionDescriptors implements KeyedSqmFunctionDescriptors {
 						basicTypeRegistry.resolve( func.getReturnType() )
 				);
 			}
-			map.put(
-					func.getKey(),
-					new NamedSqmFunctionDescriptor(
-							func.getKey().getName(),
-							true,
-							StandardArgumentsValidators.exactly( func.getNumArgs() ),
-							returnTypeResolver
-					)
-			);
+			if ( boundingBoxFilter != null && boundingBoxFiltered.contains( func ) ) {
+				map.put(
+						func.getKey(),
+						new BoundingBoxFilteredFunctionDescriptor(
+								func.getKey().getName(),
+								StandardArgumentsValidators.exactly( func.getNumArgs() ),
+								returnTypeResolver,
+								boundingBoxFilter
+						)
+				);
+			}
+			else {
+				map.put(
+						func.getKey(),
+						new NamedSqmFunctionDescriptor(
+								func.getKey().getName(),
+								true,
+								StandardArgumentsValidators.exactly( func.getNumArgs() ),
+								returnTypeResolver
+						)
+				);
+			}
 		}
 	}
 
+	/**
+	 * The filter on intersecting bounding boxes that uses the spatial index of the database,
+	 * or {@code null} if no such filter is known.
+	 */
+	public BoundingBoxFilter getBoundingBoxFilter() {
+		return null;
+	}
+
 	public CommonSpatialFunction[] filter(CommonSpatialFunction[] functions) {
 		return functions;
 	}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+package org.hibernate.spatial;
+
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+
+/**
+ * Renders the index-aware test whether the bounding boxes of two geometries intersect.
+ *
+ * @see HibernateSpatialConfigurationSettings#BOUNDING_BOX_PREFILTER
+ */
+@FunctionalInterface
+public interface BoundingBoxFilter {
+
+	void render(
+			SqlAppender sqlAppender,
+			SqlAstNode geometry1,
+			SqlAstNode geometry2,
+			SqlAstTranslator<?> translator);
+
+	/**
+	 * A filter rendered as binary operator, e.g. {@code geom1 && geom2}
+	 */
+	static BoundingBoxFilter operator(String operator) {
+		return (sqlAppender, geometry1, geometry2, translator) -> {
+			geometry1.accept( translator );
+			sqlAppender.appendSql( ' ' );
+			sqlAppender.appendSql( operator );
+			sqlAppender.appendSql( ' ' );
+			geometry2.accept( translator );
+		};
+	}
+
+	/**
+	 * A filter rendered as function call, e.g. {@code MBRIntersects(geom1, geom2)}
+	 */
+	static BoundingBoxFilter function(String functionName) {
+		return (sqlAppender, geometry1, geometry2, translator) -> {
+			sqlAppender.appendSql( functionName );
+			sqlAppender.appendSql( '(' );
+			geometry1.accept( translator );
+			sqlAppender.appendSql( ',' );
+			geometry2.accept( translator );
+			sqlAppender.appendSql( ')' );
+		};
+	}
+}
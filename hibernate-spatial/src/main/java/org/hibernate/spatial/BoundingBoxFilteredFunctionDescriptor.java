@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+package org.hibernate.spatial;
+
+import java.util.List;
+
+import org.hibernate.query.sqm.function.NamedSqmFunctionDescriptor;
+import org.hibernate.query.sqm.produce.function.ArgumentsValidator;
+import org.hibernate.query.sqm.produce.function.FunctionReturnTypeResolver;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.sql.ast.tree.predicate.Predicate;
+
+/**
+ * A spatial relation function which is rendered preceded by a {@link BoundingBoxFilter} on its two
+ * arguments, e.g. {@code (geom1 && geom2 and st_intersects(geom1, geom2))}.
+ *
+ * @see HibernateSpatialConfigurationSettings#BOUNDING_BOX_PREFILTER
+ */
+public class BoundingBoxFilteredFunctionDescriptor extends NamedSqmFunctionDescriptor {
+
+	private final BoundingBoxFilter boundingBoxFilter;
+
+	public BoundingBoxFilteredFunctionDescriptor(
+			String functionName,
+			ArgumentsValidator argumentsValidator,
+			FunctionReturnTypeResolver returnTypeResolver,
+			BoundingBoxFilter boundingBoxFilter) {
+		super( functionName, true, argumentsValidator, returnTypeResolver );
+		this.boundingBoxFilter = boundingBoxFilter;
+	}
+
+	@Override
+	public void render(
+			SqlAppender sqlAppender,
+			List<SqlAstNode> sqlAstArguments,
+			Predicate filter,
+			SqlAstTranslator<?> translator) {
+		sqlAppender.appendSql( '(' );
+		boundingBoxFilter.render( sqlAppender, sqlAstArguments.get( 0 ), sqlAstArguments.get( 1 ), translator );
+		sqlAppender.appendSql( " and " );
+		super.render( sqlAppender, sqlAstArguments, filter, translator );
+		sqlAppender.appendSql( ')' );
+	}
+}
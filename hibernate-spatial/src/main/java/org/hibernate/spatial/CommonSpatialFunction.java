@@ -114,6 +114,25 @@ public enum CommonSpatialFunction {
 		return numArgs;
 	}
 
+	/**
+	 * Whether the function only holds for geometries with intersecting bounding boxes, so that it can be
+	 * preceded by a bounding box filter.
+	 */
+	public boolean impliesBoundingBoxIntersection() {
+		switch ( this ) {
+			case ST_CONTAINS:
+			case ST_CROSSES:
+			case ST_INTERSECTS:
+			case ST_EQUALS:
+			case ST_TOUCHES:
+			case ST_WITHIN:
+			case ST_OVERLAPS:
+				return true;
+			default:
+				return false;
+		}
+	}
+
 	public Type getType() {
 		switch ( this ) {
 			case ST_SRID:
@@ -28,6 +28,16 @@ public class HibernateSpatialConfigurationSettings implements Serializable {
 	 */
 	public static final String DB2_DEFAULT_SRID = "hibernate.spatial.db2.srid";
 
+	/**
+	 * Comma-separated list of spatial relation functions (e.g. {@code st_intersects, st_within}) which are
+	 * to be preceded by a bounding box filter, so that the exact relation is only evaluated for rows
+	 * whose bounding box intersects that of the other geometry.  The filter is rendered using the operator
+	 * or function which can use the spatial index of the database (e.g. {@code &&} on H2GIS, or
+	 * {@code MBRIntersects} on MySQL and MariaDB).  It is ignored on databases for which no such filter
+	 * is known.  By default, no function is filtered.
+	 */
+	public static final String BOUNDING_BOX_PREFILTER = "hibernate.spatial.bbox_prefilter";
+
 	private HibernateSpatialConfigurationSettings() {
 		//prevent this object from being instantiated
 	}
@@ -7,11 +7,20 @@
 
 package org.hibernate.spatial.contributor;
 
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.boot.model.TypeContributions;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.internal.util.config.ConfigurationException;
 import org.hibernate.query.sqm.function.SqmFunctionRegistry;
 import org.hibernate.service.ServiceRegistry;
+import org.hibernate.spatial.CommonSpatialFunction;
 import org.hibernate.spatial.GeolatteGeometryJavaTypeDescriptor;
+import org.hibernate.spatial.HibernateSpatialConfigurationSettings;
 import org.hibernate.spatial.JTSGeometryJavaTypeDescriptor;
 
 /**
@@ -43,6 +52,38 @@ public interface ContributorImplementor {
 
 	void contributeJdbcTypes(TypeContributions typeContributions);
 
+	/**
+	 * The spatial relation functions to precede with a bounding box filter, as configured by
+	 * {@link HibernateSpatialConfigurationSettings#BOUNDING_BOX_PREFILTER}
+	 */
+	default Set<CommonSpatialFunction> boundingBoxFilteredFunctions() {
+		final String setting = getServiceRegistry().getService( ConfigurationService.class )
+				.getSetting( HibernateSpatialConfigurationSettings.BOUNDING_BOX_PREFILTER, StandardConverters.STRING );
+		final Set<CommonSpatialFunction> functions = EnumSet.noneOf( CommonSpatialFunction.class );
+		if ( setting == null ) {
+			return functions;
+		}
+		for ( String name : setting.split( "," ) ) {
+			final String functionName = name.trim();
+			if ( functionName.isEmpty() ) {
+				continue;
+			}
+			final CommonSpatialFunction function = Arrays.stream( CommonSpatialFunction.values() )
+					.filter( f -> f.getKey().getName().equalsIgnoreCase( functionName )
+							|| f.getKey().getAltName().filter( functionName::equalsIgnoreCase ).isPresent() )
+					.findFirst()
+					.orElse( null );
+			if ( function == null || !function.impliesBoundingBoxIntersection() ) {
+				throw new ConfigurationException(
+						"Spatial function '" + functionName + "' can not be preceded by a bounding box filter ["
+								+ HibernateSpatialConfigurationSettings.BOUNDING_BOX_PREFILTER + "]"
+				);
+			}
+			functions.add( function );
+		}
+		return functions;
+	}
+
 	void contributeFunctions(FunctionContributions functionContributions);
 
 	ServiceRegistry getServiceRegistry();
@@ -31,7 +31,10 @@ public class H2GisDialectContributor implements ContributorImplementor {
 	@Override
 	public void contributeFunctions(FunctionContributions functionContributions) {
 		HSMessageLogger.LOGGER.functionContributions( this.getClass().getCanonicalName() );
-		final KeyedSqmFunctionDescriptors functions = new H2SqmFunctionDescriptors( functionContributions );
+		final KeyedSqmFunctionDescriptors functions = new H2SqmFunctionDescriptors(
+				functionContributions,
+				boundingBoxFilteredFunctions()
+		);
 		final SqmFunctionRegistry functionRegistry = functionContributions.getFunctionRegistry();
 		functions.asMap().forEach( (key, desc) -> {
 			functionRegistry.register( key.getName(), desc );
@@ -7,11 +7,27 @@
 
 package org.hibernate.spatial.dialect.h2gis;
 
+import java.util.Set;
+
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.spatial.BaseSqmFunctionDescriptors;
+import org.hibernate.spatial.BoundingBoxFilter;
+import org.hibernate.spatial.CommonSpatialFunction;
 
 public class H2SqmFunctionDescriptors extends BaseSqmFunctionDescriptors {
 	public H2SqmFunctionDescriptors(FunctionContributions contributions) {
 		super( contributions );
 	}
+
+	public H2SqmFunctionDescriptors(
+			FunctionContributions contributions,
+			Set<CommonSpatialFunction> boundingBoxFiltered) {
+		super( contributions, boundingBoxFiltered );
+	}
+
+	@Override
+	public BoundingBoxFilter getBoundingBoxFilter() {
+		// the bounding box intersection operator of H2 uses the spatial index
+		return BoundingBoxFilter.operator( "&&" );
+	}
 }
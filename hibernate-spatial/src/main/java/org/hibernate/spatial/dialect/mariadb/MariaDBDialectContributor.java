@@ -32,7 +32,10 @@ public class MariaDBDialectContributor implements ContributorImplementor {
 	@Override
 	public void contributeFunctions(FunctionContributions functionContributions) {
 		HSMessageLogger.LOGGER.functionContributions( this.getClass().getCanonicalName() );
-		final KeyedSqmFunctionDescriptors mariaDbFunctions = new MariaDBSqmFunctionDescriptors( functionContributions );
+		final KeyedSqmFunctionDescriptors mariaDbFunctions = new MariaDBSqmFunctionDescriptors(
+				functionContributions,
+				boundingBoxFilteredFunctions()
+		);
 		final SqmFunctionRegistry functionRegistry = functionContributions.getFunctionRegistry();
 		mariaDbFunctions.asMap().forEach( (key, desc) -> {
 			functionRegistry.register( key.getName(), desc );
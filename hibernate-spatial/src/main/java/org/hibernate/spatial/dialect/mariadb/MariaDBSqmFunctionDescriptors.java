@@ -8,9 +8,11 @@
 package org.hibernate.spatial.dialect.mariadb;
 
 import java.util.Arrays;
+import java.util.Set;
 
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.spatial.BaseSqmFunctionDescriptors;
+import org.hibernate.spatial.BoundingBoxFilter;
 import org.hibernate.spatial.CommonSpatialFunction;
 
 public class MariaDBSqmFunctionDescriptors extends BaseSqmFunctionDescriptors {
@@ -18,6 +20,17 @@ public class MariaDBSqmFunctionDescriptors extends BaseSqmFunctionDescriptors {
 		super( functionContributions );
 	}
 
+	public MariaDBSqmFunctionDescriptors(
+			FunctionContributions functionContributions,
+			Set<CommonSpatialFunction> boundingBoxFiltered) {
+		super( functionContributions, boundingBoxFiltered );
+	}
+
+	@Override
+	public BoundingBoxFilter getBoundingBoxFilter() {
+		return BoundingBoxFilter.function( "MBRIntersects" );
+	}
+
 	@Override
 	public CommonSpatialFunction[] filter(CommonSpatialFunction[] functions) {
 		return Arrays.stream( functions )
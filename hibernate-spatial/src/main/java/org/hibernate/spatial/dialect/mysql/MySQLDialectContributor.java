@@ -32,7 +32,10 @@ public class MySQLDialectContributor implements ContributorImplementor {
 	@Override
 	public void contributeFunctions(FunctionContributions functionContributions) {
 		HSMessageLogger.LOGGER.functionContributions( this.getClass().getCanonicalName() );
-		final KeyedSqmFunctionDescriptors mysqlFunctions = new MySqlSqmFunctionDescriptors( functionContributions );
+		final KeyedSqmFunctionDescriptors mysqlFunctions = new MySqlSqmFunctionDescriptors(
+				functionContributions,
+				boundingBoxFilteredFunctions()
+		);
 		final SqmFunctionRegistry functionRegistry = functionContributions.getFunctionRegistry();
 		mysqlFunctions.asMap().forEach( (key, desc) -> {
 			functionRegistry.register( key.getName(), desc );
@@ -15,6 +15,7 @@ import java.util.Set;
 
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.spatial.BaseSqmFunctionDescriptors;
+import org.hibernate.spatial.BoundingBoxFilter;
 import org.hibernate.spatial.CommonSpatialFunction;
 
 public class MySqlSqmFunctionDescriptors extends BaseSqmFunctionDescriptors {
@@ -26,6 +27,17 @@ public class MySqlSqmFunctionDescriptors extends BaseSqmFunctionDescriptors {
 		super( functionContributions );
 	}
 
+	public MySqlSqmFunctionDescriptors(
+			FunctionContributions functionContributions,
+			Set<CommonSpatialFunction> boundingBoxFiltered) {
+		super( functionContributions, boundingBoxFiltered );
+	}
+
+	@Override
+	public BoundingBoxFilter getBoundingBoxFilter() {
+		return BoundingBoxFilter.function( "MBRIntersects" );
+	}
+
 	@Override
 	public CommonSpatialFunction[] filter(CommonSpatialFunction[] functions) {
 		return Arrays.stream( functions )
@@ -7,6 +7,7 @@
 
 package org.hibernate.spatial.dialect.postgis;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -81,9 +82,54 @@ public class PGGeometryJdbcType implements JdbcType {
 			}
 
 		}
+		if ( object instanceof byte[] ) {
+			return toGeometry( (byte[]) object );
+		}
 		throw new IllegalStateException( "Received object of type " + object.getClass().getCanonicalName() );
 	}
 
+	/**
+	 * Decodes the bytes of a geometry value as read by {@link ResultSet#getBytes}.  These are the EWKB
+	 * itself when the value was transferred in binary format, and the text representation of the value
+	 * (hex-encoded EWKB, or EWKT) otherwise.  Hex-encoded EWKB is decoded straight from the bytes,
+	 * without creating an intermediate {@code String}.
+	 */
+	public Geometry<?> toGeometry(byte[] bytes) {
+		if ( bytes == null ) {
+			return null;
+		}
+		if ( bytes.length > 0 && ( bytes[0] == 0 || bytes[0] == 1 ) ) {
+			//we have a binary WKB because the first byte is the bit-order byte
+			return Wkb.newDecoder( wkbDialect ).decode( ByteBuffer.from( bytes ) );
+		}
+		if ( bytes.length > 1 && bytes[0] == '0' && ( bytes[1] == '0' || bytes[1] == '1' ) ) {
+			//we have a hex-encoded WKB
+			return Wkb.newDecoder( wkbDialect ).decode( ByteBuffer.from( fromHex( bytes ) ) );
+		}
+		return parseWkt( new String( bytes, StandardCharsets.US_ASCII ) );
+	}
+
+	private static byte[] fromHex(byte[] hex) {
+		final byte[] bytes = new byte[hex.length / 2];
+		for ( int i = 0; i < bytes.length; i++ ) {
+			bytes[i] = (byte) ( ( hexDigit( hex[2 * i] ) << 4 ) | hexDigit( hex[2 * i + 1] ) );
+		}
+		return bytes;
+	}
+
+	private static int hexDigit(byte b) {
+		if ( b >= '0' && b <= '9' ) {
+			return b - '0';
+		}
+		if ( b >= 'A' && b <= 'F' ) {
+			return b - 'A' + 10;
+		}
+		if ( b >= 'a' && b <= 'f' ) {
+			return b - 'a' + 10;
+		}
+		throw new IllegalArgumentException( "Invalid hex digit in WKB value: " + (char) b );
+	}
+
 	private static Geometry<?> parseWkt(String pgValue) {
 		final WktDecoder decoder = Wkt.newDecoder( Wkt.Dialect.POSTGIS_EWKT_1 );
 		return decoder.decode( pgValue );
@@ -137,7 +183,7 @@ public class PGGeometryJdbcType implements JdbcType {
 
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
-				return getJavaTypeDescriptor().wrap( toGeometry( rs.getObject( paramIndex ) ), options );
+				return getJavaTypeDescriptor().wrap( toGeometry( rs.getBytes( paramIndex ) ), options );
 			}
 
 			@Override
@@ -6,7 +6,9 @@
  */
 package org.hibernate.spatial.dialect.postgis;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.util.Locale;
 
 import org.junit.Test;
 
@@ -65,6 +67,25 @@ public class PostgisUnmarshalTest {
 		testCase( wkb, geom );
 	}
 
+	@Test
+	public void testBinaryWkb() {
+		byte[] wkb = Wkb.toWkb( geom, ByteOrder.NDR ).toByteArray();
+		assertEquals( geom, PGGeometryJdbcType.INSTANCE_WKB_1.toGeometry( wkb ) );
+	}
+
+	@Test
+	public void testTextBytes() {
+		String wkbXdr = Wkb.toWkb( geom, ByteOrder.XDR ).toString();
+		String wkbNdr = Wkb.toWkb( geom, ByteOrder.NDR ).toString();
+		testCase( wkbXdr.getBytes( StandardCharsets.US_ASCII ), geom );
+		testCase( wkbNdr.toLowerCase( Locale.ROOT ).getBytes( StandardCharsets.US_ASCII ), geom );
+		testCase( Wkt.toWkt( geom ).getBytes( StandardCharsets.US_ASCII ), geom );
+	}
+
+	public void testCase(byte[] bytes, Geometry<?> expected) {
+		Geometry<?> received = PGGeometryJdbcType.INSTANCE_WKB_1.toGeometry( bytes );
+		assertEquals( String.format( "Failure on %s", new String( bytes, StandardCharsets.US_ASCII ) ), expected, received );
+	}
 
 	public void testCase(String pgValue, Geometry<?> expected) throws SQLException {
 		PGobject pgo = new PGobject();
@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+package org.hibernate.spatial.integration.predicates;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.spatial.HibernateSpatialConfigurationSettings;
+import org.hibernate.spatial.predicate.GeolatteSpatialPredicates;
+import org.hibernate.spatial.testing.SpatialSessionFactoryAware;
+import org.hibernate.spatial.testing.domain.GeomEntity;
+import org.hibernate.spatial.testing.domain.SpatialDomainModel;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.geolatte.geom.G2D;
+import org.geolatte.geom.Geometry;
+import org.geolatte.geom.Polygon;
+
+import static org.geolatte.geom.builder.DSL.g;
+import static org.geolatte.geom.builder.DSL.polygon;
+import static org.geolatte.geom.builder.DSL.ring;
+import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link HibernateSpatialConfigurationSettings#BOUNDING_BOX_PREFILTER}.
+ */
+@DomainModel(modelDescriptorClasses = SpatialDomainModel.class)
+@ServiceRegistry(settings = {
+		@Setting(name = HibernateSpatialConfigurationSettings.BOUNDING_BOX_PREFILTER, value = "st_intersects, within")
+})
+@SessionFactory(statementInspectorClass = SQLStatementInspector.class)
+@RequiresDialect(H2Dialect.class)
+public class BoundingBoxPrefilterTest extends SpatialSessionFactoryAware {
+
+	private final Polygon<G2D> filter = polygon(
+			WGS84,
+			ring( g( 0, 0 ), g( 0, 10 ), g( 10, 10 ), g( 10, 0 ), g( 0, 0 ) )
+	);
+
+	@BeforeEach
+	public void createData() {
+		scope.inTransaction( session -> {
+			session.persist( entity( 1, "SRID=4326;POLYGON((1 1, 1 2, 2 2, 2 1, 1 1))" ) );
+			session.persist( entity( 2, "SRID=4326;POLYGON((5 5, 5 15, 15 15, 15 5, 5 5))" ) );
+			session.persist( entity( 3, "SRID=4326;POLYGON((20 20, 20 30, 30 30, 30 20, 20 20))" ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropData() {
+		scope.inTransaction( session -> session.createQuery( "delete from GeomEntity" ).executeUpdate() );
+	}
+
+	@Test
+	public void testFilteredPredicates() {
+		assertEquals( Set.of( 1, 2 ), query( GeolatteSpatialPredicates::intersects, true ) );
+		assertEquals( Set.of( 1 ), query( GeolatteSpatialPredicates::within, true ) );
+	}
+
+	@Test
+	public void testPredicateNotFiltered() {
+		assertEquals( Set.of( 3 ), query( GeolatteSpatialPredicates::disjoint, false ) );
+	}
+
+	private Set<Integer> query(Predicates predicate, boolean expectFiltered) {
+		return scope.fromSession( session -> {
+			final SQLStatementInspector inspector = SQLStatementInspector.extractFromSession( session );
+			inspector.clear();
+			final CriteriaBuilder cb = session.getCriteriaBuilder();
+			final CriteriaQuery<GeomEntity> query = cb.createQuery( GeomEntity.class );
+			final Root<GeomEntity> root = query.from( GeomEntity.class );
+			query.select( root ).where( predicate.apply( cb, root.<Geometry>get( "geom" ), filter ) );
+			final List<GeomEntity> result = session.createQuery( query ).getResultList();
+
+			final String sql = inspector.getSqlQueries().get( 0 ).toLowerCase( Locale.ROOT );
+			if ( expectFiltered ) {
+				assertTrue( sql.contains( " && " ), sql );
+			}
+			else {
+				assertFalse( sql.contains( " && " ), sql );
+			}
+			return result.stream().map( GeomEntity::getId ).collect( Collectors.toSet() );
+		} );
+	}
+
+	private static GeomEntity entity(int id, String wkt) {
+		final GeomEntity entity = new GeomEntity();
+		entity.setId( id );
+		entity.setType( "polygon" );
+		entity.setGeomFromWkt( wkt );
+		return entity;
+	}
+
+	@FunctionalInterface
+	private interface Predicates {
+		Predicate apply(CriteriaBuilder cb, Expression<Geometry> geometry, Geometry<?> filter);
+	}
+}
@@ -16,6 +16,7 @@ import org.gradle.api.tasks.SourceSetContainer;
 
 import org.hibernate.orm.tooling.gradle.enhance.EnhancementTask;
 import org.hibernate.orm.tooling.gradle.metamodel.JpaMetamodelGenerationTask;
+import org.hibernate.orm.tooling.gradle.query.NamedQueryValidationTask;
 
 /**
  * Hibernate ORM Gradle plugin
@@ -43,6 +44,7 @@ public class HibernateOrmPlugin implements Plugin<Project> {
 
 		EnhancementTask.apply( ormDsl, mainSourceSet, project );
 		JpaMetamodelGenerationTask.apply( ormDsl, mainSourceSet, project );
+		NamedQueryValidationTask.apply( ormDsl, mainSourceSet, project );
 
 		project.getDependencies().add(
 				"implementation",
@@ -28,6 +28,7 @@ public abstract class HibernateOrmSpec implements ExtensionAware {
 	private final Property<String> hibernateVersionProperty;
 	private final Property<Boolean> supportEnhancementProperty;
 	private final Property<Boolean> supportJpaMetamodelProperty;
+	private final Property<Boolean> supportNamedQueryValidationProperty;
 
 	private final EnhancementSpec enhancementDsl;
 	private final JpaMetamodelGenerationSpec jpaMetamodelDsl;
@@ -45,6 +46,9 @@ public abstract class HibernateOrmSpec implements ExtensionAware {
 		supportJpaMetamodelProperty = project.getObjects().property( Boolean.class );
 		supportJpaMetamodelProperty.convention( true );
 
+		supportNamedQueryValidationProperty = project.getObjects().property( Boolean.class );
+		supportNamedQueryValidationProperty.convention( true );
+
 		enhancementDsl = getExtensions().create( EnhancementSpec.DSL_NAME, EnhancementSpec.class, this, project );
 		jpaMetamodelDsl = getExtensions().create( JpaMetamodelGenerationSpec.DSL_NAME, JpaMetamodelGenerationSpec.class, this, project );
 	}
@@ -77,6 +81,14 @@ public abstract class HibernateOrmSpec implements ExtensionAware {
 		supportJpaMetamodelProperty.set( false );
 	}
 
+	public Property<Boolean> getSupportNamedQueryValidationProperty() {
+		return supportNamedQueryValidationProperty;
+	}
+
+	public void disableNamedQueryValidation() {
+		supportNamedQueryValidationProperty.set( false );
+	}
+
 	public EnhancementSpec getEnhancementSpec() {
 		return enhancementDsl;
 	}
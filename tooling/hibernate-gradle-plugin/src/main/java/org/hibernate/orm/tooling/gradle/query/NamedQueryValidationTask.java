@@ -0,0 +1,174 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.tooling.gradle.query;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import jakarta.inject.Inject;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.tasks.InputDirectory;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.TaskAction;
+
+import org.hibernate.HibernateException;
+import org.hibernate.orm.tooling.gradle.HibernateOrmSpec;
+import org.hibernate.query.hql.internal.HqlParseTreeBuilder;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+
+import static org.hibernate.orm.tooling.gradle.HibernateOrmSpec.HIBERNATE;
+
+/**
+ * Checks the syntax of the named HQL queries declared through {@code @NamedQuery}
+ * annotations on the project's compiled classes, so that syntax errors fail the
+ * build instead of the SessionFactory startup.  Only the syntax is checked; names
+ * of entities and attributes are still resolved at runtime.
+ */
+public class NamedQueryValidationTask extends DefaultTask {
+	public static final String DSL_NAME = "hibernateValidateNamedQueries";
+
+	private static final DotName[] NAMED_QUERIES = {
+			DotName.createSimple( "jakarta.persistence.NamedQuery" ),
+			DotName.createSimple( "org.hibernate.annotations.NamedQuery" )
+	};
+
+	private static final DotName[] NAMED_QUERY_CONTAINERS = {
+			DotName.createSimple( "jakarta.persistence.NamedQueries" ),
+			DotName.createSimple( "org.hibernate.annotations.NamedQueries" )
+	};
+
+	public static void apply(HibernateOrmSpec ormDsl, SourceSet mainSourceSet, Project project) {
+		final NamedQueryValidationTask validationTask = project.getTasks().create(
+				DSL_NAME,
+				NamedQueryValidationTask.class,
+				mainSourceSet,
+				project
+		);
+		validationTask.setGroup( HIBERNATE );
+		validationTask.setDescription( "Checks the syntax of the named HQL queries declared by the project's compiled classes" );
+		validationTask.onlyIf( (task) -> ormDsl.getSupportNamedQueryValidationProperty().get() );
+
+		final Task compileJavaTask = project.getTasks().getByName( mainSourceSet.getCompileJavaTaskName() );
+		validationTask.dependsOn( compileJavaTask );
+		project.getTasks().getByName( mainSourceSet.getClassesTaskName() ).dependsOn( validationTask );
+	}
+
+	private final DirectoryProperty javaCompileOutputDirectory;
+	private final RegularFileProperty reportFile;
+
+	@Inject
+	@SuppressWarnings( "UnstableApiUsage" )
+	public NamedQueryValidationTask(SourceSet mainSourceSet, Project project) {
+		javaCompileOutputDirectory = mainSourceSet.getJava().getDestinationDirectory();
+
+		reportFile = project.getObjects().fileProperty();
+		reportFile.set( project.getLayout().getBuildDirectory().file( "tmp/hibernateNamedQueryValidation/named-queries.txt" ) );
+	}
+
+	@InputDirectory
+	public DirectoryProperty getJavaCompileDirectory() {
+		return javaCompileOutputDirectory;
+	}
+
+	@OutputFile
+	public RegularFileProperty getReportFile() {
+		return reportFile;
+	}
+
+	@TaskAction
+	public void validateNamedQueries() {
+		final Index index = indexClasses( javaCompileOutputDirectory.get().getAsFile() );
+
+		final List<AnnotationInstance> namedQueries = new ArrayList<>();
+		for ( DotName namedQuery : NAMED_QUERIES ) {
+			namedQueries.addAll( index.getAnnotations( namedQuery ) );
+		}
+		for ( DotName container : NAMED_QUERY_CONTAINERS ) {
+			for ( AnnotationInstance containerInstance : index.getAnnotations( container ) ) {
+				final AnnotationValue value = containerInstance.value();
+				if ( value != null ) {
+					for ( AnnotationInstance nested : value.asNestedArray() ) {
+						namedQueries.add( nested );
+					}
+				}
+			}
+		}
+
+		final List<String> validated = new ArrayList<>();
+		final List<String> failed = new ArrayList<>();
+		for ( AnnotationInstance namedQuery : namedQueries ) {
+			final String name = namedQuery.value( "name" ).asString();
+			final String hql = namedQuery.value( "query" ).asString();
+			try {
+				HqlParseTreeBuilder.INSTANCE.parseHql( hql );
+				validated.add( name );
+			}
+			catch (HibernateException e) {
+				getLogger().error( "Named query [{}] : {}", name, e.getMessage() );
+				failed.add( name );
+			}
+		}
+
+		if ( !failed.isEmpty() ) {
+			throw new GradleException( "Errors in named queries: " + String.join( ", ", failed ) );
+		}
+
+		getLogger().info( "Checked {} named queries", validated.size() );
+		writeReport( validated );
+	}
+
+	private static Index indexClasses(File classesDirectory) {
+		final Indexer indexer = new Indexer();
+		if ( !classesDirectory.exists() ) {
+			return indexer.complete();
+		}
+
+		try ( Stream<Path> paths = Files.walk( classesDirectory.toPath() ) ) {
+			final List<Path> classFiles = paths.filter( (path) -> path.toString().endsWith( ".class" ) )
+					.filter( (path) -> !path.endsWith( "module-info.class" ) )
+					.collect( Collectors.toList() );
+			for ( Path classFile : classFiles ) {
+				try ( InputStream inputStream = Files.newInputStream( classFile ) ) {
+					indexer.index( inputStream );
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new GradleException( "Unable to index compiled classes in " + classesDirectory, e );
+		}
+		return indexer.complete();
+	}
+
+	private void writeReport(List<String> validated) {
+		final File file = reportFile.get().getAsFile();
+		try {
+			Files.createDirectories( file.getParentFile().toPath() );
+			Files.write( file, validated );
+		}
+		catch (IOException e) {
+			throw new GradleException( "Unable to write " + file, e );
+		}
+	}
+}
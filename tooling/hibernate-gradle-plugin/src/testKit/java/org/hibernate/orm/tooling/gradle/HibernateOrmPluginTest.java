@@ -19,7 +19,9 @@ import com.github.sebersole.testkit.ProjectScope;
 import com.github.sebersole.testkit.TestKit;
 
 import static org.hamcrest.CoreMatchers.anyOf;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 /**
@@ -72,6 +74,34 @@ class HibernateOrmPluginTest {
 		);
 	}
 
+	@Test
+	public void testNamedQueryValidation(@Project( "simple" ) ProjectScope projectScope) {
+		final GradleRunner gradleRunner = projectScope.createGradleRunner(
+				"clean",
+				"classes"
+		);
+		final BuildResult result = gradleRunner.build();
+		final BuildTask task = result.task( ":hibernateValidateNamedQueries" );
+		assert task != null;
+
+		assertThat( task.getOutcome(), is( TaskOutcome.SUCCESS ) );
+	}
+
+	@Test
+	public void testInvalidNamedQueryFailsBuild(@Project( "invalidNamedQuery" ) ProjectScope projectScope) {
+		final GradleRunner gradleRunner = projectScope.createGradleRunner(
+				"clean",
+				"classes"
+		);
+		final BuildResult result = gradleRunner.buildAndFail();
+		final BuildTask task = result.task( ":hibernateValidateNamedQueries" );
+		assert task != null;
+
+		assertThat( task.getOutcome(), is( TaskOutcome.FAILED ) );
+		assertThat( result.getOutput(), containsString( "Errors in named queries: TheEntity.broken" ) );
+		assertThat( result.getOutput(), not( containsString( "Named query [TheEntity.byName]" ) ) );
+	}
+
 	@Test
 //	@Disabled( "Problem with ClassPathAndModulePathAggregatedServiceLoader and loading Java services" )
 	public void testJpaMetamodelGen(@Project( "simple" ) ProjectScope projectScope) {
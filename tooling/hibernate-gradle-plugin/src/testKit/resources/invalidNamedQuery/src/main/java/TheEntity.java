@@ -0,0 +1,31 @@
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQueries;
+import jakarta.persistence.NamedQuery;
+
+@Entity
+@NamedQueries( {
+		@NamedQuery( name = "TheEntity.byName", query = "from TheEntity where name = :name" ),
+		@NamedQuery( name = "TheEntity.broken", query = "select from TheEntity where name = = :name" )
+} )
+public class TheEntity {
+	@Id
+	private Integer id;
+	private String name;
+
+	public Integer getId() {
+		return id;
+	}
+
+	public void setId(Integer id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+}
@@ -4,11 +4,13 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedQuery;
 import jakarta.persistence.OneToMany;
 
 import java.util.Set;
 
 @Entity
+@NamedQuery( name = "TheEntity.byName", query = "from TheEntity where name = :name" )
 public class TheEntity {
 	@Id
 	private Integer id;